@@ -0,0 +1,117 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.validation;
+
+import org.jeasy.random.EasilyRandomerParameters;
+import org.jeasy.random.api.ContextAwareRandomizer;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.api.RandomizerContext;
+import org.jeasy.random.api.RandomizerRegistry;
+import org.jeasy.random.randomizers.registry.InternalRandomizerRegistry;
+import org.jeasy.random.randomizers.registry.TimeRandomizerRegistry;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+
+/**
+ * Base class of the handlers of constraints on dates. Dates are generated by the randomizers
+ * of the internal registries, initialised with the date range of the constraint. Fields of
+ * other types are generated by the engine in which the randomizer is invoked.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+abstract class AbstractDateRangeAnnotationHandler implements BeanValidationAnnotationHandler {
+
+    private final EasilyRandomerParameters parameters;
+
+    // created at the first lookup, so that the date range is relative to the first generation
+    private volatile RandomizerRegistry[] registries;
+
+    AbstractDateRangeAnnotationHandler(final EasilyRandomerParameters parameters) {
+        this.parameters = parameters.copy();
+    }
+
+    /**
+     * Get the date range of the constraint.
+     *
+     * @param now the current date
+     * @return the range of valid dates
+     */
+    abstract EasilyRandomerParameters.Range<LocalDate> getDateRange(LocalDate now);
+
+    @Override
+    public Randomizer<?> getRandomizer(final Field field) {
+        for (RandomizerRegistry registry : getRegistries()) {
+            Randomizer<?> randomizer = registry.getRandomizer(field.getType());
+            if (randomizer != null) {
+                return randomizer;
+            }
+        }
+        return new EngineRandomizer(field);
+    }
+
+    private RandomizerRegistry[] getRegistries() {
+        RandomizerRegistry[] currentRegistries = registries;
+        if (currentRegistries == null) {
+            // concurrent first lookups may each create registries, only one set is kept
+            EasilyRandomerParameters dateRangeParameters = parameters.copy();
+            dateRangeParameters.setDateRange(getDateRange(LocalDate.now()));
+            currentRegistries = new RandomizerRegistry[] {new TimeRandomizerRegistry(), new InternalRandomizerRegistry()};
+            for (RandomizerRegistry registry : currentRegistries) {
+                registry.init(dateRangeParameters);
+            }
+            registries = currentRegistries;
+        }
+        return currentRegistries;
+    }
+
+    /**
+     * Randomizer of fields of types without date randomizer, which delegates their
+     * population to the engine in which it is invoked.
+     */
+    private static class EngineRandomizer implements ContextAwareRandomizer<Object> {
+
+        private final Field field;
+        private RandomizerContext context;
+
+        EngineRandomizer(final Field field) {
+            this.field = field;
+        }
+
+        @Override
+        public void setRandomizerContext(RandomizerContext context) {
+            this.context = context;
+        }
+
+        @Override
+        public Object getRandomValue() {
+            return getRandomValue(context);
+        }
+
+        @Override
+        public Object getRandomValue(RandomizerContext context) {
+            return context.nextObject(field);
+        }
+    }
+}
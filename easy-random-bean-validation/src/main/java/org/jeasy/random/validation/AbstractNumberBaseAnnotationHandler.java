@@ -26,12 +26,34 @@ package org.jeasy.random.validation;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.randomizers.range.*;
 import org.jeasy.random.randomizers.text.StringDelegatingRandomizer;
+import org.jeasy.random.util.BindableRandom;
 
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Negative;
+import javax.validation.constraints.NegativeOrZero;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
+import static java.lang.String.format;
+
 /**
+ * Base class of the handlers of number constraints. Whichever of these constraints is handled,
+ * the randomizer of a field is bounded by all the number constraints of the field, so that
+ * combined constraints like {@code @Min} and {@code @Max}, or {@code @Positive} and {@code @Max},
+ * are honoured by a single randomizer. Constraints whose merged bounds are empty, like
+ * {@code @Min(10)} with {@code @Max(5)}, are rejected with an {@link IllegalArgumentException}.
+ *
  * @author dadiyang
  * @since 4.3
  */
@@ -39,7 +61,56 @@ public abstract class AbstractNumberBaseAnnotationHandler implements BeanValidat
     private final Random random;
 
     AbstractNumberBaseAnnotationHandler(long seed) {
-        random = new Random(seed);
+        random = new BindableRandom(seed);
+    }
+
+    @Override
+    public Randomizer<?> getRandomizer(Field field) {
+        Map<Class<? extends Annotation>, Annotation> constraints = ConstraintDescriptor.getConstraints(field);
+        BigDecimal minValue = null;
+        BigDecimal maxValue = null;
+        List<String> bounds = new ArrayList<>();
+        for (Annotation constraint : constraints.values()) {
+            if (constraint instanceof Min) {
+                minValue = greatest(minValue, new BigDecimal(((Min) constraint).value()));
+                bounds.add("@Min(" + ((Min) constraint).value() + ")");
+            } else if (constraint instanceof DecimalMin) {
+                minValue = greatest(minValue, new BigDecimal(((DecimalMin) constraint).value()));
+                bounds.add("@DecimalMin(" + ((DecimalMin) constraint).value() + ")");
+            } else if (constraint instanceof Positive) {
+                minValue = greatest(minValue, BigDecimal.ONE);
+                bounds.add("@Positive");
+            } else if (constraint instanceof PositiveOrZero) {
+                minValue = greatest(minValue, BigDecimal.ZERO);
+                bounds.add("@PositiveOrZero");
+            } else if (constraint instanceof Max) {
+                maxValue = least(maxValue, new BigDecimal(((Max) constraint).value()));
+                bounds.add("@Max(" + ((Max) constraint).value() + ")");
+            } else if (constraint instanceof DecimalMax) {
+                maxValue = least(maxValue, new BigDecimal(((DecimalMax) constraint).value()));
+                bounds.add("@DecimalMax(" + ((DecimalMax) constraint).value() + ")");
+            } else if (constraint instanceof Negative) {
+                maxValue = least(maxValue, BigDecimal.ZERO);
+                bounds.add("@Negative");
+            } else if (constraint instanceof NegativeOrZero) {
+                maxValue = least(maxValue, new BigDecimal("0.001"));
+                bounds.add("@NegativeOrZero");
+            }
+        }
+        if (minValue != null && maxValue != null && minValue.compareTo(maxValue) > 0) {
+            throw new IllegalArgumentException(format(
+                    "Constraints %s of field %s in class %s cannot be satisfied: lower bound %s is greater than upper bound %s",
+                    bounds, field.getName(), field.getDeclaringClass().getName(), minValue, maxValue));
+        }
+        return getRandomizer(field.getType(), minValue, maxValue);
+    }
+
+    private static BigDecimal greatest(final BigDecimal bound, final BigDecimal value) {
+        return bound == null || value.compareTo(bound) > 0 ? value : bound;
+    }
+
+    private static BigDecimal least(final BigDecimal bound, final BigDecimal value) {
+        return bound == null || value.compareTo(bound) < 0 ? value : bound;
     }
 
     protected Randomizer<?> getRandomizer(Class<?> fieldType, BigDecimal minValue, BigDecimal maxValue) {
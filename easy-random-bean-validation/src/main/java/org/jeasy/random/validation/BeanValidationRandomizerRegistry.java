@@ -27,27 +27,36 @@ import org.jeasy.random.annotation.Priority;
 import org.jeasy.random.EasilyRandomerParameters;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.api.RandomizerRegistry;
-import org.jeasy.random.util.ReflectionUtils;
 
 import javax.validation.constraints.*;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A registry of randomizers to support fields annotated with the <a href="http://beanvalidation.org/">JSR 349</a> annotations.
  *
+ * The constraints of the fields of a class, declared on the fields or on their getters, are read once
+ * per class. The randomizer of a field is created by its handler on the first lookup and reused for all the
+ * objects generated by an engine. Handlers draw the seed of each randomizer from a source seeded with
+ * the seed of the parameters, so the randomizers of an engine are the same from one run to another.
+ *
  * @author Rémi Alvergnat (toilal.dev@gmail.com)
  */
 @Priority(-2)
 public class BeanValidationRandomizerRegistry implements RandomizerRegistry {
 
-    protected Map<Class<? extends Annotation>, BeanValidationAnnotationHandler> annotationHandlers = new HashMap<>();
+    protected Map<Class<? extends Annotation>, BeanValidationAnnotationHandler> annotationHandlers = new LinkedHashMap<>();
+
+    private final Map<Field, Optional<Randomizer<?>>> randomizers = new ConcurrentHashMap<>();
 
     @Override
     public void init(EasilyRandomerParameters parameters) {
         long seed = parameters.getSeed();
+        randomizers.clear();
         annotationHandlers.put(AssertFalse.class, new AssertFalseAnnotationHandler());
         annotationHandlers.put(AssertTrue.class, new AssertTrueAnnotationHandler());
         annotationHandlers.put(Null.class, new NullAnnotationHandler());
@@ -71,12 +80,26 @@ public class BeanValidationRandomizerRegistry implements RandomizerRegistry {
 
     @Override
     public Randomizer<?> getRandomizer(final Field field) {
+        Optional<Randomizer<?>> randomizer = randomizers.get(field);
+        if (randomizer == null) {
+            Optional<Randomizer<?>> created = Optional.ofNullable(findRandomizer(field));
+            randomizer = randomizers.putIfAbsent(field, created);
+            if (randomizer == null) {
+                randomizer = created;
+            }
+        }
+        return randomizer.orElse(null);
+    }
 
+    private Randomizer<?> findRandomizer(final Field field) {
+        Map<Class<? extends Annotation>, Annotation> constraints = ConstraintDescriptor.getConstraints(field);
+        if (constraints.isEmpty()) {
+            return null;
+        }
         for (Map.Entry<Class<? extends Annotation>, BeanValidationAnnotationHandler> entry : annotationHandlers.entrySet()) {
             Class<? extends Annotation> annotation = entry.getKey();
             BeanValidationAnnotationHandler annotationHandler = entry.getValue();
-            if (ReflectionUtils
-                    .isAnnotationPresent(field, annotation) && annotationHandler != null) {
+            if (constraints.containsKey(annotation) && annotationHandler != null) {
                 return annotationHandler.getRandomizer(field);
             }
         }
@@ -87,4 +110,12 @@ public class BeanValidationRandomizerRegistry implements RandomizerRegistry {
     public Randomizer<?> getRandomizer(Class<?> fieldType) {
         return null;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isStable() {
+        return true;
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.validation;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.jeasy.random.util.ReflectionUtils.getReadMethod;
+
+/**
+ * The annotations of the fields of a class, read from the fields and from their getters.
+ * A class is scanned once, so that looking up the constraints of a field does not need
+ * to resolve its getter again.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+final class ConstraintDescriptor {
+
+    private static final ClassValue<ConstraintDescriptor> DESCRIPTORS = new ClassValue<ConstraintDescriptor>() {
+        @Override
+        protected ConstraintDescriptor computeValue(Class<?> type) {
+            return new ConstraintDescriptor(type);
+        }
+    };
+
+    // only fields with at least one annotation are present
+    private final Map<Field, Map<Class<? extends Annotation>, Annotation>> constraints = new HashMap<>();
+
+    private ConstraintDescriptor(final Class<?> type) {
+        for (Field field : type.getDeclaredFields()) {
+            Map<Class<? extends Annotation>, Annotation> fieldConstraints = new LinkedHashMap<>();
+            Optional<Method> readMethod = getReadMethod(field);
+            if (readMethod.isPresent()) {
+                for (Annotation annotation : readMethod.get().getAnnotations()) {
+                    fieldConstraints.put(annotation.annotationType(), annotation);
+                }
+            }
+            // an annotation on the field takes precedence over the same annotation on the getter
+            for (Annotation annotation : field.getAnnotations()) {
+                fieldConstraints.put(annotation.annotationType(), annotation);
+            }
+            if (!fieldConstraints.isEmpty()) {
+                constraints.put(field, fieldConstraints);
+            }
+        }
+    }
+
+    /**
+     * Get the constraints of a field, scanning its declaring class on the first call.
+     *
+     * @param field for which constraints should be returned
+     * @return the annotations of the field and of its getter, by type
+     */
+    static Map<Class<? extends Annotation>, Annotation> getConstraints(final Field field) {
+        return DESCRIPTORS.get(field.getDeclaringClass()).constraints.getOrDefault(field, Collections.emptyMap());
+    }
+
+    /**
+     * Get a constraint of a field, from the field or from its getter.
+     *
+     * @param field for which the constraint should be returned
+     * @param annotationType of the constraint
+     * @param <A> type of the constraint
+     * @return the constraint or null if the field has no such constraint
+     */
+    static <A extends Annotation> A getConstraint(final Field field, final Class<A> annotationType) {
+        return annotationType.cast(getConstraints(field).get(annotationType));
+    }
+}
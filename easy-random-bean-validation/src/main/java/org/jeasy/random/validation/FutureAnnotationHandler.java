@@ -23,33 +23,22 @@
  */
 package org.jeasy.random.validation;
 
-import java.lang.reflect.Field;
-import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
-
-import org.jeasy.random.EasilyRandomer;
 import org.jeasy.random.EasilyRandomerParameters;
-import org.jeasy.random.api.Randomizer;
 
-class FutureAnnotationHandler implements BeanValidationAnnotationHandler {
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 
-    private EasilyRandomer easilyRandomer;
-    private EasilyRandomerParameters parameters;
+class FutureAnnotationHandler extends AbstractDateRangeAnnotationHandler {
 
     FutureAnnotationHandler(EasilyRandomerParameters parameters) {
-        this.parameters = parameters.copy();
+        super(parameters);
     }
 
     @Override
-    public Randomizer<?> getRandomizer(Field field) {
-        if (easilyRandomer == null) {
-            LocalDate now = LocalDate.now();
-            parameters.setDateRange(new EasilyRandomerParameters.Range<>(
-                    now.plus(1, ChronoUnit.DAYS),
-                    now.plusYears(EasilyRandomerParameters.DEFAULT_DATE_RANGE)
-            ));
-            easilyRandomer = new EasilyRandomer(parameters);
-        }
-        return () -> easilyRandomer.nextObject(field.getType());
+    EasilyRandomerParameters.Range<LocalDate> getDateRange(LocalDate now) {
+        return new EasilyRandomerParameters.Range<>(
+                now.plus(1, ChronoUnit.DAYS),
+                now.plusYears(EasilyRandomerParameters.DEFAULT_DATE_RANGE)
+        );
     }
 }
@@ -23,31 +23,20 @@
  */
 package org.jeasy.random.validation;
 
-import org.jeasy.random.EasilyRandomer;
 import org.jeasy.random.EasilyRandomerParameters;
-import org.jeasy.random.api.Randomizer;
 
-import java.lang.reflect.Field;
 import java.time.LocalDate;
 
-class FutureOrPresentAnnotationHandler implements BeanValidationAnnotationHandler {
-
-    private EasilyRandomer easilyRandomer;
-    private EasilyRandomerParameters parameters;
+class FutureOrPresentAnnotationHandler extends AbstractDateRangeAnnotationHandler {
 
     FutureOrPresentAnnotationHandler(EasilyRandomerParameters parameters) {
-        this.parameters = parameters.copy();
+        super(parameters);
     }
 
     @Override
-    public Randomizer<?> getRandomizer(Field field) {
-        if (easilyRandomer == null) {
-            LocalDate now = LocalDate.now();
-            parameters.setDateRange(new EasilyRandomerParameters.Range<>(
-                    now, now.plusYears(EasilyRandomerParameters.DEFAULT_DATE_RANGE))
-            );
-            easilyRandomer = new EasilyRandomer(parameters);
-        }
-        return () -> easilyRandomer.nextObject(field.getType());
+    EasilyRandomerParameters.Range<LocalDate> getDateRange(LocalDate now) {
+        return new EasilyRandomerParameters.Range<>(
+                now, now.plusYears(EasilyRandomerParameters.DEFAULT_DATE_RANGE)
+        );
     }
 }
@@ -23,18 +23,8 @@
  */
 package org.jeasy.random.validation;
 
-import org.jeasy.random.api.Randomizer;
-
-import java.lang.reflect.Field;
-import java.math.BigDecimal;
-
 class NegativeOrZeroAnnotationHandler extends AbstractNumberBaseAnnotationHandler {
     NegativeOrZeroAnnotationHandler(final long seed) {
         super(seed);
     }
-
-    @Override
-    public Randomizer<?> getRandomizer(Field field) {
-        return getRandomizer(field.getType(), null, new BigDecimal("0.001"));
-    }
 }
@@ -25,6 +25,7 @@ package org.jeasy.random.validation;
 
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.randomizers.text.StringRandomizer;
+import org.jeasy.random.util.BindableRandom;
 
 import java.lang.reflect.Field;
 import java.util.Random;
@@ -34,7 +35,7 @@ class NotBlankAnnotationHandler implements BeanValidationAnnotationHandler {
     private final Random random;
 
     NotBlankAnnotationHandler(final long seed) {
-        random = new Random(seed);
+        random = new BindableRandom(seed);
     }
 
     @Override
@@ -25,7 +25,7 @@ package org.jeasy.random.validation;
 
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.randomizers.RegularExpressionRandomizer;
-import org.jeasy.random.util.ReflectionUtils;
+import org.jeasy.random.util.BindableRandom;
 
 import javax.validation.constraints.Pattern;
 import java.lang.reflect.Field;
@@ -36,14 +36,13 @@ class PatternAnnotationHandler implements BeanValidationAnnotationHandler {
     private final Random random;
 
     PatternAnnotationHandler(long seed) {
-        random = new Random(seed);
+        random = new BindableRandom(seed);
     }
 
     @Override
     public Randomizer<?> getRandomizer(Field field) {
         Class<?> fieldType = field.getType();
-        Pattern patternAnnotation = ReflectionUtils
-                .getAnnotation(field, Pattern.class);
+        Pattern patternAnnotation = ConstraintDescriptor.getConstraint(field, Pattern.class);
 
         final String regex = patternAnnotation.regexp();
         if (fieldType.equals(String.class)) {
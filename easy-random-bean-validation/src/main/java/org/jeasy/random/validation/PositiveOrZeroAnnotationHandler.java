@@ -23,19 +23,9 @@
  */
 package org.jeasy.random.validation;
 
-import org.jeasy.random.api.Randomizer;
-
-import java.lang.reflect.Field;
-import java.math.BigDecimal;
-
 class PositiveOrZeroAnnotationHandler extends AbstractNumberBaseAnnotationHandler {
 
     PositiveOrZeroAnnotationHandler(final long seed) {
         super(seed);
     }
-
-    @Override
-    public Randomizer<?> getRandomizer(Field field) {
-        return getRandomizer(field.getType(), BigDecimal.ZERO, null);
-    }
 }
@@ -23,133 +23,76 @@
  */
 package org.jeasy.random.validation;
 
-import org.jeasy.random.EasilyRandomer;
 import org.jeasy.random.EasilyRandomerParameters;
+import org.jeasy.random.api.ContextAwareRandomizer;
 import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.api.RandomizerContext;
 import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
 import org.jeasy.random.randomizers.text.StringRandomizer;
-import org.jeasy.random.util.ReflectionUtils;
-import org.objenesis.ObjenesisStd;
+import org.jeasy.random.util.BindableRandom;
 
 import javax.validation.constraints.Size;
-import java.lang.reflect.Array;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
-import java.util.Collection;
-import java.util.EnumMap;
-import java.util.Map;
+import java.nio.charset.Charset;
+import java.util.Random;
 
 import static org.jeasy.random.util.ReflectionUtils.*;
 
 class SizeAnnotationHandler implements BeanValidationAnnotationHandler {
 
-    private EasilyRandomer easilyRandomer;
-    private EasilyRandomerParameters parameters;
+    private final Random random;
+    private final Charset charset;
 
     SizeAnnotationHandler(EasilyRandomerParameters parameters) {
-        this.parameters = parameters.copy();
+        random = new BindableRandom(parameters.getSeed());
+        charset = parameters.getCharset();
     }
 
     @Override
-    @SuppressWarnings({"unchecked"})
     public Randomizer<?> getRandomizer(Field field) {
         Class<?> fieldType = field.getType();
-        Size sizeAnnotation = ReflectionUtils
-                .getAnnotation(field, Size.class);
+        Size sizeAnnotation = ConstraintDescriptor.getConstraint(field, Size.class);
 
         final int min = sizeAnnotation.min();
         final int max = sizeAnnotation.max() == Integer.MAX_VALUE ? 255 : sizeAnnotation.max();
-        if (easilyRandomer == null) {
-            easilyRandomer = new EasilyRandomer(parameters);
-        }
 
         if (fieldType.equals(String.class)) {
-            return new StringRandomizer(parameters.getCharset(), min, max, easilyRandomer.nextLong());
+            return new StringRandomizer(charset, min, max, random.nextLong());
         }
-
-        // FIXME: There should be away to reuse code from ArrayPopulator/CollectionPopulator/MapPopulator *without* making them public
-
-        if (isArrayType(fieldType)) {
-            return (Randomizer<Object>) () -> {
-                int randomSize = new IntegerRangeRandomizer(min, max, parameters.getSeed()).getRandomValue();
-                Object result = Array.newInstance(field.getType().getComponentType(), randomSize);
-                for (int i = 0; i < randomSize; i++) {
-                    Object randomElement = easilyRandomer.nextObject(fieldType.getComponentType());
-                    Array.set(result, i, randomElement);
-                }
-                return result;
-            };
+        if (isArrayType(fieldType) || isCollectionType(fieldType) || isMapType(fieldType)) {
+            return new SizedRandomizer(field, new IntegerRangeRandomizer(min, max, random.nextLong()));
         }
+        return null;
+    }
 
-        if (isCollectionType(fieldType)) {
-            return (Randomizer<Object>) () -> {
-                int randomSize = new IntegerRangeRandomizer(min, max, parameters.getSeed()).getRandomValue();
-                Type fieldGenericType = field.getGenericType();
-                Collection collection;
+    /**
+     * Randomizer of arrays, collections and maps, which draws their size and delegates
+     * their population to the engine in which it is invoked.
+     */
+    private static class SizedRandomizer implements ContextAwareRandomizer<Object> {
 
-                if (isInterface(fieldType)) {
-                    collection = getEmptyImplementationForCollectionInterface(fieldType);
-                } else {
-                    collection = createEmptyCollectionForType(fieldType, randomSize);
-                }
-                if (isParameterizedType(fieldGenericType)) { // populate only parameterized types, raw types will be empty
-                    ParameterizedType parameterizedType = (ParameterizedType) fieldGenericType;
-                    Type type = parameterizedType.getActualTypeArguments()[0];
-                    if (isPopulatable(type)) {
-                        for (int i = 0; i < randomSize; i++) {
-                            Object item = easilyRandomer.nextObject((Class<?>) type);
-                            collection.add(item);
-                        }
+        private final Field field;
+        private final IntegerRangeRandomizer sizeRandomizer;
+        private RandomizerContext context;
 
-                    }
-                }
-                return collection;
-            };
+        SizedRandomizer(final Field field, final IntegerRangeRandomizer sizeRandomizer) {
+            this.field = field;
+            this.sizeRandomizer = sizeRandomizer;
         }
-        if (isMapType(fieldType)) {
-            return (Randomizer<Object>) () -> {
-                int randomSize = new IntegerRangeRandomizer(min, max, parameters.getSeed()).getRandomValue();
-                Type fieldGenericType = field.getGenericType();
-                Map<Object, Object> map;
 
-                if (isInterface(fieldType)) {
-                    map = (Map<Object, Object>) getEmptyImplementationForMapInterface(fieldType);
-                } else {
-                    try {
-                        map = (Map<Object, Object>) fieldType.getDeclaredConstructor().newInstance();
-                    } catch (InstantiationException | IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
-                        if (fieldType.isAssignableFrom(EnumMap.class)) {
-                            if (isParameterizedType(fieldGenericType)) {
-                                Type type = ((ParameterizedType) fieldGenericType).getActualTypeArguments()[0];
-                                map = new EnumMap((Class<?>)type);
-                            } else {
-                                return null;
-                            }
-                        } else {
-                            map = (Map<Object, Object>) new ObjenesisStd().newInstance(fieldType);
-                        }
-                    }
-                }
+        @Override
+        public void setRandomizerContext(RandomizerContext context) {
+            this.context = context;
+        }
 
-                if (isParameterizedType(fieldGenericType)) { // populate only parameterized types, raw types will be empty
-                    ParameterizedType parameterizedType = (ParameterizedType) fieldGenericType;
-                    Type keyType = parameterizedType.getActualTypeArguments()[0];
-                    Type valueType = parameterizedType.getActualTypeArguments()[1];
-                    if (isPopulatable(keyType) && isPopulatable(valueType)) {
-                        for (int index = 0; index < randomSize; index++) {
-                            Object randomKey = easilyRandomer.nextObject((Class<?>) keyType);
-                            Object randomValue = easilyRandomer.nextObject((Class<?>) valueType);
-                            if(randomKey != null) {
-                                map.put(randomKey, randomValue);
-                            }
-                        }
-                    }
-                }
-                return map;
-            };
+        @Override
+        public Object getRandomValue() {
+            return getRandomValue(context);
+        }
+
+        @Override
+        public Object getRandomValue(RandomizerContext context) {
+            return context.nextObject(field, sizeRandomizer.getRandomValue());
         }
-        return null;
     }
 }
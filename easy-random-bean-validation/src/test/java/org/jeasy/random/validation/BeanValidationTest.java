@@ -39,15 +39,23 @@ import javax.validation.ValidatorFactory;
 import javax.validation.constraints.DecimalMax;
 import javax.validation.constraints.DecimalMin;
 import javax.validation.constraints.Digits;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NegativeOrZero;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Past;
+import javax.validation.constraints.Positive;
 import javax.validation.constraints.Size;
+import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class BeanValidationTest {
 
@@ -268,6 +276,117 @@ class BeanValidationTest {
         assertThat(bean.getNotBlank()).isEqualTo("tg");
     }
 
+    @Test
+    void shouldGenerateTheSameSequenceOfValuesForTheSameSeed() {
+        EasilyRandomer random = new EasilyRandomer(new EasilyRandomerParameters().seed(123L));
+        EasilyRandomer sameRandom = new EasilyRandomer(new EasilyRandomerParameters().seed(123L));
+
+        for (int i = 0; i < 5; i++) {
+            BeanValidationAnnotatedBean bean = random.nextObject(BeanValidationAnnotatedBean.class);
+            BeanValidationAnnotatedBean sameBean = sameRandom.nextObject(BeanValidationAnnotatedBean.class);
+
+            assertThat(bean.getRegexString()).isEqualTo(sameBean.getRegexString());
+            assertThat(bean.getEmail()).isEqualTo(sameBean.getEmail());
+            assertThat(bean.getNotBlank()).isEqualTo(sameBean.getNotBlank());
+            assertThat(bean.getMaxQuantity()).isEqualTo(sameBean.getMaxQuantity());
+            assertThat(bean.getDiscount()).isEqualTo(sameBean.getDiscount());
+        }
+    }
+
+    @Test
+    void randomizerOfAFieldShouldBeCreatedOnce() throws Exception {
+        BeanValidationRandomizerRegistry registry = new BeanValidationRandomizerRegistry();
+        registry.init(new EasilyRandomerParameters());
+        Field regexString = BeanValidationAnnotatedBean.class.getDeclaredField("regexString");
+
+        assertThat(registry.getRandomizer(regexString))
+                .isNotNull()
+                .isSameAs(registry.getRandomizer(regexString));
+        assertThat(registry.isStable()).isTrue();
+    }
+
+    @Test
+    void sizesOfConstrainedCollectionsShouldVaryBetweenObjects() {
+        EasilyRandomer random = new EasilyRandomer(new EasilyRandomerParameters().seed(123L));
+        Set<Integer> sizes = new HashSet<>();
+
+        for (int i = 0; i < 20; i++) {
+            BeanValidationAnnotatedBean bean = random.nextObject(BeanValidationAnnotatedBean.class);
+            assertThat(bean.getSizedList().size()).isBetween(2, 10);
+            sizes.add(bean.getSizedList().size());
+        }
+
+        assertThat(sizes).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    void combinedNumberConstraintsShouldBeHonouredTogether() {
+        class Order {
+            @Positive
+            @Max(10)
+            private int quantity;
+            @Min(5)
+            @DecimalMax("7")
+            private long weight;
+            @NegativeOrZero
+            @Min(-3)
+            private Integer delta;
+        }
+
+        for (int i = 0; i < 100; i++) {
+            Order order = easilyRandomer.nextObject(Order.class);
+
+            assertThat(order.quantity).isBetween(1, 10);
+            assertThat(order.weight).isBetween(5L, 7L);
+            assertThat(order.delta).isBetween(-3, 0);
+        }
+    }
+
+    @Test
+    void contradictoryNumberConstraintsShouldBeRejected() throws Exception {
+        class Order {
+            @Min(10)
+            @Max(5)
+            private int quantity;
+            @Positive
+            @Max(0)
+            private long weight;
+        }
+        MinMaxAnnotationHandler handler = new MinMaxAnnotationHandler(123L);
+
+        assertThatThrownBy(() -> handler.getRandomizer(Order.class.getDeclaredField("quantity")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("@Min(10)")
+                .hasMessageContaining("@Max(5)")
+                .hasMessageContaining("field quantity in class " + Order.class.getName());
+        assertThatThrownBy(() -> handler.getRandomizer(Order.class.getDeclaredField("weight")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("@Positive")
+                .hasMessageContaining("@Max(0)")
+                .hasMessageContaining("field weight in class " + Order.class.getName());
+        assertThatThrownBy(() -> easilyRandomer.nextObject(Order.class))
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void dateConstraintsOnTypesWithoutDateRandomizerShouldBeHandledByTheEngine() throws Exception {
+        class Period {
+            private String label;
+        }
+        class Event {
+            @Past
+            private Period period;
+        }
+        Field period = Event.class.getDeclaredField("period");
+
+        assertThat(new PastAnnotationHandler(new EasilyRandomerParameters()).getRandomizer(period)).isNotNull();
+
+        Event event = easilyRandomer.nextObject(Event.class);
+
+        assertThat(event.period).isNotNull();
+        assertThat(event.period.label).isNotNull();
+    }
+
     @Test
     void generatedBeanShouldBeValidUsingBeanValidationAPI() {
         BeanValidationAnnotatedBean bean = easilyRandomer.nextObject(BeanValidationAnnotatedBean.class);
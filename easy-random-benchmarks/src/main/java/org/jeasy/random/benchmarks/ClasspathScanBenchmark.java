@@ -0,0 +1,76 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jeasy.random.benchmarks.beans.Payment;
+import org.jeasy.random.util.ClasspathScanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure the first search of the subtypes of an interface, which scans the classpath,
+ * with the default scanner and with a scanner restricted to the packages of the benchmarks,
+ * and the first search of the subtypes of an interface found in the index written at build time.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClasspathScanBenchmark {
+
+    @Benchmark
+    public List<Class<?>> allPackages() {
+        try (ClasspathScanner classpathScanner = new ClasspathScanner()) {
+            return classpathScanner.getPublicConcreteSubTypesOf(Comparable.class);
+        }
+    }
+
+    @Benchmark
+    public List<Class<?>> acceptedPackages() {
+        try (ClasspathScanner classpathScanner = new ClasspathScanner()
+                .acceptPackages("org.jeasy.random.benchmarks")
+                .includeSystemModules(false)) {
+            return classpathScanner.getPublicConcreteSubTypesOf(Comparable.class);
+        }
+    }
+
+    @Benchmark
+    public List<Class<?>> buildTimeIndex() {
+        try (ClasspathScanner classpathScanner = new ClasspathScanner()) {
+            return classpathScanner.getPublicConcreteSubTypesOf(Payment.class);
+        }
+    }
+}
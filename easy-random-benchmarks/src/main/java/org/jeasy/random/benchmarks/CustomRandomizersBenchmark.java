@@ -0,0 +1,84 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.benchmarks;
+
+import static org.jeasy.random.FieldPredicates.inClass;
+import static org.jeasy.random.FieldPredicates.named;
+import static org.jeasy.random.FieldPredicates.ofType;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.jeasy.random.benchmarks.beans.Customer;
+import org.jeasy.random.randomizers.registry.CustomRandomizerRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measure the lookup of the custom randomizers of all the fields of a bean in a
+ * {@link CustomRandomizerRegistry} holding a given number of field predicates
+ * of the form {@code named(..).and(ofType(..)).and(inClass(..))}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CustomRandomizersBenchmark {
+
+    @Param({"10", "500"})
+    private int predicates;
+
+    private CustomRandomizerRegistry registry;
+
+    private Field[] fields;
+
+    @Setup
+    public void setUp() {
+        registry = new CustomRandomizerRegistry();
+        for (int i = 0; i < predicates; i++) {
+            registry.registerRandomizer(named("field" + i).and(ofType(String.class)).and(inClass(Customer.class)), () -> "value");
+        }
+        registry.registerRandomizer(named("email").and(ofType(String.class)).and(inClass(Customer.class)), () -> "foo@bar.org");
+        fields = Customer.class.getDeclaredFields();
+    }
+
+    @Benchmark
+    public void getRandomizer(Blackhole blackhole) {
+        for (Field field : fields) {
+            blackhole.consume(registry.getRandomizer(field));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.benchmarks;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.jeasy.random.MethodHandleFieldAccessStrategy;
+import org.jeasy.random.ReflectiveFieldAccessStrategy;
+import org.jeasy.random.api.FieldAccessor;
+import org.jeasy.random.benchmarks.beans.Customer;
+import org.jeasy.random.util.ReflectionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compare writing a field through {@link ReflectionUtils} (setter lookup and accessibility
+ * toggling on each call) with the accessors of the available field access strategies.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FieldAccessBenchmark {
+
+    private Customer customer;
+    private Field field;
+    private String value;
+
+    private FieldAccessor reflectiveSetterAccessor;
+    private FieldAccessor reflectiveFieldAccessor;
+    private FieldAccessor methodHandleSetterAccessor;
+    private FieldAccessor methodHandleFieldAccessor;
+
+    @Setup
+    public void setUp() throws Exception {
+        customer = new Customer();
+        field = Customer.class.getDeclaredField("firstName");
+        value = "foo";
+        reflectiveSetterAccessor = new ReflectiveFieldAccessStrategy().getAccessor(field, false);
+        reflectiveFieldAccessor = new ReflectiveFieldAccessStrategy().getAccessor(field, true);
+        methodHandleSetterAccessor = new MethodHandleFieldAccessStrategy().getAccessor(field, false);
+        methodHandleFieldAccessor = new MethodHandleFieldAccessStrategy().getAccessor(field, true);
+    }
+
+    @Benchmark
+    public Customer reflectionUtilsSetProperty() throws Exception {
+        ReflectionUtils.setProperty(customer, field, value);
+        return customer;
+    }
+
+    @Benchmark
+    public Customer reflectionUtilsSetFieldValue() throws Exception {
+        ReflectionUtils.setFieldValue(customer, field, value);
+        return customer;
+    }
+
+    @Benchmark
+    public Customer reflectiveStrategySetter() throws Exception {
+        reflectiveSetterAccessor.setValue(customer, value);
+        return customer;
+    }
+
+    @Benchmark
+    public Customer reflectiveStrategyField() throws Exception {
+        reflectiveFieldAccessor.setValue(customer, value);
+        return customer;
+    }
+
+    @Benchmark
+    public Customer methodHandleStrategySetter() throws Exception {
+        methodHandleSetterAccessor.setValue(customer, value);
+        return customer;
+    }
+
+    @Benchmark
+    public Customer methodHandleStrategyField() throws Exception {
+        methodHandleFieldAccessor.setValue(customer, value);
+        return customer;
+    }
+}
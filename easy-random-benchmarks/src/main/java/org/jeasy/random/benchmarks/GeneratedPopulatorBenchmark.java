@@ -0,0 +1,84 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jeasy.random.EasilyRandomer;
+import org.jeasy.random.EasilyRandomerParameters;
+import org.jeasy.random.benchmarks.beans.Customer;
+import org.jeasy.random.benchmarks.beans.Point;
+import org.jeasy.random.benchmarks.beans.Primitives;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compare the reflective engine with populators generated at first use of each type
+ * (see {@link EasilyRandomerParameters#generatedPopulators(boolean)}), on a small bean,
+ * on a bean with 30 primitive fields and on a bean with nested beans and collections.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeneratedPopulatorBenchmark {
+
+    @Param({"false", "true"})
+    private boolean generatedPopulators;
+
+    private EasilyRandomer easilyRandomer;
+
+    @Setup
+    public void setUp() {
+        easilyRandomer = new EasilyRandomer(new EasilyRandomerParameters()
+                .seed(42)
+                .generatedPopulators(generatedPopulators));
+    }
+
+    @Benchmark
+    public Point flatBean() {
+        return easilyRandomer.nextObject(Point.class);
+    }
+
+    @Benchmark
+    public Primitives primitives() {
+        return easilyRandomer.nextObject(Primitives.class);
+    }
+
+    @Benchmark
+    public Customer nestedBean() {
+        return easilyRandomer.nextObject(Customer.class);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.benchmarks.beans;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class Inventory {
+
+    private List<String> names;
+    private Set<Integer> codes;
+    private Map<String, Long> stock;
+    private ArrayList<Double> prices;
+    private Deque<Integer> history;
+    private HashMap<Integer, String> labels;
+
+    public List<String> getNames() {
+        return names;
+    }
+
+    public void setNames(List<String> names) {
+        this.names = names;
+    }
+
+    public Set<Integer> getCodes() {
+        return codes;
+    }
+
+    public void setCodes(Set<Integer> codes) {
+        this.codes = codes;
+    }
+
+    public Map<String, Long> getStock() {
+        return stock;
+    }
+
+    public void setStock(Map<String, Long> stock) {
+        this.stock = stock;
+    }
+
+    public ArrayList<Double> getPrices() {
+        return prices;
+    }
+
+    public void setPrices(ArrayList<Double> prices) {
+        this.prices = prices;
+    }
+
+    public Deque<Integer> getHistory() {
+        return history;
+    }
+
+    public void setHistory(Deque<Integer> history) {
+        this.history = history;
+    }
+
+    public HashMap<Integer, String> getLabels() {
+        return labels;
+    }
+
+    public void setLabels(HashMap<Integer, String> labels) {
+        this.labels = labels;
+    }
+}
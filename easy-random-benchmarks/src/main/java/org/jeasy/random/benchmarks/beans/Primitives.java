@@ -0,0 +1,298 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.benchmarks.beans;
+
+public class Primitives {
+
+    private int intValue1;
+    private int intValue2;
+    private int intValue3;
+    private int intValue4;
+    private int intValue5;
+    private long longValue1;
+    private long longValue2;
+    private long longValue3;
+    private long longValue4;
+    private long longValue5;
+    private double doubleValue1;
+    private double doubleValue2;
+    private double doubleValue3;
+    private double doubleValue4;
+    private double doubleValue5;
+    private float floatValue1;
+    private float floatValue2;
+    private float floatValue3;
+    private float floatValue4;
+    private short shortValue1;
+    private short shortValue2;
+    private short shortValue3;
+    private byte byteValue1;
+    private byte byteValue2;
+    private byte byteValue3;
+    private boolean booleanValue1;
+    private boolean booleanValue2;
+    private boolean booleanValue3;
+    private char charValue1;
+    private char charValue2;
+
+    public int getIntValue1() {
+        return intValue1;
+    }
+
+    public void setIntValue1(int intValue1) {
+        this.intValue1 = intValue1;
+    }
+
+    public int getIntValue2() {
+        return intValue2;
+    }
+
+    public void setIntValue2(int intValue2) {
+        this.intValue2 = intValue2;
+    }
+
+    public int getIntValue3() {
+        return intValue3;
+    }
+
+    public void setIntValue3(int intValue3) {
+        this.intValue3 = intValue3;
+    }
+
+    public int getIntValue4() {
+        return intValue4;
+    }
+
+    public void setIntValue4(int intValue4) {
+        this.intValue4 = intValue4;
+    }
+
+    public int getIntValue5() {
+        return intValue5;
+    }
+
+    public void setIntValue5(int intValue5) {
+        this.intValue5 = intValue5;
+    }
+
+    public long getLongValue1() {
+        return longValue1;
+    }
+
+    public void setLongValue1(long longValue1) {
+        this.longValue1 = longValue1;
+    }
+
+    public long getLongValue2() {
+        return longValue2;
+    }
+
+    public void setLongValue2(long longValue2) {
+        this.longValue2 = longValue2;
+    }
+
+    public long getLongValue3() {
+        return longValue3;
+    }
+
+    public void setLongValue3(long longValue3) {
+        this.longValue3 = longValue3;
+    }
+
+    public long getLongValue4() {
+        return longValue4;
+    }
+
+    public void setLongValue4(long longValue4) {
+        this.longValue4 = longValue4;
+    }
+
+    public long getLongValue5() {
+        return longValue5;
+    }
+
+    public void setLongValue5(long longValue5) {
+        this.longValue5 = longValue5;
+    }
+
+    public double getDoubleValue1() {
+        return doubleValue1;
+    }
+
+    public void setDoubleValue1(double doubleValue1) {
+        this.doubleValue1 = doubleValue1;
+    }
+
+    public double getDoubleValue2() {
+        return doubleValue2;
+    }
+
+    public void setDoubleValue2(double doubleValue2) {
+        this.doubleValue2 = doubleValue2;
+    }
+
+    public double getDoubleValue3() {
+        return doubleValue3;
+    }
+
+    public void setDoubleValue3(double doubleValue3) {
+        this.doubleValue3 = doubleValue3;
+    }
+
+    public double getDoubleValue4() {
+        return doubleValue4;
+    }
+
+    public void setDoubleValue4(double doubleValue4) {
+        this.doubleValue4 = doubleValue4;
+    }
+
+    public double getDoubleValue5() {
+        return doubleValue5;
+    }
+
+    public void setDoubleValue5(double doubleValue5) {
+        this.doubleValue5 = doubleValue5;
+    }
+
+    public float getFloatValue1() {
+        return floatValue1;
+    }
+
+    public void setFloatValue1(float floatValue1) {
+        this.floatValue1 = floatValue1;
+    }
+
+    public float getFloatValue2() {
+        return floatValue2;
+    }
+
+    public void setFloatValue2(float floatValue2) {
+        this.floatValue2 = floatValue2;
+    }
+
+    public float getFloatValue3() {
+        return floatValue3;
+    }
+
+    public void setFloatValue3(float floatValue3) {
+        this.floatValue3 = floatValue3;
+    }
+
+    public float getFloatValue4() {
+        return floatValue4;
+    }
+
+    public void setFloatValue4(float floatValue4) {
+        this.floatValue4 = floatValue4;
+    }
+
+    public short getShortValue1() {
+        return shortValue1;
+    }
+
+    public void setShortValue1(short shortValue1) {
+        this.shortValue1 = shortValue1;
+    }
+
+    public short getShortValue2() {
+        return shortValue2;
+    }
+
+    public void setShortValue2(short shortValue2) {
+        this.shortValue2 = shortValue2;
+    }
+
+    public short getShortValue3() {
+        return shortValue3;
+    }
+
+    public void setShortValue3(short shortValue3) {
+        this.shortValue3 = shortValue3;
+    }
+
+    public byte getByteValue1() {
+        return byteValue1;
+    }
+
+    public void setByteValue1(byte byteValue1) {
+        this.byteValue1 = byteValue1;
+    }
+
+    public byte getByteValue2() {
+        return byteValue2;
+    }
+
+    public void setByteValue2(byte byteValue2) {
+        this.byteValue2 = byteValue2;
+    }
+
+    public byte getByteValue3() {
+        return byteValue3;
+    }
+
+    public void setByteValue3(byte byteValue3) {
+        this.byteValue3 = byteValue3;
+    }
+
+    public boolean isBooleanValue1() {
+        return booleanValue1;
+    }
+
+    public void setBooleanValue1(boolean booleanValue1) {
+        this.booleanValue1 = booleanValue1;
+    }
+
+    public boolean isBooleanValue2() {
+        return booleanValue2;
+    }
+
+    public void setBooleanValue2(boolean booleanValue2) {
+        this.booleanValue2 = booleanValue2;
+    }
+
+    public boolean isBooleanValue3() {
+        return booleanValue3;
+    }
+
+    public void setBooleanValue3(boolean booleanValue3) {
+        this.booleanValue3 = booleanValue3;
+    }
+
+    public char getCharValue1() {
+        return charValue1;
+    }
+
+    public void setCharValue1(char charValue1) {
+        this.charValue1 = charValue1;
+    }
+
+    public char getCharValue2() {
+        return charValue2;
+    }
+
+    public void setCharValue2(char charValue2) {
+        this.charValue2 = charValue2;
+    }
+}
@@ -23,7 +23,7 @@
  */
 package org.jeasy.random;
 
-import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
+import org.jeasy.random.api.Randomizer;
 
 import java.lang.reflect.Array;
 
@@ -41,9 +41,18 @@ class ArrayPopulator {
     }
 
     Object getRandomArray(final Class<?> fieldType, final RandomizationContext context) {
+        return getRandomArray(fieldType, CollectionSizes.nextCollectionSize(context.getParameters(), easilyRandomer), context);
+    }
+
+    Object getRandomArray(final Class<?> fieldType, final int randomSize, final RandomizationContext context) {
         Class<?> componentType = fieldType.getComponentType();
-        int randomSize = getRandomArraySize(context.getParameters());
         Object result = Array.newInstance(componentType, randomSize);
+        // elements generated by a randomizer are generated by the same randomizer, which is resolved once
+        Randomizer<?> randomizer = easilyRandomer.getPlainRandomizer(componentType, context);
+        if (randomizer != null) {
+            fill(result, componentType, randomizer, context.getParameters());
+            return result;
+        }
         for (int i = 0; i < randomSize; i++) {
             Object randomElement = easilyRandomer.doPopulateBean(componentType, context);
             Array.set(result, i, randomElement);
@@ -51,8 +60,37 @@ class ArrayPopulator {
         return result;
     }
 
-    private int getRandomArraySize(EasilyRandomerParameters parameters) {
-        EasilyRandomerParameters.Range<Integer> collectionSizeRange = parameters.getCollectionSizeRange();
-        return new IntegerRangeRandomizer(collectionSizeRange.getMin(), collectionSizeRange.getMax(), easilyRandomer.nextLong()).getRandomValue();
+    /*
+     * Same values, in the same order, as one call to EasilyRandomer#doPopulateBean per element.
+     */
+    private void fill(final Object array, final Class<?> componentType, final Randomizer<?> randomizer,
+                      final EasilyRandomerParameters parameters) {
+        if (componentType.isPrimitive()) {
+            try {
+                if (!PrimitiveRandomizers.fill(array, randomizer)) {
+                    int length = Array.getLength(array);
+                    for (int i = 0; i < length; i++) {
+                        Array.set(array, i, randomizer.getRandomValue());
+                    }
+                }
+            } catch (RuntimeException e) {
+                // a primitive array cannot hold the null element of an ignored error
+                throw new ObjectCreationException("Unable to create a random instance of type " + componentType, e);
+            }
+            return;
+        }
+        Object[] elements = (Object[]) array;
+        for (int i = 0; i < elements.length; i++) {
+            Object element;
+            try {
+                element = randomizer.getRandomValue();
+            } catch (RuntimeException e) {
+                if (!parameters.isIgnoreRandomizationErrors()) {
+                    throw new ObjectCreationException("Unable to create a random instance of type " + componentType, e);
+                }
+                element = null;
+            }
+            Array.set(elements, i, element);
+        }
     }
 }
@@ -23,8 +23,6 @@
  */
 package org.jeasy.random;
 
-import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
-
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -45,15 +43,18 @@ class CollectionPopulator {
         this.easilyRandomer = easilyRandomer;
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     Collection<?> getRandomCollection(final Field field, final RandomizationContext context) {
-        int randomSize = getRandomCollectionSize(context.getParameters());
+        return getRandomCollection(field, CollectionSizes.nextCollectionSize(context.getParameters(), easilyRandomer), context);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Collection<?> getRandomCollection(final Field field, final int randomSize, final RandomizationContext context) {
         Class<?> fieldType = field.getType();
         Type fieldGenericType = field.getGenericType();
         Collection collection;
 
         if (isInterface(fieldType)) {
-            collection = getEmptyImplementationForCollectionInterface(fieldType);
+            collection = getEmptyImplementationForCollectionInterface(fieldType, randomSize);
         } else {
             collection = createEmptyCollectionForType(fieldType, randomSize);
         }
@@ -72,9 +73,4 @@ class CollectionPopulator {
         return collection;
 
     }
-
-    private int getRandomCollectionSize(EasilyRandomerParameters parameters) {
-        EasilyRandomerParameters.Range<Integer> collectionSizeRange = parameters.getCollectionSizeRange();
-        return new IntegerRangeRandomizer(collectionSizeRange.getMin(), collectionSizeRange.getMax(), easilyRandomer.nextLong()).getRandomValue();
-    }
 }
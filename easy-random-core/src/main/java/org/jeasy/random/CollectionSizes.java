@@ -0,0 +1,101 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.util.BindableRandom;
+
+import java.util.Random;
+
+/**
+ * Utility methods to draw the size of arrays, collections and maps.
+ *
+ * When a {@link org.jeasy.random.util.RandomSource} is bound to the generating thread, sizes are
+ * drawn from it like any other value. Otherwise (with the default {@link org.jeasy.random.util.RandomSource.Algorithm#JDK}
+ * source), sizes are drawn as in previous versions so that seeded engines keep generating the same objects:
+ * each array or collection consumes one long of the engine, and all maps have the size drawn from the seed.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+final class CollectionSizes {
+
+    // constants of the linear congruential generator specified by java.util.Random
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    private CollectionSizes() {
+    }
+
+    /**
+     * Draw the size of an array or a collection.
+     *
+     * @param parameters the parameters of the engine
+     * @param random the engine
+     * @return the size, between the bounds of the collection size range (min inclusive, max exclusive)
+     */
+    static int nextCollectionSize(final EasilyRandomerParameters parameters, final Random random) {
+        if (BindableRandom.getBoundSource() == null) {
+            return legacySize(parameters, random.nextLong());
+        }
+        return nextSize(parameters, random);
+    }
+
+    /**
+     * Draw the size of a map.
+     *
+     * @param parameters the parameters of the engine
+     * @param random the engine
+     * @return the size, between the bounds of the collection size range (min inclusive, max exclusive)
+     */
+    static int nextMapSize(final EasilyRandomerParameters parameters, final Random random) {
+        if (BindableRandom.getBoundSource() == null) {
+            return legacySize(parameters, parameters.getSeed());
+        }
+        return nextSize(parameters, random);
+    }
+
+    private static int nextSize(final EasilyRandomerParameters parameters, final Random random) {
+        EasilyRandomerParameters.Range<Integer> range = parameters.getCollectionSizeRange();
+        int min = range.getMin();
+        int max = range.getMax();
+        return max > min ? min + random.nextInt(max - min) : min;
+    }
+
+    /*
+     * Size generated by new IntegerRangeRandomizer(min, max, seed).getRandomValue(), as previous versions did,
+     * without creating a randomizer and its Random for each collection: the first nextDouble of new Random(seed).
+     */
+    private static int legacySize(final EasilyRandomerParameters parameters, final long seed) {
+        EasilyRandomerParameters.Range<Integer> range = parameters.getCollectionSizeRange();
+        double min = range.getMin();
+        double max = range.getMax();
+        long state = (seed ^ MULTIPLIER) & MASK;
+        state = (state * MULTIPLIER + ADDEND) & MASK;
+        long high = state >>> (48 - 26);
+        state = (state * MULTIPLIER + ADDEND) & MASK;
+        long low = state >>> (48 - 27);
+        double value = min + ((high << 27) + low) * 0x1.0p-53 * (max - min);
+        return (int) Math.min(Math.max(value, min), max);
+    }
+}
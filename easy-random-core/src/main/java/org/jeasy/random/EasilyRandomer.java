@@ -23,14 +23,22 @@
  */
 package org.jeasy.random;
 
+import org.jeasy.random.PopulationPlan.FieldPlan;
 import org.jeasy.random.api.*;
 import org.jeasy.random.randomizers.misc.EnumRandomizer;
+import org.jeasy.random.util.BindableRandom;
+import org.jeasy.random.util.RandomSource;
+import org.jeasy.random.util.SplittableRandomSource;
 import org.jeasy.random.util.ReflectionUtils;
 
+import java.lang.ref.SoftReference;
 import java.lang.reflect.Field;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.jeasy.random.util.ReflectionUtils.*;
 
@@ -40,7 +48,12 @@ import static org.jeasy.random.util.ReflectionUtils.*;
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
 @SuppressWarnings({ "rawtypes", "unchecked" })
-public class EasilyRandomer extends Random {
+public class EasilyRandomer extends BindableRandom {
+
+    static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    // registry providers discovered with the service loader, by class loader
+    private static final Map<ClassLoader, SoftReference<List<ServiceLoader.Provider<RandomizerRegistry>>>> REGISTRY_PROVIDERS = new WeakHashMap<>();
 
     private final EasilyRandomerParameters parameters;
 
@@ -56,6 +69,18 @@ public class EasilyRandomer extends Random {
 
     private final ExclusionPolicy exclusionPolicy;
 
+    private final PopulationPlanCache populationPlanCache;
+
+    // decisions of the default exclusion policy on types, which do not depend on the context, made once per type.
+    // replaced when exclusion predicates are added to the parameters, since the values of a class value cannot be cleared
+    private volatile TypeExclusions typeExclusions;
+
+    // false when the components of this engine cannot be used with generated populators, whatever the parameters
+    private final boolean generatedPopulatorsSupported;
+
+    // populators generated with the current exclusions and randomizers, replaced when these change
+    private volatile GeneratedPopulators generatedPopulators;
+
     /**
      * Create a new {@link EasilyRandomer} instance with default parameters.
      */
@@ -81,11 +106,18 @@ public class EasilyRandomer extends Random {
         MapPopulator mapPopulator = new MapPopulator(this, objectFactory);
         OptionalPopulator optionalPopulator = new OptionalPopulator(this);
         enumRandomizersByType = new ConcurrentHashMap<>();
+        exclusionPolicy = easilyRandomerParameters.getExclusionPolicy();
+        populationPlanCache = new PopulationPlanCache(exclusionPolicy);
         fieldPopulator = new FieldPopulator(this,
                 this.randomizerProvider, arrayPopulator,
-                collectionPopulator, mapPopulator, optionalPopulator);
-        exclusionPolicy = easilyRandomerParameters.getExclusionPolicy();
+                collectionPopulator, mapPopulator, optionalPopulator, populationPlanCache);
         parameters = easilyRandomerParameters;
+        typeExclusions = exclusionPolicy.getClass() == DefaultExclusionPolicy.class
+                ? new TypeExclusions(parameters.getExclusionModifications()) : null;
+        generatedPopulatorsSupported = randomizerProvider.getClass() == RegistriesRandomizerProvider.class
+                && ((RegistriesRandomizerProvider) randomizerProvider).isStable()
+                && exclusionPolicy.getClass() == DefaultExclusionPolicy.class
+                && objectFactory.getClass() == ObjenesisObjectFactory.class;
     }
 
     /**
@@ -97,12 +129,101 @@ public class EasilyRandomer extends Random {
      * @throws ObjectCreationException when unable to create a new instance of the given type
      */
     public <T> T nextObject(final Class<T> type) {
-        return doPopulateBean(type, new RandomizationContext(type, parameters));
+        return generate(type, new RandomizationContext(type, parameters, this));
+    }
+
+    /**
+     * Generate random instances of the given type and pass them to the given consumer.
+     * The instances are the same as the ones returned by successive calls to
+     * {@link #nextObject(Class)}, but the randomization context is reused between instances.
+     *
+     * @param type           the type for which instances will be generated
+     * @param count          the number of instances to generate
+     * @param consumer       the consumer of generated instances
+     * @param <T>            the actual type of the target objects
+     * @throws ObjectCreationException when unable to create a new instance of the given type
+     */
+    public <T> void nextObjects(final Class<T> type, final int count, final Consumer<? super T> consumer) {
+        Objects.requireNonNull(consumer, "Consumer must not be null");
+        if (count < 0) {
+            throw new IllegalArgumentException("The number of objects must be positive");
+        }
+
+        RandomizationContext context = new RandomizationContext(type, parameters, this);
+        for (int i = 0; i < count; i++) {
+            consumer.accept(nextObject(type, context));
+        }
+    }
+
+    /**
+     * Fill the given array with random instances of the given type.
+     *
+     * @param type           the type for which instances will be generated
+     * @param array          the array to fill
+     * @param <T>            the actual type of the target objects
+     * @throws ObjectCreationException when unable to create a new instance of the given type
+     * @see #nextObjects(Class, int, Consumer)
+     */
+    public <T> void nextObjects(final Class<T> type, final T[] array) {
+        Objects.requireNonNull(array, "Array must not be null");
+        RandomizationContext context = new RandomizationContext(type, parameters, this);
+        for (int i = 0; i < array.length; i++) {
+            array[i] = nextObject(type, context);
+        }
+    }
+
+    /**
+     * Add random instances of the given type to the given list.
+     *
+     * @param type           the type for which instances will be generated
+     * @param count          the number of instances to add
+     * @param list           the list to which instances are added
+     * @param <T>            the actual type of the target objects
+     * @throws ObjectCreationException when unable to create a new instance of the given type
+     * @see #nextObjects(Class, int, Consumer)
+     */
+    public <T> void nextObjects(final Class<T> type, final int count, final List<? super T> list) {
+        Objects.requireNonNull(list, "List must not be null");
+        if (list instanceof ArrayList) {
+            ((ArrayList<?>) list).ensureCapacity(list.size() + count);
+        }
+        nextObjects(type, count, (Consumer<T>) list::add);
+    }
+
+    private <T> T nextObject(final Class<T> type, final RandomizationContext context) {
+        context.reset();
+        return generate(type, context);
+    }
+
+    /*
+     * With a random source other than the one of java.util.Random, a source of this algorithm is
+     * bound to the thread for the generation of each object, unless one is already bound (when
+     * generating an object at an index, or an object nested in another one by a randomizer).
+     */
+    private <T> T generate(final Class<T> type, final RandomizationContext context) {
+        RandomSource.Algorithm algorithm = parameters.getRandomSource();
+        if (algorithm == RandomSource.Algorithm.JDK || BindableRandom.getBoundSource() != null) {
+            return doPopulateBean(type, context);
+        }
+        // the seed is drawn from this instance, so that successive objects are different
+        RandomSource previous = BindableRandom.bind(algorithm.create(nextLong()));
+        try {
+            return doPopulateBean(type, context);
+        } finally {
+            BindableRandom.unbind(previous);
+        }
     }
 
     /**
      * Generate a stream of random instances of the given type.
      *
+     * The i-th instance of the stream depends only on the seed, the type and i, so the stream
+     * can be split and generated in parallel and still contain the same instances, in the
+     * same order, as when it is generated sequentially. Custom randomizers that do not
+     * extend {@link org.jeasy.random.randomizers.AbstractRandomizer} should draw their values
+     * from their {@link RandomizerContext} or from a randomizer of the registries to keep
+     * this guarantee.
+     *
      * @param type           the type for which instances will be generated
      * @param streamSize         the number of instances to generate
      * @param <T>            the actual type of the target objects
@@ -114,11 +235,106 @@ public class EasilyRandomer extends Random {
             throw new IllegalArgumentException("The stream size must be positive");
         }
 
-        return Stream.generate(() -> nextObject(type)).limit(streamSize);
+        return objects(type, 0, streamSize);
+    }
+
+    /**
+     * Generate a stream of the random instances of the given type at the indexes of the given range.
+     * The stream contains the same instances as the corresponding slice of any stream returned by
+     * {@link #objects(Class, int)}, without generating the instances that precede it.
+     *
+     * @param type           the type for which instances will be generated
+     * @param fromIndex      the index of the first instance (inclusive)
+     * @param toIndex        the index of the last instance (exclusive)
+     * @param <T>            the actual type of the target objects
+     * @return a stream of the random instances of the given type at the given indexes
+     * @throws ObjectCreationException when unable to create a new instance of the given type
+     */
+    public <T> Stream<T> objects(final Class<T> type, final long fromIndex, final long toIndex) {
+        if (fromIndex < 0 || toIndex < fromIndex) {
+            throw new IllegalArgumentException("The index range must be positive and ordered");
+        }
+
+        return StreamSupport.stream(new ObjectSpliterator<>(this, type, fromIndex, toIndex), false);
+    }
+
+    /**
+     * Generate a stream of the random instances of the given type in the given shard of a
+     * stream of the given size. Concatenating the streams of all shards, in order, gives the
+     * same instances as {@link #objects(Class, int)} for the same size, so that a large dataset
+     * can be generated by several processes.
+     *
+     * @param type           the type for which instances will be generated
+     * @param streamSize     the number of instances in all shards
+     * @param shard          the shard to generate
+     * @param <T>            the actual type of the target objects
+     * @return a stream of the random instances of the given type in the given shard
+     * @throws ObjectCreationException when unable to create a new instance of the given type
+     */
+    public <T> Stream<T> objects(final Class<T> type, final long streamSize, final Shard shard) {
+        Objects.requireNonNull(shard, "Shard must not be null");
+        if (streamSize < 0) {
+            throw new IllegalArgumentException("The stream size must be positive");
+        }
+
+        return objects(type, shard.getFromIndex(streamSize), shard.getToIndex(streamSize));
+    }
+
+    /**
+     * Generate the random instance of the given type at the given index.
+     *
+     * The instance depends only on the seed, the type and the index: it is generated from a
+     * counter based random source derived from them, and not from the state of this instance
+     * or of its randomizers. It is therefore generated in constant time, whatever the index,
+     * and is equal to the instance at the same index in {@link #objects(Class, int)}.
+     *
+     * @param type           the type for which an instance will be generated
+     * @param index          the index of the instance
+     * @param <T>            the actual type of the target object
+     * @return the random instance of the given type at the given index
+     * @throws ObjectCreationException when unable to create a new instance of the given type
+     */
+    public <T> T nextObject(final Class<T> type, final long index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("The index must be positive");
+        }
+
+        RandomSource previous = BindableRandom.bind(indexedSource(seedOf(type, index)));
+        try {
+            return nextObject(type);
+        } finally {
+            BindableRandom.unbind(previous);
+        }
+    }
+
+    private RandomSource indexedSource(final long seed) {
+        RandomSource.Algorithm algorithm = parameters.getRandomSource();
+        // in the java.util.Random mode, objects at an index keep being generated with SplitMix64 so that they do not change
+        return algorithm == RandomSource.Algorithm.JDK ? new SplittableRandomSource(seed) : algorithm.create(seed);
+    }
+
+    private long seedOf(final Class<?> type, final long index) {
+        // hash the type name rather than the class, so that seeds are the same in all JVMs
+        long typeSeed = mix64(parameters.getSeed() ^ mix64(type.getName().hashCode()));
+        return mix64(typeSeed + GOLDEN_GAMMA * index);
+    }
+
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    Object doPopulateField(final Field field, final RandomizationContext context) {
+        return fieldPopulator.generateRandomValue(field, context);
+    }
+
+    Object doPopulateField(final Field field, final int size, final RandomizationContext context) {
+        return fieldPopulator.generateRandomValue(field, size, context);
     }
 
     <T> T doPopulateBean(final Class<T> type, final RandomizationContext context) {
-        if (exclusionPolicy.shouldBeExcluded(type, context)) {
+        if (isExcluded(type, context)) {
             return null;
         }
 
@@ -126,10 +342,10 @@ public class EasilyRandomer extends Random {
         try {
 
             Randomizer<?> randomizer = randomizerProvider.getRandomizerByType(type, context);
+            if (randomizer instanceof ContextAwareRandomizer) {
+                return (T) ((ContextAwareRandomizer<?>) randomizer).getRandomValue(context);
+            }
             if (randomizer != null) {
-                if (randomizer instanceof ContextAwareRandomizer) {
-                    ((ContextAwareRandomizer<?>) randomizer).setRandomizerContext(context);
-                }
                 return (T) randomizer.getRandomValue();
             }
 
@@ -143,26 +359,28 @@ public class EasilyRandomer extends Random {
                 return (T) context.getPopulatedBean(type);
             }
 
+            GeneratedPopulator generatedPopulator = getGeneratedPopulator(type, context);
+
             // create a new instance of the target type
-            result = objectFactory.createInstance(type, context);
+            result = generatedPopulator != null
+                    ? generatedPopulator.newInstance(type, (ObjenesisObjectFactory) objectFactory, context)
+                    : objectFactory.createInstance(type, context);
             context.setRandomizedObject(result);
 
             // cache instance in the population context
             context.addPopulatedBean(type, result);
 
-            // retrieve declared and inherited fields
-            List<Field> fields = getDeclaredFields(result);
-            // we cannot use type here, because with classpath scanning enabled the result can be a subtype
-            fields.addAll(getInheritedFields(result.getClass()));
-
-            // inner classes (and static nested classes) have a field named "this$0" that references the enclosing class.
-            // This field should be excluded
-            if (type.getEnclosingClass() != null) {
-                fields.removeIf(field -> field.getName().equals("this$0"));
+            if (generatedPopulator != null) {
+                generatedPopulator.populate(result, context, fieldPopulator);
+                return result;
             }
 
+            // retrieve the population plan of declared and inherited fields
+            // we cannot use type here, because with classpath scanning enabled the result can be a subtype
+            PopulationPlan plan = populationPlanCache.getPlan(result.getClass(), context);
+
             // populate fields with random data
-            populateFields(fields, result, context);
+            populateFields(plan, result, context);
 
             return result;
         } catch (Throwable e) {
@@ -174,12 +392,86 @@ public class EasilyRandomer extends Random {
         }
     }
 
+    /**
+     * Get the randomizer that {@link #doPopulateBean(Class, RandomizationContext)} would invoke to generate
+     * a value of the given type, so that several values can be generated without resolving it each time.
+     *
+     * @param type the type of the values
+     * @param context the current randomization context
+     * @return the randomizer of the given type, or null if the type is excluded, has no randomizer
+     *         or has a context aware randomizer
+     */
+    Randomizer<?> getPlainRandomizer(final Class<?> type, final RandomizationContext context) {
+        if (isExcluded(type, context)) {
+            return null;
+        }
+        Randomizer<?> randomizer = randomizerProvider.getRandomizerByType(type, context);
+        return randomizer instanceof ContextAwareRandomizer ? null : randomizer;
+    }
+
+    private boolean isExcluded(final Class<?> type, final RandomizationContext context) {
+        TypeExclusions exclusions = typeExclusions;
+        if (exclusions == null) {
+            return exclusionPolicy.shouldBeExcluded(type, context);
+        }
+        long modifications = parameters.getExclusionModifications();
+        if (exclusions.modifications != modifications) {
+            exclusions = new TypeExclusions(modifications);
+            typeExclusions = exclusions;
+        }
+        return exclusions.get(type);
+    }
+
+    private final class TypeExclusions extends ClassValue<Boolean> {
+
+        // exclusion modifications of the parameters when these decisions started to be made
+        private final long modifications;
+
+        private TypeExclusions(final long modifications) {
+            this.modifications = modifications;
+        }
+
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            return exclusionPolicy.shouldBeExcluded(type, new RandomizationContext(type, parameters));
+        }
+    }
+
+    private final class GeneratedPopulators {
+
+        private final long exclusionModifications;
+        private final long registriesVersion;
+        private final boolean overrideDefaultInitialization;
+        private final boolean bypassSetters;
+
+        // empty when no populator can be generated for a type
+        private final Map<Class<?>, Optional<GeneratedPopulator>> byType = new ConcurrentHashMap<>();
+
+        private GeneratedPopulators(final long exclusionModifications, final long registriesVersion) {
+            this.exclusionModifications = exclusionModifications;
+            this.registriesVersion = registriesVersion;
+            this.overrideDefaultInitialization = parameters.isOverrideDefaultInitialization();
+            this.bypassSetters = parameters.isBypassSetters();
+        }
+
+        private boolean isCurrent(final long exclusionModifications, final long registriesVersion) {
+            return this.exclusionModifications == exclusionModifications && this.registriesVersion == registriesVersion
+                    && overrideDefaultInitialization == parameters.isOverrideDefaultInitialization()
+                    && bypassSetters == parameters.isBypassSetters();
+        }
+
+        private GeneratedPopulator get(final Class<?> type, final RandomizationContext context) {
+            return byType.computeIfAbsent(type, key -> Optional.ofNullable(GeneratedPopulator.generate(key,
+                    populationPlanCache.getPlan(key, context), (RegistriesRandomizerProvider) randomizerProvider, context)))
+                    .orElse(null);
+        }
+    }
+
     private <T> T randomize(final Class<T> type, final RandomizationContext context) {
         if (isEnumType(type)) {
-            if (!enumRandomizersByType.containsKey(type)) {
-                enumRandomizersByType.put(type, new EnumRandomizer(type, parameters.getSeed()));
-            }
-            return (T) enumRandomizersByType.get(type).getRandomValue();
+            return (T) enumRandomizersByType
+                    .computeIfAbsent(type, enumType -> new EnumRandomizer(enumType, parameters.getSeed()))
+                    .getRandomValue();
         }
         if (isArrayType(type)) {
             return (T) arrayPopulator.getRandomArray(type, context);
@@ -193,20 +485,44 @@ public class EasilyRandomer extends Random {
         return null;
     }
 
-    private <T> void populateFields(final List<Field> fields, final T result, final RandomizationContext context) throws IllegalAccessException {
-        for (final Field field : fields) {
-            populateField(field, result, context);
+    private <T> void populateFields(final PopulationPlan plan, final T result, final RandomizationContext context) throws IllegalAccessException {
+        boolean exclusionCheckRequired = plan.isExclusionCheckRequired();
+        for (final FieldPlan fieldPlan : plan.getFieldPlans()) {
+            if (exclusionCheckRequired && exclusionPolicy.shouldBeExcluded(fieldPlan.getField(), context)) {
+                continue;
+            }
+            populateField(fieldPlan, result, context);
         }
     }
 
-    private <T> void populateField(final Field field, final T result, final RandomizationContext context) throws IllegalAccessException {
-        if (exclusionPolicy.shouldBeExcluded(field, context)) {
+    private <T> void populateField(final FieldPlan fieldPlan, final T result, final RandomizationContext context) throws IllegalAccessException {
+        if (!parameters.isOverrideDefaultInitialization() && fieldPlan.isInitialized(result, parameters)) {
             return;
         }
-        if (!parameters.isOverrideDefaultInitialization() && getFieldValue(result, field) != null && !isPrimitiveFieldWithDefaultValue(result, field)) {
-          return;
+        fieldPopulator.populateField(result, fieldPlan, context);
+    }
+
+    /*
+     * Generated populators assign fields from the randomizers and the exclusions of the time they are generated,
+     * so they can only be used when these do not depend on the context, and are generated again when these change.
+     */
+    private GeneratedPopulator getGeneratedPopulator(final Class<?> type, final RandomizationContext context) {
+        if (!generatedPopulatorsSupported || !parameters.isGeneratedPopulators() || isAbstract(type)
+                || parameters.getFieldAccessStrategy().getClass() != MethodHandleFieldAccessStrategy.class) {
+            return null;
+        }
+        GeneratedPopulators populators = generatedPopulators;
+        long exclusionModifications = parameters.getExclusionModifications();
+        long registriesVersion = ((RegistriesRandomizerProvider) randomizerProvider).getVersion();
+        if (populators == null || !populators.isCurrent(exclusionModifications, registriesVersion)) {
+            populators = new GeneratedPopulators(exclusionModifications, registriesVersion);
+            generatedPopulators = populators;
         }
-        fieldPopulator.populateField(result, field, context);
+        return populators.get(type, context);
+    }
+
+    PopulationPlanCache getPopulationPlanCache() {
+        return populationPlanCache;
     }
 
     private LinkedHashSet<RandomizerRegistry> setupRandomizerRegistries(EasilyRandomerParameters parameters) {
@@ -220,9 +536,29 @@ public class EasilyRandomer extends Random {
     }
 
     private Collection<RandomizerRegistry> loadRegistries() {
-        List<RandomizerRegistry> registries = new ArrayList<>();
-        ServiceLoader.load(RandomizerRegistry.class).forEach(registries::add);
+        List<ServiceLoader.Provider<RandomizerRegistry>> providers = getRegistryProviders(Thread.currentThread().getContextClassLoader());
+        List<RandomizerRegistry> registries = new ArrayList<>(providers.size());
+        for (ServiceLoader.Provider<RandomizerRegistry> provider : providers) {
+            // each engine gets its own registries
+            registries.add(provider.get());
+        }
         return registries;
     }
 
+    /*
+     * Service files are scanned once per class loader. Providers are softly referenced
+     * so that class loaders (and the registry classes they loaded) can be collected.
+     */
+    private static List<ServiceLoader.Provider<RandomizerRegistry>> getRegistryProviders(final ClassLoader classLoader) {
+        synchronized (REGISTRY_PROVIDERS) {
+            SoftReference<List<ServiceLoader.Provider<RandomizerRegistry>>> reference = REGISTRY_PROVIDERS.get(classLoader);
+            List<ServiceLoader.Provider<RandomizerRegistry>> providers = reference == null ? null : reference.get();
+            if (providers == null) {
+                providers = ServiceLoader.load(RandomizerRegistry.class, classLoader).stream().collect(Collectors.toList());
+                REGISTRY_PROVIDERS.put(classLoader, new SoftReference<>(providers));
+            }
+            return providers;
+        }
+    }
+
 }
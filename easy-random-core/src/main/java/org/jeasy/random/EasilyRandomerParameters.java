@@ -26,12 +26,15 @@ package org.jeasy.random;
 import org.jeasy.random.api.*;
 import org.jeasy.random.randomizers.registry.CustomRandomizerRegistry;
 import org.jeasy.random.randomizers.registry.ExclusionRandomizerRegistry;
+import org.jeasy.random.util.ClasspathScanner;
+import org.jeasy.random.util.RandomSource;
 
 import java.lang.reflect.Field;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.time.*;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 
 import static java.lang.String.format;
@@ -90,9 +93,12 @@ public class EasilyRandomerParameters {
     private int randomizationDepth;
     private Charset charset;
     private boolean scanClasspathForConcreteTypes;
+    private ClasspathScanner classpathScanner;
     private boolean overrideDefaultInitialization;
     private boolean ignoreRandomizationErrors;
     private boolean bypassSetters;
+    private boolean generatedPopulators;
+    private RandomSource.Algorithm randomSource;
     private Range<Integer> collectionSizeRange;
     private Range<Integer> stringLengthRange;
     private Range<LocalDate> dateRange;
@@ -100,6 +106,7 @@ public class EasilyRandomerParameters {
     private ExclusionPolicy exclusionPolicy;
     private ObjectFactory objectFactory;
     private RandomizerProvider randomizerProvider;
+    private FieldAccessStrategy fieldAccessStrategy;
 
     // internal params
     private CustomRandomizerRegistry customRandomizerRegistry;
@@ -107,6 +114,8 @@ public class EasilyRandomerParameters {
     private Set<RandomizerRegistry> userRegistries;
     private Set<Predicate<Field>> fieldExclusionPredicates;
     private Set<Predicate<Class<?>>> typeExclusionPredicates;
+    // incremented each time an exclusion predicate is added, shared with copies since they share the predicates
+    private AtomicLong exclusionModifications;
 
     /**
      * Create a new {@link EasilyRandomerParameters} with default values.
@@ -115,9 +124,12 @@ public class EasilyRandomerParameters {
         seed = new Random().nextLong();
         charset = DEFAULT_CHARSET;
         scanClasspathForConcreteTypes = false;
+        classpathScanner = ClasspathScanner.getDefault();
         overrideDefaultInitialization = false;
         ignoreRandomizationErrors = false;
         bypassSetters = false;
+        generatedPopulators = false;
+        randomSource = RandomSource.Algorithm.JDK;
         objectPoolSize = DEFAULT_OBJECT_POOL_SIZE;
         randomizationDepth = DEFAULT_RANDOMIZATION_DEPTH;
         dateRange = new Range<>(DEFAULT_DATES_RANGE.getMin().toLocalDate(), DEFAULT_DATES_RANGE.getMax().toLocalDate());
@@ -129,8 +141,10 @@ public class EasilyRandomerParameters {
         userRegistries = new LinkedHashSet<>();
         fieldExclusionPredicates = new HashSet<>();
         typeExclusionPredicates = new HashSet<>();
+        exclusionModifications = new AtomicLong();
         exclusionPolicy = new DefaultExclusionPolicy();
         objectFactory = new ObjenesisObjectFactory();
+        fieldAccessStrategy = new MethodHandleFieldAccessStrategy();
     }
 
     public Range<Integer> getCollectionSizeRange() {
@@ -203,6 +217,15 @@ public class EasilyRandomerParameters {
         this.scanClasspathForConcreteTypes = scanClasspathForConcreteTypes;
     }
 
+    public ClasspathScanner getClasspathScanner() {
+        return classpathScanner;
+    }
+
+    public void setClasspathScanner(ClasspathScanner classpathScanner) {
+        Objects.requireNonNull(classpathScanner, "Classpath scanner must not be null");
+        this.classpathScanner = classpathScanner;
+    }
+
     public boolean isOverrideDefaultInitialization() {
         return overrideDefaultInitialization;
     }
@@ -225,6 +248,23 @@ public class EasilyRandomerParameters {
         this.bypassSetters = bypassSetters;
     }
 
+    public boolean isGeneratedPopulators() {
+        return generatedPopulators;
+    }
+
+    public void setGeneratedPopulators(boolean generatedPopulators) {
+        this.generatedPopulators = generatedPopulators;
+    }
+
+    public RandomSource.Algorithm getRandomSource() {
+        return randomSource;
+    }
+
+    public void setRandomSource(RandomSource.Algorithm randomSource) {
+        Objects.requireNonNull(randomSource, "Random source must not be null");
+        this.randomSource = randomSource;
+    }
+
     public ExclusionPolicy getExclusionPolicy() {
         return exclusionPolicy;
     }
@@ -249,6 +289,14 @@ public class EasilyRandomerParameters {
         this.randomizerProvider = randomizerProvider;
     }
 
+    public FieldAccessStrategy getFieldAccessStrategy() {
+        return fieldAccessStrategy;
+    }
+    public void setFieldAccessStrategy(FieldAccessStrategy fieldAccessStrategy) {
+        Objects.requireNonNull(fieldAccessStrategy, "Field access strategy must not be null");
+        this.fieldAccessStrategy = fieldAccessStrategy;
+    }
+
     public Set<Predicate<Field>> getFieldExclusionPredicates() {
         return fieldExclusionPredicates;
     }
@@ -257,6 +305,17 @@ public class EasilyRandomerParameters {
         return typeExclusionPredicates;
     }
 
+    /**
+     * Get the number of exclusion predicates added with {@link #excludeField(Predicate)} and
+     * {@link #excludeType(Predicate)} so far, by these parameters or by their copies. Engines
+     * memoize exclusion decisions until it changes.
+     *
+     * @return the number of modifications of the exclusion predicates
+     */
+    long getExclusionModifications() {
+        return exclusionModifications.get();
+    }
+
     CustomRandomizerRegistry getCustomRandomizerRegistry() {
         return customRandomizerRegistry;
     }
@@ -314,6 +373,7 @@ public class EasilyRandomerParameters {
         Objects.requireNonNull(predicate, "Predicate must not be null");
         fieldExclusionPredicates.add(predicate);
         exclusionRandomizerRegistry.addFieldPredicate(predicate);
+        exclusionModifications.incrementAndGet();
         return this;
     }
 
@@ -329,6 +389,7 @@ public class EasilyRandomerParameters {
         Objects.requireNonNull(predicate, "Predicate must not be null");
         typeExclusionPredicates.add(predicate);
         exclusionRandomizerRegistry.addTypePredicate(predicate);
+        exclusionModifications.incrementAndGet();
         return this;
     }
 
@@ -365,6 +426,17 @@ public class EasilyRandomerParameters {
         return this;
     }
 
+    /**
+     * Provide a custom field access strategy.
+     *
+     * @param fieldAccessStrategy to use
+     * @return the current {@link EasilyRandomerParameters} instance for method chaining
+     */
+    public EasilyRandomerParameters fieldAccessStrategy(FieldAccessStrategy fieldAccessStrategy) {
+        setFieldAccessStrategy(fieldAccessStrategy);
+        return this;
+    }
+
     /**
      * Set the initial random seed.
      *
@@ -504,6 +576,22 @@ public class EasilyRandomerParameters {
         return this;
     }
 
+    /**
+     * Set the scanner used to find concrete types when the classpath is scanned. By default, a scanner
+     * of all packages, JDK modules and jars included, is shared by all {@link EasilyRandomer}s.
+     *
+     * Restricting the scan to the packages of the application makes the first scan faster and the
+     * index of the classpath smaller. The scanner can be closed to release this index once objects
+     * have been generated.
+     *
+     * @param classpathScanner the classpath scanner to use
+     * @return the current {@link EasilyRandomerParameters} instance for method chaining
+     */
+    public EasilyRandomerParameters classpathScanner(final ClasspathScanner classpathScanner) {
+        setClasspathScanner(classpathScanner);
+        return this;
+    }
+
     /**
      * With this parameter, any randomization error will be silently ignored and the corresponding field will be set to null.
      *
@@ -555,6 +643,47 @@ public class EasilyRandomerParameters {
         return this;
     }
 
+    /**
+     * Flag to populate beans with classes generated at first use of each type. False by default.
+     *
+     * The class generated for a type creates instances with a direct constructor call, and assigns the fields
+     * that have a plain randomizer directly (or through their setter), without any reflective call per field.
+     * Other fields (generic type variables, abstract types, nested beans, collections, fields with a
+     * {@link ContextAwareRandomizer}, final fields, etc) are populated as usual. Generated
+     * classes are only used when all randomizer registries are {@link RandomizerRegistry#isStable() stable},
+     * and when the exclusion policy, the object factory, the field access strategy and the randomizer provider
+     * are the default ones. Objects are the same as without generated classes.
+     *
+     * @param generatedPopulators true if populators should be generated
+     * @return the current {@link EasilyRandomerParameters} instance for method chaining
+     */
+    public EasilyRandomerParameters generatedPopulators(boolean generatedPopulators) {
+        setGeneratedPopulators(generatedPopulators);
+        return this;
+    }
+
+    /**
+     * Set the algorithm of the random source used to generate objects. {@link RandomSource.Algorithm#JDK}
+     * by default.
+     *
+     * With the default algorithm, randomizers draw their values from their own {@link Random}, and strings
+     * as well as the sizes of arrays, collections and maps are drawn as in previous versions, so that objects
+     * generated with a given seed by {@link EasilyRandomer#nextObject(Class)} are the same as with previous
+     * versions (except for strings of a charset other than US-ASCII, which previous versions ignored).
+     * Streams returned by {@link EasilyRandomer#objects(Class, int)} are not: each of their objects is
+     * generated from its index (see {@link EasilyRandomer#nextObject(Class, long)}). With other algorithms,
+     * a source seeded by the engine is bound to the generating thread for each object, and all the values
+     * of the object are drawn from this source without any synchronization. Objects are still reproducible
+     * for a given seed, but are different from the ones generated with the default algorithm.
+     *
+     * @param randomSource the algorithm of the random source
+     * @return the current {@link EasilyRandomerParameters} instance for method chaining
+     */
+    public EasilyRandomerParameters randomSource(final RandomSource.Algorithm randomSource) {
+        setRandomSource(randomSource);
+        return this;
+    }
+
     /**
      * Utility class to hold a range of values.
      *
@@ -598,9 +727,12 @@ public class EasilyRandomerParameters {
         copy.setRandomizationDepth(this.getRandomizationDepth());
         copy.setCharset(this.getCharset());
         copy.setScanClasspathForConcreteTypes(this.isScanClasspathForConcreteTypes());
+        copy.setClasspathScanner(this.getClasspathScanner());
         copy.setOverrideDefaultInitialization(this.isOverrideDefaultInitialization());
         copy.setIgnoreRandomizationErrors(this.isIgnoreRandomizationErrors());
         copy.setBypassSetters(this.isBypassSetters());
+        copy.setGeneratedPopulators(this.isGeneratedPopulators());
+        copy.setRandomSource(this.getRandomSource());
         copy.setCollectionSizeRange(this.getCollectionSizeRange());
         copy.setStringLengthRange(this.getStringLengthRange());
         copy.setDateRange(this.getDateRange());
@@ -608,11 +740,13 @@ public class EasilyRandomerParameters {
         copy.setExclusionPolicy(this.getExclusionPolicy());
         copy.setObjectFactory(this.getObjectFactory());
         copy.setRandomizerProvider(this.getRandomizerProvider());
+        copy.setFieldAccessStrategy(this.getFieldAccessStrategy());
         copy.customRandomizerRegistry = this.getCustomRandomizerRegistry();
         copy.exclusionRandomizerRegistry = this.getExclusionRandomizerRegistry();
         copy.userRegistries = this.getUserRegistries();
         copy.fieldExclusionPredicates = this.getFieldExclusionPredicates();
         copy.typeExclusionPredicates = this.getTypeExclusionPredicates();
+        copy.exclusionModifications = this.exclusionModifications;
         return copy;
     }
 }
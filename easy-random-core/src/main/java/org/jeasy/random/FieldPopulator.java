@@ -27,13 +27,13 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.TypeVariable;
 import java.util.List;
 
+import org.jeasy.random.PopulationPlan.FieldPlan;
 import org.jeasy.random.api.ContextAwareRandomizer;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.api.RandomizerProvider;
 import org.jeasy.random.randomizers.misc.SkipRandomizer;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Type;
 
 import static org.jeasy.random.util.ReflectionUtils.*;
@@ -64,10 +64,14 @@ class FieldPopulator {
 
     private final RandomizerProvider randomizerProvider;
 
+    private final PopulationPlanCache populationPlanCache;
+
     FieldPopulator(final EasilyRandomer easilyRandomer, final RandomizerProvider randomizerProvider,
                    final ArrayPopulator arrayPopulator, final CollectionPopulator collectionPopulator,
-                   final MapPopulator mapPopulator, OptionalPopulator optionalPopulator) {
+                   final MapPopulator mapPopulator, OptionalPopulator optionalPopulator,
+                   final PopulationPlanCache populationPlanCache) {
         this.easilyRandomer = easilyRandomer;
+        this.populationPlanCache = populationPlanCache;
         this.randomizerProvider = randomizerProvider;
         this.arrayPopulator = arrayPopulator;
         this.collectionPopulator = collectionPopulator;
@@ -76,21 +80,25 @@ class FieldPopulator {
     }
 
     void populateField(final Object target, final Field field, final RandomizationContext context) throws IllegalAccessException {
-        Randomizer<?> randomizer = getRandomizer(field, context);
+        populateField(target, populationPlanCache.getFieldPlan(target.getClass(), field, context), context);
+    }
+
+    void populateField(final Object target, final FieldPlan fieldPlan, final RandomizationContext context) throws IllegalAccessException {
+        Field field = fieldPlan.getField();
+        Randomizer<?> randomizer = getRandomizer(fieldPlan, context);
         if (randomizer instanceof SkipRandomizer) {
             return;
         }
-        context.pushStackItem(new RandomizationContextStackItem(target, field));
-        if (randomizer instanceof ContextAwareRandomizer) {
-            ((ContextAwareRandomizer<?>) randomizer).setRandomizerContext(context);
-        }
-        if(!context.hasExceededRandomizationDepth()) {
+        context.pushStackItem(target, field);
+        if(!context.hasExceededRandomizationDepth() && !fieldPlan.setPrimitiveValue(target, randomizer, context.getParameters())) {
             Object value;
-            if (randomizer != null) {
+            if (randomizer instanceof ContextAwareRandomizer) {
+                value = ((ContextAwareRandomizer<?>) randomizer).getRandomValue(context);
+            } else if (randomizer != null) {
                 value = randomizer.getRandomValue();
             } else {
                 try {
-                    value = generateRandomValue(field, context);
+                    value = generateRandomValue(fieldPlan, context);
                 } catch (ObjectCreationException e) {
                     String exceptionMessage = String.format("Unable to create type: %s for field: %s of class: %s",
                           field.getType().getName(), field.getName(), target.getClass().getName());
@@ -98,27 +106,17 @@ class FieldPopulator {
                     throw new ObjectCreationException(exceptionMessage, e);
                 }
             }
-            if (context.getParameters().isBypassSetters()) {
-                setFieldValue(target, field, value);
-            } else {
-                try {
-                    setProperty(target, field, value);
-                } catch (InvocationTargetException e) {
-                    String exceptionMessage = String.format("Unable to invoke setter for field %s of class %s",
-                            field.getName(), target.getClass().getName());
-                    throw new ObjectCreationException(exceptionMessage,  e.getCause());
-                }
-            }
+            fieldPlan.setValue(target, value, context.getParameters());
         }
         context.popStackItem();
     }
 
-    private Randomizer<?> getRandomizer(Field field, RandomizationContext context) {
+    private Randomizer<?> getRandomizer(FieldPlan fieldPlan, RandomizationContext context) {
+        Field field = fieldPlan.getField();
         // issue 241: if there is no custom randomizer by field, then check by type
         Randomizer<?> randomizer = randomizerProvider.getRandomizerByField(field, context);
         if (randomizer == null) {
-            Type genericType = field.getGenericType();
-            if (isTypeVariable(genericType)) {
+            if (fieldPlan.isTypeVariableField()) {
                 // if generic type, retrieve actual type from declaring class
                 Class<?> type = getParametrizedType(field, context);
                 randomizer = randomizerProvider.getRandomizerByType(type, context);
@@ -129,36 +127,65 @@ class FieldPopulator {
         return randomizer;
     }
 
-    private Object generateRandomValue(final Field field, final RandomizationContext context) {
+    /*
+     * Generate a value for the field without its randomizers.
+     */
+    Object generateRandomValue(final Field field, final RandomizationContext context) {
+        return generateRandomValue(getFieldPlan(field, context), context);
+    }
+
+    /*
+     * Generate a value for the field without its randomizers, with the given size for arrays, collections and maps.
+     */
+    Object generateRandomValue(final Field field, final int size, final RandomizationContext context) {
+        FieldPlan fieldPlan = getFieldPlan(field, context);
+        switch (fieldPlan.getPopulatorKind()) {
+            case ARRAY:
+                return arrayPopulator.getRandomArray(field.getType(), size, context);
+            case COLLECTION:
+                return collectionPopulator.getRandomCollection(field, size, context);
+            case MAP:
+                return mapPopulator.getRandomMap(field, size, context);
+            default:
+                return generateRandomValue(fieldPlan, context);
+        }
+    }
+
+    // the field being populated belongs to the current object of the context
+    private FieldPlan getFieldPlan(final Field field, final RandomizationContext context) {
+        Object currentObject = context.getCurrentObject();
+        Class<?> type = currentObject != null ? currentObject.getClass() : field.getDeclaringClass();
+        return populationPlanCache.getFieldPlan(type, field, context);
+    }
+
+    private Object generateRandomValue(final FieldPlan fieldPlan, final RandomizationContext context) {
+        Field field = fieldPlan.getField();
         Class<?> fieldType = field.getType();
-        Type fieldGenericType = field.getGenericType();
-
-        if (isArrayType(fieldType)) {
-            return arrayPopulator.getRandomArray(fieldType, context);
-        } else if (isCollectionType(fieldType)) {
-            return collectionPopulator.getRandomCollection(field, context);
-        } else if (isMapType(fieldType)) {
-            return mapPopulator.getRandomMap(field, context);
-        } else if (isOptionalType(fieldType)) {
-            return optionalPopulator.getRandomOptional(field, context);
-        } else {
-            if (context.getParameters().isScanClasspathForConcreteTypes() && isAbstract(fieldType) && !isEnumType(fieldType) /*enums can be abstract, but cannot inherit*/) {
-                List<Class<?>> parameterizedTypes = filterSameParameterizedTypes(getPublicConcreteSubTypesOf(fieldType), fieldGenericType);
-                if (parameterizedTypes.isEmpty()) {
-                    throw new ObjectCreationException("Unable to find a matching concrete subtype of type: " + fieldType);
-                } else {
-                    Class<?> randomConcreteSubType = parameterizedTypes.get(easilyRandomer.nextInt(parameterizedTypes.size()));
-                    return easilyRandomer.doPopulateBean(randomConcreteSubType, context);
-                }
-            } else {
-                Type genericType = field.getGenericType();
-                if (isTypeVariable(genericType)) {
+
+        switch (fieldPlan.getPopulatorKind()) {
+            case ARRAY:
+                return arrayPopulator.getRandomArray(fieldType, context);
+            case COLLECTION:
+                return collectionPopulator.getRandomCollection(field, context);
+            case MAP:
+                return mapPopulator.getRandomMap(field, context);
+            case OPTIONAL:
+                return optionalPopulator.getRandomOptional(field, context);
+            default:
+                if (context.getParameters().isScanClasspathForConcreteTypes() && fieldPlan.isAbstractType()) {
+                    List<Class<?>> parameterizedTypes = filterSameParameterizedTypes(context.getParameters().getClasspathScanner().getPublicConcreteSubTypesOf(fieldType), field.getGenericType());
+                    if (parameterizedTypes.isEmpty()) {
+                        throw new ObjectCreationException("Unable to find a matching concrete subtype of type: " + fieldType);
+                    } else {
+                        Class<?> randomConcreteSubType = parameterizedTypes.get(easilyRandomer.nextInt(parameterizedTypes.size()));
+                        return easilyRandomer.doPopulateBean(randomConcreteSubType, context);
+                    }
+                } else if (fieldPlan.isTypeVariableField()) {
                     // if generic type, try to retrieve actual type from hierarchy
                     Class<?> type = getParametrizedType(field, context);
                     return easilyRandomer.doPopulateBean(type, context);
                 }
                 return easilyRandomer.doPopulateBean(fieldType, context);
-            }
         }
     }
 
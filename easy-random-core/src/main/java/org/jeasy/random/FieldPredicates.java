@@ -36,6 +36,10 @@ import java.util.regex.Pattern;
  *     Predicate&lt;Field&gt; predicate = named("name").and(ofType(String.class)).and(inClass(Person.class));
  *</pre>
  *
+ * The predicates created by {@link #named(String)}, {@link #ofType(Class)} and {@link #inClass(Class)},
+ * as well as their conjunctions with {@link Predicate#and(Predicate)}, are {@link FieldPredicate}s:
+ * they expose the name, type and declaring class they require, so that they can be indexed.
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
 public class FieldPredicates {
@@ -47,8 +51,11 @@ public class FieldPredicates {
      * @return Predicate to check that a field has a certain name pattern
      */
     public static Predicate<Field> named(final String name) {
+        if (isLiteral(name)) {
+            return new FieldPredicate(field -> field.getName().equals(name), name, null, null);
+        }
         final Pattern pattern = Pattern.compile(name);
-        return field -> pattern.matcher(field.getName()).matches();
+        return new FieldPredicate(field -> pattern.matcher(field.getName()).matches(), null, null, null);
     }
 
     /**
@@ -58,7 +65,7 @@ public class FieldPredicates {
      * @return Predicate to check that a field has a certain type
      */
     public static Predicate<Field> ofType(Class<?> type) {
-        return field -> field.getType().equals(type);
+        return new FieldPredicate(field -> field.getType().equals(type), null, type, null);
     }
 
     /**
@@ -68,7 +75,7 @@ public class FieldPredicates {
      * @return Predicate to check that a field is defined in a given class.
      */
     public static Predicate<Field> inClass(Class<?> clazz) {
-        return field -> field.getDeclaringClass().equals(clazz);
+        return new FieldPredicate(field -> field.getDeclaringClass().equals(clazz), null, null, clazz);
     }
 
     /**
@@ -98,4 +105,86 @@ public class FieldPredicates {
         return field -> (modifiers & field.getModifiers()) == modifiers;
     }
 
+    // a pattern made of letters, digits and underscores only matches itself
+    private static boolean isLiteral(final String name) {
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '_') {
+                return false;
+            }
+        }
+        return !name.isEmpty();
+    }
+
+    /**
+     * A predicate on fields which exposes the exact name, type and declaring class
+     * a field must have to match it. Each of them is {@code null} when the predicate
+     * does not require it. The conjunction of a field predicate with any other
+     * predicate is a field predicate requiring the union of their constraints.
+     *
+     * @since 5.1
+     */
+    public static final class FieldPredicate implements Predicate<Field> {
+
+        private final Predicate<Field> predicate;
+
+        private final String name;
+
+        private final Class<?> type;
+
+        private final Class<?> declaringClass;
+
+        private FieldPredicate(final Predicate<Field> predicate, final String name, final Class<?> type, final Class<?> declaringClass) {
+            this.predicate = predicate;
+            this.name = name;
+            this.type = type;
+            this.declaringClass = declaringClass;
+        }
+
+        /**
+         * Get the name a field must have to match this predicate.
+         *
+         * @return the name of matching fields, or {@code null} if not required
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Get the type a field must have to match this predicate.
+         *
+         * @return the type of matching fields, or {@code null} if not required
+         */
+        public Class<?> getType() {
+            return type;
+        }
+
+        /**
+         * Get the class in which a field must be declared to match this predicate.
+         *
+         * @return the declaring class of matching fields, or {@code null} if not required
+         */
+        public Class<?> getDeclaringClass() {
+            return declaringClass;
+        }
+
+        @Override
+        public boolean test(final Field field) {
+            return predicate.test(field);
+        }
+
+        @Override
+        public Predicate<Field> and(final Predicate<? super Field> other) {
+            Predicate<Field> conjunction = Predicate.super.and(other);
+            if (other instanceof FieldPredicate) {
+                FieldPredicate fieldPredicate = (FieldPredicate) other;
+                return new FieldPredicate(conjunction,
+                        name != null ? name : fieldPredicate.name,
+                        type != null ? type : fieldPredicate.type,
+                        declaringClass != null ? declaringClass : fieldPredicate.declaringClass);
+            }
+            return new FieldPredicate(conjunction, name, type, declaringClass);
+        }
+    }
+
 }
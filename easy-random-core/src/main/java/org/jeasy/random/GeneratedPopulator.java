@@ -0,0 +1,455 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.PopulationPlan.FieldPlan;
+import org.jeasy.random.api.ContextAwareRandomizer;
+import org.jeasy.random.api.PrimitiveRandomizer;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.randomizers.misc.SkipRandomizer;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+
+import static java.lang.invoke.MethodType.methodType;
+import static org.jeasy.random.util.ReflectionUtils.getWriteMethod;
+
+/**
+ * Populator of a type backed by a class generated at first use of the type, which creates instances with
+ * a direct constructor call and assigns each field from its resolved randomizer without any reflective call
+ * (see {@link PopulatorClassWriter}). Fields whose value cannot be resolved once per type (generic type
+ * variables, nested beans, collections, abstract types, fields with a {@link ContextAwareRandomizer}, etc)
+ * are populated by the {@link FieldPopulator}, at their place in the population plan, so that objects are
+ * the same as without generated populators.
+ *
+ * A generated class only depends on the fields of its type and on the way they are assigned, so it is
+ * defined once per type and per such shape in the JVM, and shared by all the engines. Each engine
+ * instantiates it with its own randomizers.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+class GeneratedPopulator {
+
+    private static final MethodType CONSTRUCTOR_TYPE = methodType(Object.class, Object[].class, Object[].class);
+
+    // constructors of the generated classes, by populated type and shape, empty when a class cannot be generated
+    private static final ClassValue<Map<String, Optional<MethodHandle>>> CONSTRUCTORS = new ClassValue<Map<String, Optional<MethodHandle>>>() {
+        @Override
+        protected Map<String, Optional<MethodHandle>> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final AtomicLong GENERATED_CLASSES = new AtomicLong();
+
+    private static final Map<Class<?>, Class<?>> PRIMITIVE_RANDOMIZERS = new HashMap<>();
+
+    static {
+        PRIMITIVE_RANDOMIZERS.put(boolean.class, PrimitiveRandomizer.OfBoolean.class);
+        PRIMITIVE_RANDOMIZERS.put(byte.class, PrimitiveRandomizer.OfByte.class);
+        PRIMITIVE_RANDOMIZERS.put(char.class, PrimitiveRandomizer.OfChar.class);
+        PRIMITIVE_RANDOMIZERS.put(short.class, PrimitiveRandomizer.OfShort.class);
+        PRIMITIVE_RANDOMIZERS.put(int.class, PrimitiveRandomizer.OfInt.class);
+        PRIMITIVE_RANDOMIZERS.put(long.class, PrimitiveRandomizer.OfLong.class);
+        PRIMITIVE_RANDOMIZERS.put(float.class, PrimitiveRandomizer.OfFloat.class);
+        PRIMITIVE_RANDOMIZERS.put(double.class, PrimitiveRandomizer.OfDouble.class);
+    }
+
+    private final List<FieldPlan> fieldPlans;
+
+    // null if instances are created by the object factory
+    private final Supplier<?> instantiator;
+
+    private final BiConsumer<Object, Object> populator;
+
+    private final boolean fallback;
+
+    private GeneratedPopulator(final List<FieldPlan> fieldPlans, final Supplier<?> instantiator,
+                               final BiConsumer<Object, Object> populator, final boolean fallback) {
+        this.fieldPlans = fieldPlans;
+        this.instantiator = instantiator;
+        this.populator = populator;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Generate the populator of the given type, or reuse the class generated for the same shape.
+     *
+     * @param type the (concrete) type to populate
+     * @param plan the population plan of the type
+     * @param randomizerProvider the provider of randomizers, whose answers only change with its version
+     * @param context the current randomization context
+     * @return the populator of the type, or null if no class can be generated for it
+     */
+    @SuppressWarnings("unchecked")
+    static GeneratedPopulator generate(final Class<?> type, final PopulationPlan plan,
+                                       final RegistriesRandomizerProvider randomizerProvider, final RandomizationContext context) {
+        // the populator generated at compile time is used instead
+        if (Populators.getPopulator(type) != null) {
+            return null;
+        }
+        EasilyRandomerParameters parameters = context.getParameters();
+        List<FieldPlan> fieldPlans = plan.getFieldPlans();
+        List<Assignment> assignments = new ArrayList<>(fieldPlans.size());
+        StringBuilder shape = new StringBuilder();
+        shape.append(parameters.isOverrideDefaultInitialization()).append(parameters.isBypassSetters());
+        boolean fallback = false;
+        for (FieldPlan fieldPlan : fieldPlans) {
+            Assignment assignment = Assignment.of(type, fieldPlan, randomizerProvider, context);
+            assignments.add(assignment);
+            fallback |= assignment.kind == Kind.FALLBACK;
+            shape.append(';').append(fieldPlan.getField()).append(':').append(assignment.kind);
+            if (assignment.randomizerType != null) {
+                shape.append(assignment.randomizerType.getSimpleName()).append(assignment.readThroughHandle);
+            }
+        }
+        boolean instantiable = isInstantiable(type);
+        boolean generatedFallback = fallback;
+        Optional<MethodHandle> constructor = CONSTRUCTORS.get(type).computeIfAbsent(shape.toString(),
+                key -> defineClass(type, assignments, instantiable, generatedFallback, parameters.isOverrideDefaultInitialization()));
+        if (!constructor.isPresent()) {
+            return null;
+        }
+
+        List<Object> randomizers = new ArrayList<>();
+        List<Object> handles = new ArrayList<>();
+        Object instance;
+        try {
+            for (Assignment assignment : assignments) {
+                if (assignment.randomizer != null) {
+                    randomizers.add(assignment.randomizer);
+                }
+                assignment.addHandles(handles, parameters.isOverrideDefaultInitialization());
+            }
+            instance = (Object) constructor.get().invokeExact(randomizers.toArray(), handles.toArray());
+        } catch (Throwable throwable) {
+            return null;
+        }
+        return new GeneratedPopulator(fieldPlans, instantiable ? (Supplier<?>) instance : null,
+                (BiConsumer<Object, Object>) instance, fallback);
+    }
+
+    private static Optional<MethodHandle> defineClass(final Class<?> type, final List<Assignment> assignments,
+                                                      final boolean instantiable, final boolean fallback,
+                                                      final boolean overrideDefaultInitialization) {
+        try {
+            String className = type.getName() + "$$EasilyRandomerPopulator$" + GENERATED_CLASSES.incrementAndGet();
+            PopulatorClassWriter writer = new PopulatorClassWriter(className, type, instantiable, fallback);
+            for (int index = 0; index < assignments.size(); index++) {
+                assignments.get(index).write(writer, type, index, overrideDefaultInitialization);
+            }
+            byte[] classFile = writer.toByteArray();
+            if (classFile == null) {
+                return Optional.empty();
+            }
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            Class<?> populatorClass = lookup.defineClass(classFile);
+            return Optional.of(lookup.findConstructor(populatorClass, methodType(void.class, Object[].class, Object[].class))
+                    .asType(CONSTRUCTOR_TYPE));
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            // the type is not open to this module, or the generated class cannot be linked with its class loader
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isInstantiable(final Class<?> type) {
+        if (Modifier.isAbstract(type.getModifiers())) {
+            return false;
+        }
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            return !Modifier.isPrivate(constructor.getModifiers());
+        } catch (NoSuchMethodException | SecurityException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Create an instance of the populated type, with the generated constructor call if possible.
+     *
+     * @param type the populated type
+     * @param objectFactory the object factory of the engine
+     * @param context the current randomization context
+     * @param <T> the populated type
+     * @return a new instance of the type
+     */
+    @SuppressWarnings("unchecked")
+    <T> T newInstance(final Class<T> type, final ObjenesisObjectFactory objectFactory, final RandomizationContext context) {
+        if (instantiator == null) {
+            return objectFactory.createInstance(type, context);
+        }
+        try {
+            return (T) instantiator.get();
+        } catch (Throwable throwable) {
+            // like the object factory, which gets any failure of the constructor from Constructor#newInstance,
+            // fall back to objenesis without invoking the constructor a second time
+            return objectFactory.createInstanceWithoutConstructor(type);
+        }
+    }
+
+    /**
+     * Populate the fields of the given target.
+     *
+     * @param target the object to populate, an instance of the populated type
+     * @param context the current randomization context
+     * @param fieldPopulator the populator of the fields that the generated class does not assign
+     * @throws IllegalAccessException if a field cannot be accessed by the field populator
+     */
+    void populate(final Object target, final RandomizationContext context, final FieldPopulator fieldPopulator) throws IllegalAccessException {
+        // all the fields are at the same depth, none of them is populated when it is exceeded
+        if (context.hasExceededRandomizationDepthOfFields()) {
+            return;
+        }
+        ObjIntConsumer<Object> fieldFallback = fallback ? (object, index) -> populateField(object, index, context, fieldPopulator) : null;
+        try {
+            populator.accept(target, fieldFallback);
+        } catch (FieldAccessException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void populateField(final Object target, final int index, final RandomizationContext context, final FieldPopulator fieldPopulator) {
+        FieldPlan fieldPlan = fieldPlans.get(index);
+        EasilyRandomerParameters parameters = context.getParameters();
+        try {
+            if (!parameters.isOverrideDefaultInitialization() && fieldPlan.isInitialized(target, parameters)) {
+                return;
+            }
+            fieldPopulator.populateField(target, fieldPlan, context);
+        } catch (IllegalAccessException e) {
+            throw new FieldAccessException(e);
+        }
+    }
+
+    private enum Kind {
+        // no code, the field has a SkipRandomizer
+        SKIP,
+        // populated by the field populator
+        FALLBACK,
+        // putfield
+        FIELD,
+        // invokevirtual of the setter
+        SETTER,
+        // method handle setter
+        HANDLE
+    }
+
+    /**
+     * How the generated class assigns a field.
+     */
+    private static class Assignment {
+
+        private final Field field;
+
+        private final Kind kind;
+
+        private final Randomizer<?> randomizer;
+
+        // Randomizer, or the primitive randomizer of the type of a primitive field
+        private final Class<?> randomizerType;
+
+        private final Method setter;
+
+        // the field is read through a method handle to check whether it is initialized
+        private final boolean readThroughHandle;
+
+        private Assignment(final Field field, final Kind kind, final Randomizer<?> randomizer, final Class<?> randomizerType,
+                           final Method setter, final boolean readThroughHandle) {
+            this.field = field;
+            this.kind = kind;
+            this.randomizer = randomizer;
+            this.randomizerType = randomizerType;
+            this.setter = setter;
+            this.readThroughHandle = readThroughHandle;
+        }
+
+        private static Assignment fallback(final Field field) {
+            return new Assignment(field, Kind.FALLBACK, null, null, null, false);
+        }
+
+        static Assignment of(final Class<?> type, final FieldPlan fieldPlan, final RegistriesRandomizerProvider randomizerProvider,
+                             final RandomizationContext context) {
+            Field field = fieldPlan.getField();
+            // the randomizer of a type variable depends on the populated subtype
+            if (fieldPlan.isTypeVariableField()) {
+                return fallback(field);
+            }
+            Randomizer<?> randomizer = randomizerProvider.getRandomizerByField(field, context);
+            if (randomizer == null) {
+                randomizer = randomizerProvider.getRandomizerByType(field.getType(), context);
+            }
+            if (randomizer instanceof SkipRandomizer) {
+                return new Assignment(field, Kind.SKIP, null, null, null, false);
+            }
+            int modifiers = field.getModifiers();
+            if (randomizer == null || randomizer instanceof ContextAwareRandomizer
+                    || Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers)) {
+                return fallback(field);
+            }
+
+            Class<?> fieldType = field.getType();
+            Class<?> randomizerType = Randomizer.class;
+            if (fieldType.isPrimitive()) {
+                randomizerType = PRIMITIVE_RANDOMIZERS.get(fieldType);
+                if (!PrimitiveRandomizers.isUnboxed(randomizer) || !randomizerType.isInstance(randomizer)) {
+                    return fallback(field);
+                }
+            }
+            if (!isLinkable(type, fieldType) || !isLinkable(type, field.getDeclaringClass())
+                    || !isLinkable(type, randomizerType) || !isLinkable(type, ObjectCreationException.class)) {
+                return fallback(field);
+            }
+            // values of fields assigned directly or through their setter are cast to the type of the field
+            boolean castable = isAccessible(type, fieldType);
+
+            boolean fieldAccessible = isAccessible(type, field.getDeclaringClass()) && !Modifier.isPrivate(modifiers)
+                    && (isSamePackage(type, field.getDeclaringClass()) || Modifier.isPublic(modifiers));
+            boolean readThroughHandle = !fieldAccessible;
+            Method setter = context.getParameters().isBypassSetters() ? null : getWriteMethod(field).orElse(null);
+            if (setter != null) {
+                if (Modifier.isStatic(setter.getModifiers()) || !isAccessible(type, field.getDeclaringClass())
+                        || !castable || !isLinkable(type, setter.getReturnType())) {
+                    return fallback(field);
+                }
+                return new Assignment(field, Kind.SETTER, randomizer, randomizerType, setter, readThroughHandle);
+            }
+            if (fieldAccessible && castable) {
+                return new Assignment(field, Kind.FIELD, randomizer, randomizerType, null, false);
+            }
+            try {
+                // fail now rather than when the class is instantiated if the field cannot be accessed through a handle
+                privateLookup(field).unreflectSetter(field);
+            } catch (IllegalAccessException | IllegalArgumentException e) {
+                return fallback(field);
+            }
+            return new Assignment(field, Kind.HANDLE, randomizer, randomizerType, null, !fieldAccessible);
+        }
+
+        void write(final PopulatorClassWriter writer, final Class<?> type, final int index, final boolean overrideDefaultInitialization) {
+            if (kind == Kind.SKIP) {
+                return;
+            }
+            if (kind == Kind.FALLBACK) {
+                writer.callFallback(index);
+                return;
+            }
+            // handles are added in the same order by addHandles
+            int getter = overrideDefaultInitialization || !readThroughHandle ? -1 : writer.handle();
+            int setterHandle = kind == Kind.HANDLE ? writer.handle() : -1;
+            int randomizerSlot = writer.randomizer(randomizerType);
+            int branch = overrideDefaultInitialization ? -1 : writer.skipIfInitialized(field, getter);
+            switch (kind) {
+                case FIELD:
+                    writer.assignField(field, randomizerSlot);
+                    break;
+                case SETTER:
+                    writer.assignThroughSetter(field, setter, randomizerSlot, String.format("Unable to invoke setter for field %s of class %s",
+                            field.getName(), type.getName()));
+                    break;
+                default:
+                    writer.assignThroughHandle(field, setterHandle, randomizerSlot);
+            }
+            if (branch >= 0) {
+                writer.bind(branch);
+            }
+        }
+
+        void addHandles(final List<Object> handles, final boolean overrideDefaultInitialization) throws IllegalAccessException {
+            Class<?> valueType = field.getType().isPrimitive() ? field.getType() : Object.class;
+            if (!overrideDefaultInitialization && readThroughHandle) {
+                handles.add(privateLookup(field).unreflectGetter(field).asType(methodType(valueType, Object.class)));
+            }
+            if (kind == Kind.HANDLE) {
+                handles.add(privateLookup(field).unreflectSetter(field).asType(methodType(void.class, Object.class, valueType)));
+            }
+        }
+
+        private static MethodHandles.Lookup privateLookup(final Field field) throws IllegalAccessException {
+            return MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+        }
+    }
+
+    /*
+     * Can the generated class, defined in the package of the type, access the given class?
+     */
+    private static boolean isAccessible(final Class<?> type, final Class<?> other) {
+        Class<?> component = other;
+        while (component.isArray()) {
+            component = component.getComponentType();
+        }
+        return component.isPrimitive() || Modifier.isPublic(component.getModifiers()) || isSamePackage(type, component);
+    }
+
+    private static boolean isSamePackage(final Class<?> type, final Class<?> other) {
+        return type.getClassLoader() == other.getClassLoader() && type.getPackageName().equals(other.getPackageName());
+    }
+
+    /*
+     * Does the given class resolve to the same class from the class loader of the type, in which the class is generated?
+     */
+    private static boolean isLinkable(final Class<?> type, final Class<?> other) {
+        Class<?> component = other;
+        while (component.isArray()) {
+            component = component.getComponentType();
+        }
+        if (component.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(component.getName(), false, type.getClassLoader()) == component;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Carries the failure of the field populator through the generated class.
+     */
+    private static class FieldAccessException extends RuntimeException {
+
+        private FieldAccessException(final IllegalAccessException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IllegalAccessException getCause() {
+            return (IllegalAccessException) super.getCause();
+        }
+    }
+}
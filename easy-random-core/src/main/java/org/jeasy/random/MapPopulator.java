@@ -24,13 +24,14 @@
 package org.jeasy.random;
 
 import org.jeasy.random.api.ObjectFactory;
-import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.jeasy.random.util.ReflectionUtils.*;
@@ -51,15 +52,20 @@ class MapPopulator {
         this.objectFactory = objectFactory;
     }
 
-    @SuppressWarnings("unchecked")
     Map<?, ?> getRandomMap(final Field field, final RandomizationContext context) {
-        int randomSize = getRandomMapSize(context.getParameters());
+        return getRandomMap(field, CollectionSizes.nextMapSize(context.getParameters(), easilyRandomer), context);
+    }
+
+    @SuppressWarnings("unchecked")
+    Map<?, ?> getRandomMap(final Field field, final int randomSize, final RandomizationContext context) {
         Class<?> fieldType = field.getType();
         Type fieldGenericType = field.getGenericType();
         Map<Object, Object> map;
 
         if (isInterface(fieldType)) {
-            map = (Map<Object, Object>) getEmptyImplementationForMapInterface(fieldType);
+            map = (Map<Object, Object>) getEmptyImplementationForMapInterface(fieldType, randomSize);
+        } else if (fieldType == HashMap.class || fieldType == LinkedHashMap.class) {
+            map = (Map<Object, Object>) createEmptyHashMap(fieldType, randomSize);
         } else {
             try {
                 map = (Map<Object, Object>) fieldType.getDeclaredConstructor().newInstance();
@@ -95,9 +101,4 @@ class MapPopulator {
         return map;
     }
 
-    private int getRandomMapSize(EasilyRandomerParameters parameters) {
-        EasilyRandomerParameters.Range<Integer> collectionSizeRange = parameters.getCollectionSizeRange();
-        return new IntegerRangeRandomizer(collectionSizeRange.getMin(), collectionSizeRange.getMax(), parameters.getSeed()).getRandomValue();
-    }
-
 }
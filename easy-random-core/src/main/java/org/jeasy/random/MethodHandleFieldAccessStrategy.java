@@ -0,0 +1,373 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.api.FieldAccessStrategy;
+import org.jeasy.random.api.FieldAccessor;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+import static java.lang.invoke.MethodType.methodType;
+import static org.jeasy.random.util.ReflectionUtils.getWrapperType;
+import static org.jeasy.random.util.ReflectionUtils.getWriteMethod;
+import static org.jeasy.random.util.ReflectionUtils.isStatic;
+
+/**
+ * {@link FieldAccessStrategy} based on method handles, bound once per field in the JVM. Setters are invoked through
+ * a {@link BiConsumer} generated with {@link LambdaMetafactory} when possible, and through a method handle
+ * otherwise. Fields are read and written through method handles.
+ *
+ * When a handle cannot be obtained for a field (for example because its declaring class is not open
+ * for deep reflection, or because the field is final), this strategy falls back to
+ * {@link ReflectiveFieldAccessStrategy}.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class MethodHandleFieldAccessStrategy implements FieldAccessStrategy {
+
+    private static final MethodType GETTER_TYPE = methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = methodType(void.class, Object.class, Object.class);
+
+    /*
+     * Accessors are created once per field and setter mode, and shared by all the strategies of the JVM:
+     * the lambda of a setter is a class of its own, which would otherwise be defined again for each
+     * population plan of each engine. Accessors are held by the declaring class of their field, so they
+     * are discarded with it.
+     */
+    private static final ClassValue<Accessors> ACCESSORS = new ClassValue<Accessors>() {
+        @Override
+        protected Accessors computeValue(final Class<?> type) {
+            return new Accessors();
+        }
+    };
+
+    private final FieldAccessStrategy fallbackStrategy = new ReflectiveFieldAccessStrategy();
+
+    @Override
+    public FieldAccessor getAccessor(final Field field, final boolean bypassSetters) {
+        Accessors accessors = ACCESSORS.get(field.getDeclaringClass());
+        Map<String, FieldAccessor> accessorsByName = bypassSetters ? accessors.bypassingSetters : accessors.withSetters;
+        return accessorsByName.computeIfAbsent(field.getName(), name -> createAccessor(field, bypassSetters));
+    }
+
+    private FieldAccessor createAccessor(final Field field, final boolean bypassSetters) {
+        if (isStatic(field)) {
+            return fallbackStrategy.getAccessor(field, bypassSetters);
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+            Optional<Method> setter = bypassSetters ? Optional.empty() : getWriteMethod(field);
+            if (setter.isPresent()) {
+                MethodHandle setterHandle = lookup.unreflect(setter.get());
+                return new SetterAccessor(getter, field.getType(), asPrimitiveWriter(field, setterHandle),
+                        createSetterWriter(lookup, field, setter.get(), setterHandle), setter.get());
+            }
+            MethodHandle fieldSetter = lookup.unreflectSetter(field);
+            return new FieldHandleAccessor(getter, field.getType(), asPrimitiveWriter(field, fieldSetter), fieldSetter.asType(SETTER_TYPE));
+        } catch (IllegalAccessException | IllegalArgumentException | SecurityException e) {
+            return fallbackStrategy.getAccessor(field, bypassSetters);
+        }
+    }
+
+    /*
+     * Writes values of the primitive type of the field without boxing them, null if the field is not primitive.
+     * Integral values (and booleans) are passed as a long and floating point values as a double, so that
+     * a single typed handle serves all the primitive setters of the accessor.
+     */
+    private static MethodHandle asPrimitiveWriter(final Field field, final MethodHandle writer) {
+        Class<?> fieldType = field.getType();
+        if (!fieldType.isPrimitive()) {
+            return null;
+        }
+        Class<?> widenedType = fieldType == float.class || fieldType == double.class ? double.class : long.class;
+        return MethodHandles.explicitCastArguments(writer, methodType(void.class, Object.class, widenedType));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> createSetterWriter(final MethodHandles.Lookup lookup, final Field field,
+                                                                 final Method setter, final MethodHandle setterHandle) {
+        // the generated lambda is defined in the nest of the lookup class, so only bind setters declared in that class
+        if (setter.getDeclaringClass().equals(field.getDeclaringClass())) {
+            try {
+                MethodType instantiatedType = methodType(void.class, setter.getDeclaringClass(), getWrapperType(setter.getParameterTypes()[0]));
+                CallSite callSite = LambdaMetafactory.metafactory(lookup, "accept",
+                        methodType(BiConsumer.class), SETTER_TYPE, setterHandle, instantiatedType);
+                return (BiConsumer<Object, Object>) callSite.getTarget().invoke();
+            } catch (Throwable throwable) {
+                // fall back to the method handle below
+            }
+        }
+        MethodHandle handle = setterHandle.asType(SETTER_TYPE);
+        return (target, value) -> {
+            try {
+                handle.invokeExact(target, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw new SetterInvocationException(throwable);
+            }
+        };
+    }
+
+    /**
+     * Base accessor reading the field through a method handle, and writing primitive values through
+     * a method handle typed after the widened primitive type of the field.
+     */
+    private abstract static class HandleAccessor implements FieldAccessor {
+
+        private final MethodHandle getter;
+
+        // null if the field is not primitive
+        private final Class<?> primitiveType;
+
+        // takes a long or a double, null if the field is not primitive
+        private final MethodHandle primitiveWriter;
+
+        private HandleAccessor(final MethodHandle getter, final Class<?> fieldType, final MethodHandle primitiveWriter) {
+            this.getter = getter;
+            this.primitiveType = fieldType.isPrimitive() ? fieldType : null;
+            this.primitiveWriter = primitiveWriter;
+        }
+
+        @Override
+        public Object getValue(final Object target) {
+            return read(getter, target);
+        }
+
+        /**
+         * Translate a failure of the primitive writer into the exception thrown by {@link #setValue(Object, Object)}.
+         */
+        abstract void writeFailed(Throwable throwable) throws InvocationTargetException;
+
+        @Override
+        public void setBoolean(final Object target, final boolean value) throws InvocationTargetException, IllegalAccessException {
+            if (primitiveType == boolean.class) {
+                writeIntegral(target, value ? 1 : 0);
+            } else {
+                setValue(target, value);
+            }
+        }
+
+        @Override
+        public void setByte(final Object target, final byte value) throws InvocationTargetException, IllegalAccessException {
+            if (primitiveType == byte.class) {
+                writeIntegral(target, value);
+            } else {
+                setValue(target, value);
+            }
+        }
+
+        @Override
+        public void setChar(final Object target, final char value) throws InvocationTargetException, IllegalAccessException {
+            if (primitiveType == char.class) {
+                writeIntegral(target, value);
+            } else {
+                setValue(target, value);
+            }
+        }
+
+        @Override
+        public void setShort(final Object target, final short value) throws InvocationTargetException, IllegalAccessException {
+            if (primitiveType == short.class) {
+                writeIntegral(target, value);
+            } else {
+                setValue(target, value);
+            }
+        }
+
+        @Override
+        public void setInt(final Object target, final int value) throws InvocationTargetException, IllegalAccessException {
+            if (primitiveType == int.class) {
+                writeIntegral(target, value);
+            } else {
+                setValue(target, value);
+            }
+        }
+
+        @Override
+        public void setLong(final Object target, final long value) throws InvocationTargetException, IllegalAccessException {
+            if (primitiveType == long.class) {
+                writeIntegral(target, value);
+            } else {
+                setValue(target, value);
+            }
+        }
+
+        @Override
+        public void setFloat(final Object target, final float value) throws InvocationTargetException, IllegalAccessException {
+            if (primitiveType == float.class) {
+                writeFloatingPoint(target, value);
+            } else {
+                setValue(target, value);
+            }
+        }
+
+        @Override
+        public void setDouble(final Object target, final double value) throws InvocationTargetException, IllegalAccessException {
+            if (primitiveType == double.class) {
+                writeFloatingPoint(target, value);
+            } else {
+                setValue(target, value);
+            }
+        }
+
+        private void writeIntegral(final Object target, final long value) throws InvocationTargetException {
+            try {
+                primitiveWriter.invokeExact(target, value);
+            } catch (Throwable throwable) {
+                writeFailed(throwable);
+            }
+        }
+
+        private void writeFloatingPoint(final Object target, final double value) throws InvocationTargetException {
+            try {
+                primitiveWriter.invokeExact(target, value);
+            } catch (Throwable throwable) {
+                writeFailed(throwable);
+            }
+        }
+    }
+
+    private static class SetterAccessor extends HandleAccessor {
+
+        private final BiConsumer<Object, Object> writer;
+
+        private final Class<?> targetType;
+
+        private final Class<?> parameterType;
+
+        private final Class<?> valueType;
+
+        private SetterAccessor(final MethodHandle getter, final Class<?> fieldType, final MethodHandle primitiveWriter,
+                               final BiConsumer<Object, Object> writer, final Method setter) {
+            super(getter, fieldType, primitiveWriter);
+            this.writer = writer;
+            this.targetType = setter.getDeclaringClass();
+            this.parameterType = setter.getParameterTypes()[0];
+            this.valueType = getWrapperType(parameterType);
+        }
+
+        @Override
+        public void setValue(final Object target, final Object value) throws InvocationTargetException {
+            try {
+                writer.accept(target, value);
+            } catch (SetterInvocationException e) {
+                throw new InvocationTargetException(e.getCause());
+            } catch (RuntimeException | Error e) {
+                // invalid arguments fail before the setter is invoked, report them as Method#invoke does
+                checkArguments(target, value, e);
+                throw new InvocationTargetException(e);
+            }
+        }
+
+        private void checkArguments(final Object target, final Object value, final Throwable failure) {
+            if (!targetType.isInstance(target)) {
+                throw new IllegalArgumentException("object is not an instance of declaring class", failure);
+            }
+            if (value == null ? parameterType.isPrimitive() : !valueType.isInstance(value)) {
+                throw new IllegalArgumentException("argument type mismatch", failure);
+            }
+        }
+
+        @Override
+        void writeFailed(final Throwable throwable) throws InvocationTargetException {
+            // the setter itself failed
+            throw new InvocationTargetException(throwable);
+        }
+    }
+
+    private static class FieldHandleAccessor extends HandleAccessor {
+
+        private final MethodHandle setter;
+
+        private FieldHandleAccessor(final MethodHandle getter, final Class<?> fieldType, final MethodHandle primitiveWriter, final MethodHandle setter) {
+            super(getter, fieldType, primitiveWriter);
+            this.setter = setter;
+        }
+
+        @Override
+        public void setValue(final Object target, final Object value) {
+            try {
+                setter.invokeExact(target, value);
+            } catch (ClassCastException | NullPointerException e) {
+                // mimic Field#set which reports incompatible values with an IllegalArgumentException
+                throw new IllegalArgumentException(e);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw new IllegalStateException(throwable);
+            }
+        }
+
+        @Override
+        void writeFailed(final Throwable throwable) {
+            if (throwable instanceof RuntimeException) {
+                throw (RuntimeException) throwable;
+            } else if (throwable instanceof Error) {
+                throw (Error) throwable;
+            }
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    private static Object read(final MethodHandle getter, final Object target) {
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    private static class Accessors {
+
+        // fields are identified by their name in their declaring class
+        private final Map<String, FieldAccessor> withSetters = new ConcurrentHashMap<>();
+
+        private final Map<String, FieldAccessor> bypassingSetters = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Carries a checked exception thrown by a setter through a {@link BiConsumer}.
+     */
+    private static class SetterInvocationException extends RuntimeException {
+
+        private SetterInvocationException(final Throwable cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over the instances of a type at the indexes of a given range.
+ * Since each instance is generated from its index, the spliterator can be split
+ * at any index without changing the generated instances.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+class ObjectSpliterator<T> implements Spliterator<T> {
+
+    private final EasilyRandomer easilyRandomer;
+
+    private final Class<T> type;
+
+    private long index;
+
+    private final long fence;
+
+    /**
+     * Create a spliterator over the instances at indexes {@code [origin, fence)}.
+     */
+    ObjectSpliterator(final EasilyRandomer easilyRandomer, final Class<T> type, final long origin, final long fence) {
+        this.easilyRandomer = easilyRandomer;
+        this.type = type;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        if (index < fence) {
+            action.accept(easilyRandomer.nextObject(type, index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        long i = index;
+        index = fence;
+        for (; i < fence; i++) {
+            action.accept(easilyRandomer.nextObject(type, i));
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        long origin = index;
+        long middle = (origin + fence) >>> 1;
+        if (middle <= origin) {
+            return null;
+        }
+        index = middle;
+        return new ObjectSpliterator<>(easilyRandomer, type, origin, middle);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+    }
+}
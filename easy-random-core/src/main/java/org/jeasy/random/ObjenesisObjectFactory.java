@@ -24,15 +24,19 @@
 package org.jeasy.random;
 
 import java.util.List;
-import java.util.Random;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import org.jeasy.random.api.ObjectFactory;
+import org.jeasy.random.api.Populator;
 import org.jeasy.random.api.RandomizerContext;
+import org.jeasy.random.util.BindableRandom;
+import org.jeasy.random.util.JdkRandomSource;
+import org.jeasy.random.util.RandomSource;
 import org.objenesis.Objenesis;
 import org.objenesis.ObjenesisStd;
 
 import java.lang.reflect.Constructor;
 
-import static org.jeasy.random.util.ReflectionUtils.getPublicConcreteSubTypesOf;
 import static org.jeasy.random.util.ReflectionUtils.isAbstract;
 
 /**
@@ -45,19 +49,34 @@ public class ObjenesisObjectFactory implements ObjectFactory {
 
     private final Objenesis objenesis = new ObjenesisStd();
 
-    private Random random;
+    // no-arg constructors are looked up and made accessible once per type
+    private static final ClassValue<Optional<Constructor<?>>> NO_ARG_CONSTRUCTORS = new ClassValue<Optional<Constructor<?>>>() {
+        @Override
+        protected Optional<Constructor<?>> computeValue(Class<?> type) {
+            try {
+                Constructor<?> noArgConstructor = type.getDeclaredConstructor();
+                noArgConstructor.trySetAccessible();
+                return Optional.of(noArgConstructor);
+            } catch (NoSuchMethodException | SecurityException exception) {
+                return Optional.empty();
+            }
+        }
+    };
+
+    // one source per thread, seeded on first use, so that the factory can be shared between threads
+    private final ThreadLocal<RandomSource> random = new ThreadLocal<>();
+
+    // number of threads that got a source, used to derive a different seed for each of them
+    private final AtomicLong threads = new AtomicLong();
 
     @Override
     public <T> T createInstance(Class<T> type, RandomizerContext context) {
-        if (random == null) {
-            random = new Random(context.getParameters().getSeed());
-        }
         if (context.getParameters().isScanClasspathForConcreteTypes() && isAbstract(type)) {
-            List<Class<?>> publicConcreteSubTypes = getPublicConcreteSubTypesOf(type);
+            List<Class<?>> publicConcreteSubTypes = context.getParameters().getClasspathScanner().getPublicConcreteSubTypesOf(type);
             if (publicConcreteSubTypes.isEmpty()) {
                 throw new InstantiationError("Unable to find a matching concrete subtype of type: " + type + " in the classpath");
             } else {
-                Class<?> randomConcreteSubType = publicConcreteSubTypes.get(random.nextInt(publicConcreteSubTypes.size()));
+                Class<?> randomConcreteSubType = publicConcreteSubTypes.get(getRandom(context).nextInt(publicConcreteSubTypes.size()));
                 return (T) createNewInstance(randomConcreteSubType);
             }
         } else {
@@ -69,14 +88,58 @@ public class ObjenesisObjectFactory implements ObjectFactory {
         }
     }
 
+    private RandomSource getRandom(final RandomizerContext context) {
+        RandomSource boundSource = BindableRandom.getBoundSource();
+        if (boundSource != null) {
+            return boundSource;
+        }
+        RandomSource threadRandom = random.get();
+        if (threadRandom == null) {
+            threadRandom = new JdkRandomSource(threadSeed(context.getParameters().getSeed()));
+            random.set(threadRandom);
+        }
+        return threadRandom;
+    }
+
+    private long threadSeed(final long seed) {
+        long index = threads.getAndIncrement();
+        // the first thread keeps the configured seed, the next ones get the split seeds of a SplitMix64 sequence
+        return index == 0 ? seed : EasilyRandomer.mix64(seed + EasilyRandomer.GOLDEN_GAMMA * index);
+    }
+
     private <T> T createNewInstance(final Class<T> type) {
-        try {
-            Constructor<T> noArgConstructor = type.getDeclaredConstructor();
-            noArgConstructor.trySetAccessible();
-            return noArgConstructor.newInstance();
-        } catch (Exception exception) {
-            return objenesis.newInstance(type);
+        Populator<T> populator = Populators.getPopulator(type);
+        if (populator != null) {
+            try {
+                T instance = populator.newInstance();
+                if (instance != null) {
+                    return instance;
+                }
+            } catch (Exception exception) {
+                // the constructor failed, do not invoke it a second time
+                return objenesis.newInstance(type);
+            }
         }
+        Optional<Constructor<?>> noArgConstructor = NO_ARG_CONSTRUCTORS.get(type);
+        if (noArgConstructor.isPresent()) {
+            try {
+                return (T) noArgConstructor.get().newInstance();
+            } catch (Exception exception) {
+                // fall back to objenesis
+            }
+        }
+        return objenesis.newInstance(type);
+    }
+
+    /**
+     * Create an instance of the given type without invoking any of its constructors.
+     *
+     * @param type the type to instantiate
+     * @param <T> the type to instantiate
+     * @return a new instance of the given type
+     */
+    <T> T createInstanceWithoutConstructor(final Class<T> type) {
+        return objenesis.newInstance(type);
     }
 
 }
@@ -0,0 +1,321 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.api.ExclusionPolicy;
+import org.jeasy.random.api.FieldAccessStrategy;
+import org.jeasy.random.api.FieldAccessor;
+import org.jeasy.random.api.Populator;
+import org.jeasy.random.api.PrimitiveRandomizer;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.api.RandomizerContext;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.jeasy.random.util.ReflectionUtils.*;
+
+/**
+ * Immutable description of how to populate the fields of a given type.
+ * It holds the ordered list of fields to populate (declared fields first, then inherited ones),
+ * along with everything that can be resolved once per type instead of once per generated object.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+class PopulationPlan {
+
+    private final Class<?> type;
+
+    private final List<FieldPlan> fieldPlans;
+
+    private final Map<Field, FieldPlan> fieldPlansByField;
+
+    private final boolean exclusionCheckRequired;
+
+    private PopulationPlan(final Class<?> type, final List<FieldPlan> fieldPlans, final boolean exclusionCheckRequired) {
+        this.type = type;
+        this.fieldPlans = fieldPlans;
+        this.fieldPlansByField = new HashMap<>((int) (fieldPlans.size() / 0.75f) + 1);
+        for (FieldPlan fieldPlan : fieldPlans) {
+            fieldPlansByField.put(fieldPlan.getField(), fieldPlan);
+        }
+        this.exclusionCheckRequired = exclusionCheckRequired;
+    }
+
+    /**
+     * Build the population plan of the given type.
+     *
+     * @param type the (concrete) type to introspect
+     * @param exclusionPolicy the exclusion policy in use
+     * @param context the randomization context that triggered the introspection
+     * @return the population plan of the given type
+     */
+    static PopulationPlan of(final Class<?> type, final ExclusionPolicy exclusionPolicy, final RandomizerContext context) {
+        Populator<?> populator = Populators.getPopulator(type);
+        List<Field> fields = getFields(type, populator);
+
+        // the default exclusion policy does not depend on the current context, so its decisions can be made once
+        boolean exclusionCheckRequired = !isContextIndependent(exclusionPolicy);
+        List<FieldPlan> fieldPlans = new ArrayList<>(fields.size());
+        for (Field field : fields) {
+            if (exclusionCheckRequired || !exclusionPolicy.shouldBeExcluded(field, context)) {
+                FieldPlan fieldPlan = new FieldPlan(field, populator);
+                fieldPlan.getAccessor(context.getParameters());
+                fieldPlans.add(fieldPlan);
+            }
+        }
+        return new PopulationPlan(type, Collections.unmodifiableList(fieldPlans), exclusionCheckRequired);
+    }
+
+    private static List<Field> getFields(final Class<?> type, final Populator<?> populator) {
+        // a populator generated at compile time knows the fields of the type, without scanning the class hierarchy
+        Field[] generatedFields = populator != null ? populator.getFields() : null;
+        if (generatedFields != null) {
+            return asList(generatedFields);
+        }
+        List<Field> fields = new ArrayList<>(asList(type.getDeclaredFields()));
+        fields.addAll(getInheritedFields(type));
+
+        // inner classes (and static nested classes) have a field named "this$0" that references the enclosing class.
+        // This field should be excluded
+        if (type.getEnclosingClass() != null) {
+            fields.removeIf(field -> field.getName().equals("this$0"));
+        }
+        return fields;
+    }
+
+    private static boolean isContextIndependent(final ExclusionPolicy exclusionPolicy) {
+        return exclusionPolicy.getClass() == DefaultExclusionPolicy.class;
+    }
+
+    Class<?> getType() {
+        return type;
+    }
+
+    List<FieldPlan> getFieldPlans() {
+        return fieldPlans;
+    }
+
+    /**
+     * Get the plan of the given field.
+     *
+     * @param field the field to look up
+     * @return the plan of the given field, or null if the field is not populated with this plan
+     */
+    FieldPlan getFieldPlan(final Field field) {
+        return fieldPlansByField.get(field);
+    }
+
+    /**
+     * Should the exclusion policy be consulted for each field of each generated object?
+     *
+     * @return true if exclusion decisions could not be made at plan creation time
+     */
+    boolean isExclusionCheckRequired() {
+        return exclusionCheckRequired;
+    }
+
+    /**
+     * The kind of populator a field delegates to when no randomizer is registered for it.
+     */
+    enum PopulatorKind {
+        ARRAY, COLLECTION, MAP, OPTIONAL, TYPE_VARIABLE, BEAN
+    }
+
+    /**
+     * Immutable description of how to populate a single field.
+     */
+    static class FieldPlan {
+
+        private final Field field;
+
+        // null if the field is not primitive
+        private final Class<?> primitiveType;
+
+        private final PopulatorKind populatorKind;
+
+        private final boolean abstractType;
+
+        // populator generated at compile time for the populated type, if any
+        private final Populator<?> populator;
+
+        private volatile FieldAccessor accessor;
+
+        FieldPlan(final Field field) {
+            this(field, null);
+        }
+
+        FieldPlan(final Field field, final Populator<?> populator) {
+            this.field = field;
+            this.populator = populator;
+            this.populatorKind = populatorKindOf(field);
+            Class<?> fieldType = field.getType();
+            this.primitiveType = fieldType.isPrimitive() ? fieldType : null;
+            // enums can be abstract, but cannot inherit
+            this.abstractType = isAbstract(fieldType) && !isEnumType(fieldType);
+        }
+
+        private static PopulatorKind populatorKindOf(final Field field) {
+            Class<?> fieldType = field.getType();
+            Type genericType = field.getGenericType();
+            if (isArrayType(fieldType)) {
+                return PopulatorKind.ARRAY;
+            } else if (isCollectionType(fieldType)) {
+                return PopulatorKind.COLLECTION;
+            } else if (isMapType(fieldType)) {
+                return PopulatorKind.MAP;
+            } else if (isOptionalType(fieldType)) {
+                return PopulatorKind.OPTIONAL;
+            } else if (isTypeVariable(genericType)) {
+                return PopulatorKind.TYPE_VARIABLE;
+            }
+            return PopulatorKind.BEAN;
+        }
+
+        Field getField() {
+            return field;
+        }
+
+        PopulatorKind getPopulatorKind() {
+            return populatorKind;
+        }
+
+        boolean isTypeVariableField() {
+            return populatorKind == PopulatorKind.TYPE_VARIABLE;
+        }
+
+        boolean isAbstractType() {
+            return abstractType;
+        }
+
+        /**
+         * Get the accessor of this field, creating it on first access with the configured {@link org.jeasy.random.api.FieldAccessStrategy}.
+         * With the default strategy, the accessor of the populator generated at compile time is preferred when there is one.
+         *
+         * @param parameters the parameters of the enclosing {@link EasilyRandomer}
+         * @return the accessor of this field
+         */
+        FieldAccessor getAccessor(final EasilyRandomerParameters parameters) {
+            FieldAccessor fieldAccessor = accessor;
+            if (fieldAccessor == null) {
+                FieldAccessStrategy fieldAccessStrategy = parameters.getFieldAccessStrategy();
+                boolean bypassSetters = parameters.isBypassSetters();
+                if (populator != null && fieldAccessStrategy.getClass() == MethodHandleFieldAccessStrategy.class) {
+                    fieldAccessor = populator.getAccessor(field, bypassSetters);
+                }
+                if (fieldAccessor == null) {
+                    fieldAccessor = fieldAccessStrategy.getAccessor(field, bypassSetters);
+                }
+                accessor = fieldAccessor;
+            }
+            return fieldAccessor;
+        }
+
+        /**
+         * Does this field of the given target hold a value other than the default value of its type?
+         *
+         * @param target the object holding the field
+         * @param parameters the parameters of the enclosing {@link EasilyRandomer}
+         * @return true if the field has been initialized
+         * @throws IllegalAccessException if the field cannot be read
+         */
+        boolean isInitialized(final Object target, final EasilyRandomerParameters parameters) throws IllegalAccessException {
+            Object value = getAccessor(parameters).getValue(target);
+            return value != null && !isPrimitiveDefaultValue(field.getType(), value);
+        }
+
+        /**
+         * Set this field of the given target to the given value.
+         *
+         * @param target the object holding the field
+         * @param value the value to set
+         * @param parameters the parameters of the enclosing {@link EasilyRandomer}
+         * @throws IllegalAccessException if the field cannot be written
+         * @throws ObjectCreationException if the setter of the field fails
+         */
+        void setValue(final Object target, final Object value, final EasilyRandomerParameters parameters) throws IllegalAccessException {
+            try {
+                getAccessor(parameters).setValue(target, value);
+            } catch (InvocationTargetException e) {
+                throw setterInvocationFailed(target, e);
+            }
+        }
+
+        /**
+         * Set this field of the given target to a value generated by the given randomizer, without boxing it.
+         * This is only possible when the field is primitive and the randomizer is a {@link PrimitiveRandomizer}
+         * of the same type which does not override {@link Randomizer#getRandomValue()}.
+         *
+         * @param target the object holding the field
+         * @param randomizer the randomizer of the field
+         * @param parameters the parameters of the enclosing {@link EasilyRandomer}
+         * @return true if the field has been set, false if no value has been generated
+         * @throws IllegalAccessException if the field cannot be written
+         * @throws ObjectCreationException if the setter of the field fails
+         */
+        boolean setPrimitiveValue(final Object target, final Randomizer<?> randomizer, final EasilyRandomerParameters parameters) throws IllegalAccessException {
+            if (primitiveType == null || !PrimitiveRandomizers.isUnboxed(randomizer)) {
+                return false;
+            }
+            FieldAccessor fieldAccessor = getAccessor(parameters);
+            try {
+                if (primitiveType == int.class && randomizer instanceof PrimitiveRandomizer.OfInt) {
+                    fieldAccessor.setInt(target, ((PrimitiveRandomizer.OfInt) randomizer).nextInt());
+                } else if (primitiveType == long.class && randomizer instanceof PrimitiveRandomizer.OfLong) {
+                    fieldAccessor.setLong(target, ((PrimitiveRandomizer.OfLong) randomizer).nextLong());
+                } else if (primitiveType == double.class && randomizer instanceof PrimitiveRandomizer.OfDouble) {
+                    fieldAccessor.setDouble(target, ((PrimitiveRandomizer.OfDouble) randomizer).nextDouble());
+                } else if (primitiveType == boolean.class && randomizer instanceof PrimitiveRandomizer.OfBoolean) {
+                    fieldAccessor.setBoolean(target, ((PrimitiveRandomizer.OfBoolean) randomizer).nextBoolean());
+                } else if (primitiveType == float.class && randomizer instanceof PrimitiveRandomizer.OfFloat) {
+                    fieldAccessor.setFloat(target, ((PrimitiveRandomizer.OfFloat) randomizer).nextFloat());
+                } else if (primitiveType == char.class && randomizer instanceof PrimitiveRandomizer.OfChar) {
+                    fieldAccessor.setChar(target, ((PrimitiveRandomizer.OfChar) randomizer).nextChar());
+                } else if (primitiveType == short.class && randomizer instanceof PrimitiveRandomizer.OfShort) {
+                    fieldAccessor.setShort(target, ((PrimitiveRandomizer.OfShort) randomizer).nextShort());
+                } else if (primitiveType == byte.class && randomizer instanceof PrimitiveRandomizer.OfByte) {
+                    fieldAccessor.setByte(target, ((PrimitiveRandomizer.OfByte) randomizer).nextByte());
+                } else {
+                    return false;
+                }
+            } catch (InvocationTargetException e) {
+                throw setterInvocationFailed(target, e);
+            }
+            return true;
+        }
+
+        private ObjectCreationException setterInvocationFailed(final Object target, final InvocationTargetException e) {
+            String exceptionMessage = String.format("Unable to invoke setter for field %s of class %s",
+                    field.getName(), target.getClass().getName());
+            return new ObjectCreationException(exceptionMessage,  e.getCause());
+        }
+    }
+}
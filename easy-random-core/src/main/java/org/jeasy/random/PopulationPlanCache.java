@@ -0,0 +1,136 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.PopulationPlan.FieldPlan;
+import org.jeasy.random.api.ExclusionPolicy;
+import org.jeasy.random.api.RandomizerContext;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of {@link PopulationPlan}s of an {@link EasilyRandomer} instance.
+ * Since an {@link EasilyRandomer} is bound to a single set of {@link EasilyRandomerParameters},
+ * plans are effectively cached per (type, parameters). Plans hold the field exclusion decisions
+ * of the default exclusion policy, so they are built again when exclusion predicates are added
+ * to the parameters.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+class PopulationPlanCache {
+
+    // replaced when exclusion predicates are added, so that plans built concurrently with the change are never reused
+    private volatile Plans plans = new Plans(-1);
+
+    private final ExclusionPolicy exclusionPolicy;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    PopulationPlanCache(final ExclusionPolicy exclusionPolicy) {
+        this.exclusionPolicy = exclusionPolicy;
+    }
+
+    /**
+     * Get the population plan of the given type, building it on first access.
+     *
+     * @param type the (concrete) type to populate
+     * @param context the current randomization context
+     * @return the population plan of the given type
+     */
+    PopulationPlan getPlan(final Class<?> type, final RandomizerContext context) {
+        Plans current = getPlans(context);
+        PopulationPlan plan = current.byType.get(type);
+        if (plan != null) {
+            hits.increment();
+            return plan;
+        }
+        misses.increment();
+        return current.byType.computeIfAbsent(type, key -> PopulationPlan.of(key, exclusionPolicy, context));
+    }
+
+    /**
+     * Get the plan of a field of the given type, from the population plan of this type when the field is part of it.
+     * Field lookups are not counted as hits or misses of the cache.
+     *
+     * @param type the (concrete) type declaring or inheriting the field
+     * @param field the field to populate
+     * @param context the current randomization context
+     * @return the plan of the given field
+     */
+    FieldPlan getFieldPlan(final Class<?> type, final Field field, final RandomizerContext context) {
+        Plans current = getPlans(context);
+        if (field.getDeclaringClass().isAssignableFrom(type)) {
+            FieldPlan fieldPlan = current.byType.computeIfAbsent(type, key -> PopulationPlan.of(key, exclusionPolicy, context))
+                    .getFieldPlan(field);
+            if (fieldPlan != null) {
+                return fieldPlan;
+            }
+        }
+        return current.detachedFieldPlans.computeIfAbsent(field, FieldPlan::new);
+    }
+
+    private Plans getPlans(final RandomizerContext context) {
+        Plans current = plans;
+        long exclusionModifications = context.getParameters().getExclusionModifications();
+        if (current.exclusionModifications != exclusionModifications) {
+            current = new Plans(exclusionModifications);
+            plans = current;
+        }
+        return current;
+    }
+
+    long getHitCount() {
+        return hits.sum();
+    }
+
+    long getMissCount() {
+        return misses.sum();
+    }
+
+    int size() {
+        return plans.byType.size();
+    }
+
+    /**
+     * Plans built for a given number of exclusion modifications of the parameters.
+     */
+    private static class Plans {
+
+        private final long exclusionModifications;
+
+        private final Map<Class<?>, PopulationPlan> byType = new ConcurrentHashMap<>();
+
+        // plans of fields that are not part of the plan of the populated type, excluded fields for instance
+        private final Map<Field, FieldPlan> detachedFieldPlans = new ConcurrentHashMap<>();
+
+        private Plans(final long exclusionModifications) {
+            this.exclusionModifications = exclusionModifications;
+        }
+    }
+}
@@ -0,0 +1,644 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.api.Randomizer;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Writer of the class file of a {@link GeneratedPopulator}. The generated class implements
+ * {@link BiConsumer} to populate an instance of a given type: its {@code accept(target, fallback)}
+ * method assigns each field from a randomizer stored in a field of the generated class, in the order
+ * of the population plan, and calls the {@link ObjIntConsumer} fallback with the index of the fields
+ * it cannot assign. When the type can be instantiated with a direct constructor call, the generated
+ * class also implements {@link Supplier} to create instances.
+ *
+ * Fields are assigned with {@code putfield}, through their setter with {@code invokevirtual}, or through
+ * a {@link MethodHandle} setter (typically for private fields), which the generated class gets with the
+ * randomizers when it is instantiated. The class is defined in the package of the populated type, so
+ * that package-private fields and setters can be accessed directly.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+class PopulatorClassWriter {
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String OBJECT_DESCRIPTOR = "Ljava/lang/Object;";
+    private static final String THROWABLE = "java/lang/Throwable";
+    private static final String METHOD_HANDLE = internalName(MethodHandle.class);
+    private static final String FALLBACK = internalName(ObjIntConsumer.class);
+    private static final String RANDOMIZER = internalName(Randomizer.class);
+    private static final String EXCEPTION = internalName(ObjectCreationException.class);
+
+    // locals of the accept method
+    private static final int THIS = 0;
+    private static final int TARGET_OBJECT = 1;
+    private static final int FALLBACK_OBJECT = 2;
+    private static final int TARGET = 3;
+    private static final int FALLBACK_CONSUMER = 4;
+    private static final int FAILURE = 5;
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_PRIVATE = 0x0002;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+    private static final int ACC_SYNTHETIC = 0x1000;
+
+    private static final int ACONST_NULL = 0x01;
+    private static final int LCONST_0 = 0x09;
+    private static final int FCONST_0 = 0x0b;
+    private static final int DCONST_0 = 0x0e;
+    private static final int SIPUSH = 0x11;
+    private static final int LDC_W = 0x13;
+    private static final int ALOAD = 0x19;
+    private static final int ALOAD_0 = 0x2a;
+    private static final int AALOAD = 0x32;
+    private static final int ASTORE = 0x3a;
+    private static final int POP = 0x57;
+    private static final int POP2 = 0x58;
+    private static final int DUP = 0x59;
+    private static final int LCMP = 0x94;
+    private static final int FCMPL = 0x95;
+    private static final int DCMPL = 0x97;
+    private static final int IFNE = 0x9a;
+    private static final int ARETURN = 0xb0;
+    private static final int RETURN = 0xb1;
+    private static final int GETFIELD = 0xb4;
+    private static final int PUTFIELD = 0xb5;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKEINTERFACE = 0xb9;
+    private static final int NEW = 0xbb;
+    private static final int ATHROW = 0xbf;
+    private static final int CHECKCAST = 0xc0;
+    private static final int IFNONNULL = 0xc7;
+
+    // branches are encoded on two bytes
+    private static final int MAX_BRANCH_OFFSET = Short.MAX_VALUE;
+
+    private final String className;
+
+    private final Class<?> type;
+
+    private final boolean instantiable;
+
+    private final boolean fallback;
+
+    private final ConstantPool constantPool = new ConstantPool();
+
+    // types of the randomizer fields, then of the method handle fields, by slot
+    private final List<Class<?>> randomizerTypes = new ArrayList<>();
+    private int handles;
+
+    private final Bytes accept = new Bytes();
+    private final Bytes exceptionTable = new Bytes();
+    private int exceptionHandlers;
+    private final Bytes handlerCode = new Bytes();
+
+    // offsets of the frames of the accept method, and whether the frame is the one of an exception handler
+    private final List<int[]> frames = new ArrayList<>();
+
+    /**
+     * Start the class file of a populator of the given type.
+     *
+     * @param className the binary name of the generated class, in the package of the type
+     * @param type the populated type
+     * @param instantiable true if instances of the type can be created with a direct call of its no-arg constructor
+     * @param fallback true if some fields are populated by the fallback
+     */
+    PopulatorClassWriter(final String className, final Class<?> type, final boolean instantiable, final boolean fallback) {
+        this.className = className.replace('.', '/');
+        this.type = type;
+        this.instantiable = instantiable;
+        this.fallback = fallback;
+        accept.u1(ALOAD_0 + TARGET_OBJECT);
+        accept.u1(CHECKCAST).u2(constantPool.classConstant(internalName(type)));
+        accept.u1(ASTORE).u1(TARGET);
+        if (fallback) {
+            accept.u1(ALOAD_0 + FALLBACK_OBJECT);
+            accept.u1(CHECKCAST).u2(constantPool.classConstant(FALLBACK));
+            accept.u1(ASTORE).u1(FALLBACK_CONSUMER);
+        }
+    }
+
+    /**
+     * Declare a field holding a randomizer.
+     *
+     * @param randomizerType the type of the field, {@link Randomizer} or one of the primitive randomizers
+     * @return the slot of the randomizer
+     */
+    int randomizer(final Class<?> randomizerType) {
+        randomizerTypes.add(randomizerType);
+        return randomizerTypes.size() - 1;
+    }
+
+    /**
+     * Declare a field holding a method handle.
+     *
+     * @return the slot of the method handle
+     */
+    int handle() {
+        return handles++;
+    }
+
+    /**
+     * Call the fallback for the field at the given index of the population plan.
+     *
+     * @param index the index of the field in the population plan
+     */
+    void callFallback(final int index) {
+        accept.u1(ALOAD).u1(FALLBACK_CONSUMER);
+        accept.u1(ALOAD_0 + TARGET_OBJECT);
+        accept.u1(SIPUSH).u2(index);
+        invokeInterface(accept, FALLBACK, "accept", "(Ljava/lang/Object;I)V", 3);
+    }
+
+    /**
+     * Jump over the assignment that follows if the given field does not hold the default value of its type.
+     *
+     * @param field the field to check
+     * @param getter the slot of the method handle reading the field, or -1 to read it directly
+     * @return the branch to bind after the assignment
+     */
+    int skipIfInitialized(final Field field, final int getter) {
+        Class<?> fieldType = field.getType();
+        if (getter < 0) {
+            accept.u1(ALOAD_0 + TARGET);
+            accept.u1(GETFIELD).u2(constantPool.fieldRef(internalName(field.getDeclaringClass()), field.getName(), descriptor(fieldType)));
+        } else {
+            loadHandle(getter);
+            accept.u1(ALOAD_0 + TARGET_OBJECT);
+            String valueDescriptor = fieldType.isPrimitive() ? descriptor(fieldType) : OBJECT_DESCRIPTOR;
+            accept.u1(INVOKEVIRTUAL).u2(constantPool.methodRef(METHOD_HANDLE, "invokeExact", "(Ljava/lang/Object;)" + valueDescriptor));
+        }
+        int branch;
+        if (!fieldType.isPrimitive()) {
+            branch = accept.length();
+            accept.u1(IFNONNULL).u2(0);
+            return branch;
+        }
+        if (fieldType == long.class) {
+            accept.u1(LCONST_0).u1(LCMP);
+        } else if (fieldType == float.class) {
+            accept.u1(FCONST_0).u1(FCMPL);
+        } else if (fieldType == double.class) {
+            accept.u1(DCONST_0).u1(DCMPL);
+        }
+        branch = accept.length();
+        accept.u1(IFNE).u2(0);
+        return branch;
+    }
+
+    /**
+     * Bind the given branch to the current position.
+     *
+     * @param branch the branch returned by {@link #skipIfInitialized(Field, int)}
+     */
+    void bind(final int branch) {
+        accept.set2(branch + 1, accept.length() - branch);
+        frames.add(new int[] {accept.length(), 0});
+    }
+
+    /**
+     * Assign a random value to the given field with {@code putfield}.
+     *
+     * @param field the field to assign
+     * @param randomizer the slot of the randomizer of the field
+     */
+    void assignField(final Field field, final int randomizer) {
+        accept.u1(ALOAD_0 + TARGET);
+        loadRandomValue(randomizer, field.getType());
+        accept.u1(PUTFIELD).u2(constantPool.fieldRef(internalName(field.getDeclaringClass()), field.getName(), descriptor(field.getType())));
+    }
+
+    /**
+     * Assign a random value to the given field through its setter. Exceptions thrown by the setter are
+     * wrapped in an {@link ObjectCreationException} with the given message.
+     *
+     * @param field the field to assign
+     * @param setter the public setter of the field
+     * @param randomizer the slot of the randomizer of the field
+     * @param failureMessage the message of the exception thrown when the setter fails
+     */
+    void assignThroughSetter(final Field field, final Method setter, final int randomizer, final String failureMessage) {
+        accept.u1(ALOAD_0 + TARGET);
+        loadRandomValue(randomizer, field.getType());
+        int start = accept.length();
+        // the setter is resolved from the declaring class of the field, as Class#getMethod found it
+        String setterDescriptor = "(" + descriptor(setter.getParameterTypes()[0]) + ")" + descriptor(setter.getReturnType());
+        accept.u1(INVOKEVIRTUAL).u2(constantPool.methodRef(internalName(field.getDeclaringClass()), setter.getName(), setterDescriptor));
+        int end = accept.length();
+        Class<?> returnType = setter.getReturnType();
+        if (returnType == long.class || returnType == double.class) {
+            accept.u1(POP2);
+        } else if (returnType != void.class) {
+            accept.u1(POP);
+        }
+        // handlers are written after the code of the method, their offsets are known once it is complete
+        exceptionTable.u2(start).u2(end).u2(handlerCode.length()).u2(0);
+        exceptionHandlers++;
+        handlerCode.u1(ASTORE).u1(FAILURE);
+        handlerCode.u1(NEW).u2(constantPool.classConstant(EXCEPTION));
+        handlerCode.u1(DUP);
+        handlerCode.u1(LDC_W).u2(constantPool.string(failureMessage));
+        handlerCode.u1(ALOAD).u1(FAILURE);
+        handlerCode.u1(INVOKESPECIAL).u2(constantPool.methodRef(EXCEPTION, "<init>", "(Ljava/lang/String;Ljava/lang/Throwable;)V"));
+        handlerCode.u1(ATHROW);
+    }
+
+    /**
+     * Assign a random value to the given field with a method handle setter, typed {@code (Object, Object)void}
+     * or {@code (Object, primitive)void} for primitive fields.
+     *
+     * @param field the field to assign
+     * @param setter the slot of the method handle setting the field
+     * @param randomizer the slot of the randomizer of the field
+     */
+    void assignThroughHandle(final Field field, final int setter, final int randomizer) {
+        Class<?> fieldType = field.getType();
+        loadHandle(setter);
+        accept.u1(ALOAD_0 + TARGET_OBJECT);
+        loadRandomValue(randomizer, fieldType.isPrimitive() ? fieldType : Object.class);
+        String valueDescriptor = fieldType.isPrimitive() ? descriptor(fieldType) : OBJECT_DESCRIPTOR;
+        accept.u1(INVOKEVIRTUAL).u2(constantPool.methodRef(METHOD_HANDLE, "invokeExact", "(Ljava/lang/Object;" + valueDescriptor + ")V"));
+    }
+
+    private void loadHandle(final int handle) {
+        accept.u1(ALOAD_0 + THIS);
+        accept.u1(GETFIELD).u2(constantPool.fieldRef(className, "handle" + handle, descriptor(MethodHandle.class)));
+    }
+
+    /*
+     * Primitive randomizers give values of the primitive type, other randomizers give objects
+     * which are cast to the given type.
+     */
+    private void loadRandomValue(final int randomizer, final Class<?> valueType) {
+        Class<?> randomizerType = randomizerTypes.get(randomizer);
+        accept.u1(ALOAD_0 + THIS);
+        accept.u1(GETFIELD).u2(constantPool.fieldRef(className, "randomizer" + randomizer, descriptor(randomizerType)));
+        if (randomizerType == Randomizer.class) {
+            invokeInterface(accept, RANDOMIZER, "getRandomValue", "()Ljava/lang/Object;", 1);
+            if (valueType != Object.class) {
+                accept.u1(CHECKCAST).u2(constantPool.classConstant(internalName(valueType)));
+            }
+        } else {
+            String methodName = "next" + Character.toUpperCase(valueType.getName().charAt(0)) + valueType.getName().substring(1);
+            invokeInterface(accept, internalName(randomizerType), methodName, "()" + descriptor(valueType), 1);
+        }
+    }
+
+    private void invokeInterface(final Bytes code, final String owner, final String name, final String methodDescriptor, final int argumentSlots) {
+        code.u1(INVOKEINTERFACE).u2(constantPool.interfaceMethodRef(owner, name, methodDescriptor)).u1(argumentSlots).u1(0);
+    }
+
+    /**
+     * Complete the class file.
+     *
+     * @return the class file, or null if the populate method is too large to be encoded
+     */
+    byte[] toByteArray() {
+        accept.u1(RETURN);
+        if (accept.length() + handlerCode.length() > MAX_BRANCH_OFFSET) {
+            return null;
+        }
+        int handlersOffset = accept.length();
+        for (int i = 0; i < exceptionHandlers; i++) {
+            int entry = i * 8;
+            int handler = exceptionTable.get2(entry + 4) + handlersOffset;
+            exceptionTable.set2(entry + 4, handler);
+            frames.add(new int[] {handler, 1});
+        }
+        accept.bytes(handlerCode);
+
+        Bytes methods = new Bytes();
+        int methodCount = 2;
+        writeConstructor(methods);
+        writeAccept(methods);
+        if (instantiable) {
+            writeGet(methods);
+            methodCount++;
+        }
+
+        Bytes fields = new Bytes();
+        for (int i = 0; i < randomizerTypes.size(); i++) {
+            fields.u2(ACC_PRIVATE | ACC_FINAL).u2(constantPool.utf8("randomizer" + i))
+                    .u2(constantPool.utf8(descriptor(randomizerTypes.get(i)))).u2(0);
+        }
+        for (int i = 0; i < handles; i++) {
+            fields.u2(ACC_PRIVATE | ACC_FINAL).u2(constantPool.utf8("handle" + i))
+                    .u2(constantPool.utf8(descriptor(MethodHandle.class))).u2(0);
+        }
+
+        int thisClass = constantPool.classConstant(className);
+        int superClass = constantPool.classConstant(OBJECT);
+        int consumerInterface = constantPool.classConstant(internalName(BiConsumer.class));
+        int supplierInterface = constantPool.classConstant(internalName(Supplier.class));
+
+        Bytes classFile = new Bytes();
+        classFile.u4(0xCAFEBABE).u2(0).u2(52);
+        classFile.u2(constantPool.count).bytes(constantPool.bytes);
+        classFile.u2(ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC).u2(thisClass).u2(superClass);
+        if (instantiable) {
+            classFile.u2(2).u2(consumerInterface).u2(supplierInterface);
+        } else {
+            classFile.u2(1).u2(consumerInterface);
+        }
+        classFile.u2(randomizerTypes.size() + handles).bytes(fields);
+        classFile.u2(methodCount).bytes(methods);
+        classFile.u2(0);
+        return classFile.toByteArray();
+    }
+
+    /*
+     * <init>(Object[] randomizers, Object[] handles)
+     */
+    private void writeConstructor(final Bytes methods) {
+        Bytes code = new Bytes();
+        code.u1(ALOAD_0);
+        code.u1(INVOKESPECIAL).u2(constantPool.methodRef(OBJECT, "<init>", "()V"));
+        for (int i = 0; i < randomizerTypes.size(); i++) {
+            String randomizerType = internalName(randomizerTypes.get(i));
+            code.u1(ALOAD_0).u1(ALOAD_0 + 1).u1(SIPUSH).u2(i).u1(AALOAD);
+            code.u1(CHECKCAST).u2(constantPool.classConstant(randomizerType));
+            code.u1(PUTFIELD).u2(constantPool.fieldRef(className, "randomizer" + i, descriptor(randomizerTypes.get(i))));
+        }
+        for (int i = 0; i < handles; i++) {
+            code.u1(ALOAD_0).u1(ALOAD_0 + 2).u1(SIPUSH).u2(i).u1(AALOAD);
+            code.u1(CHECKCAST).u2(constantPool.classConstant(METHOD_HANDLE));
+            code.u1(PUTFIELD).u2(constantPool.fieldRef(className, "handle" + i, descriptor(MethodHandle.class)));
+        }
+        code.u1(RETURN);
+        writeMethod(methods, 0, "<init>", "([Ljava/lang/Object;[Ljava/lang/Object;)V", 4, 3, code, null, 0, null);
+    }
+
+    /*
+     * accept(Object target, Object fallback)
+     */
+    private void writeAccept(final Bytes methods) {
+        writeMethod(methods, ACC_PUBLIC, "accept", "(Ljava/lang/Object;Ljava/lang/Object;)V", 6, FAILURE + 1,
+                accept, exceptionTable, exceptionHandlers, stackMapTable());
+    }
+
+    /*
+     * get(): a new instance of the type
+     */
+    private void writeGet(final Bytes methods) {
+        Bytes code = new Bytes();
+        String typeName = internalName(type);
+        code.u1(NEW).u2(constantPool.classConstant(typeName));
+        code.u1(DUP);
+        code.u1(INVOKESPECIAL).u2(constantPool.methodRef(typeName, "<init>", "()V"));
+        code.u1(ARETURN);
+        writeMethod(methods, ACC_PUBLIC, "get", "()Ljava/lang/Object;", 2, 1, code, null, 0, null);
+    }
+
+    private void writeMethod(final Bytes methods, final int access, final String name, final String methodDescriptor,
+                             final int maxStack, final int maxLocals, final Bytes code,
+                             final Bytes exceptions, final int exceptionCount, final Bytes stackMapTable) {
+        Bytes attribute = new Bytes();
+        attribute.u2(maxStack).u2(maxLocals).u4(code.length()).bytes(code);
+        attribute.u2(exceptionCount);
+        if (exceptions != null) {
+            attribute.bytes(exceptions);
+        }
+        if (stackMapTable != null) {
+            attribute.u2(1).u2(constantPool.utf8("StackMapTable")).u4(stackMapTable.length()).bytes(stackMapTable);
+        } else {
+            attribute.u2(0);
+        }
+        methods.u2(access).u2(constantPool.utf8(name)).u2(constantPool.utf8(methodDescriptor)).u2(1);
+        methods.u2(constantPool.utf8("Code")).u4(attribute.length()).bytes(attribute);
+    }
+
+    /*
+     * Full frames at the end of each assignment that can be skipped, and at each exception handler.
+     * Locals are the same everywhere: the arguments of the method, the target cast to the populated type,
+     * and the fallback cast to an ObjIntConsumer when there is one.
+     */
+    private Bytes stackMapTable() {
+        if (frames.isEmpty()) {
+            return null;
+        }
+        Bytes locals = new Bytes();
+        int localCount = fallback ? 5 : 4;
+        objectVariable(locals, className);
+        objectVariable(locals, OBJECT);
+        objectVariable(locals, OBJECT);
+        objectVariable(locals, internalName(type));
+        if (fallback) {
+            objectVariable(locals, FALLBACK);
+        }
+        Bytes table = new Bytes();
+        table.u2(frames.size());
+        int previous = -1;
+        for (int[] frame : frames) {
+            table.u1(255).u2(frame[0] - previous - 1);
+            table.u2(localCount).bytes(locals);
+            if (frame[1] == 0) {
+                table.u2(0);
+            } else {
+                table.u2(1);
+                objectVariable(table, THROWABLE);
+            }
+            previous = frame[0];
+        }
+        return table;
+    }
+
+    private void objectVariable(final Bytes bytes, final String internalName) {
+        bytes.u1(7).u2(constantPool.classConstant(internalName));
+    }
+
+    static String internalName(final Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+    static String descriptor(final Class<?> type) {
+        if (type.isArray()) {
+            return internalName(type);
+        }
+        if (!type.isPrimitive()) {
+            return "L" + internalName(type) + ";";
+        }
+        if (type == boolean.class) {
+            return "Z";
+        } else if (type == byte.class) {
+            return "B";
+        } else if (type == char.class) {
+            return "C";
+        } else if (type == short.class) {
+            return "S";
+        } else if (type == int.class) {
+            return "I";
+        } else if (type == long.class) {
+            return "J";
+        } else if (type == float.class) {
+            return "F";
+        } else if (type == double.class) {
+            return "D";
+        }
+        return "V";
+    }
+
+    /**
+     * Constant pool of the class file, each constant being written once.
+     */
+    private static class ConstantPool {
+
+        private final Bytes bytes = new Bytes();
+
+        private final Map<String, Integer> indexes = new HashMap<>();
+
+        // index of the next constant
+        private int count = 1;
+
+        int utf8(final String value) {
+            String key = "1:" + value;
+            Integer index = indexes.get(key);
+            if (index == null) {
+                bytes.u1(1);
+                bytes.modifiedUtf8(value);
+                index = count++;
+                indexes.put(key, index);
+            }
+            return index;
+        }
+
+        int classConstant(final String internalName) {
+            return constant(7, utf8(internalName), -1);
+        }
+
+        int string(final String value) {
+            return constant(8, utf8(value), -1);
+        }
+
+        int fieldRef(final String owner, final String name, final String fieldDescriptor) {
+            return constant(9, classConstant(owner), nameAndType(name, fieldDescriptor));
+        }
+
+        int methodRef(final String owner, final String name, final String methodDescriptor) {
+            return constant(10, classConstant(owner), nameAndType(name, methodDescriptor));
+        }
+
+        int interfaceMethodRef(final String owner, final String name, final String methodDescriptor) {
+            return constant(11, classConstant(owner), nameAndType(name, methodDescriptor));
+        }
+
+        private int nameAndType(final String name, final String descriptor) {
+            return constant(12, utf8(name), utf8(descriptor));
+        }
+
+        // a constant made of one or two references to other constants
+        private int constant(final int tag, final int first, final int second) {
+            String key = tag + ":" + first + ":" + second;
+            Integer index = indexes.get(key);
+            if (index == null) {
+                bytes.u1(tag).u2(first);
+                if (second >= 0) {
+                    bytes.u2(second);
+                }
+                index = count++;
+                indexes.put(key, index);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Growable big-endian byte buffer.
+     */
+    private static class Bytes {
+
+        private byte[] data = new byte[64];
+
+        private int length;
+
+        Bytes u1(final int value) {
+            if (length == data.length) {
+                data = Arrays.copyOf(data, length * 2);
+            }
+            data[length++] = (byte) value;
+            return this;
+        }
+
+        Bytes u2(final int value) {
+            return u1(value >>> 8).u1(value);
+        }
+
+        Bytes u4(final int value) {
+            return u2(value >>> 16).u2(value);
+        }
+
+        Bytes bytes(final Bytes other) {
+            for (int i = 0; i < other.length; i++) {
+                u1(other.data[i]);
+            }
+            return this;
+        }
+
+        // the encoding of strings in class files, where the null character takes two bytes
+        Bytes modifiedUtf8(final String value) {
+            Bytes encoded = new Bytes();
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c != 0 && c < 0x80) {
+                    encoded.u1(c);
+                } else if (c < 0x800) {
+                    encoded.u1(0xc0 | (c >> 6)).u1(0x80 | (c & 0x3f));
+                } else {
+                    encoded.u1(0xe0 | (c >> 12)).u1(0x80 | ((c >> 6) & 0x3f)).u1(0x80 | (c & 0x3f));
+                }
+            }
+            return u2(encoded.length).bytes(encoded);
+        }
+
+        int get2(final int position) {
+            return ((data[position] & 0xff) << 8) | (data[position + 1] & 0xff);
+        }
+
+        void set2(final int position, final int value) {
+            data[position] = (byte) (value >>> 8);
+            data[position + 1] = (byte) value;
+        }
+
+        int length() {
+            return length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(data, length);
+        }
+    }
+}
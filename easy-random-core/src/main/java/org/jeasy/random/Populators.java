@@ -0,0 +1,73 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.annotation.GeneratePopulator;
+import org.jeasy.random.api.Populator;
+
+import java.util.Optional;
+
+/**
+ * Discovery of the {@link Populator}s generated at compile time.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+final class Populators {
+
+    // populators are looked up once per type
+    private static final ClassValue<Optional<Populator<?>>> POPULATORS = new ClassValue<Optional<Populator<?>>>() {
+        @Override
+        protected Optional<Populator<?>> computeValue(Class<?> type) {
+            if (!type.isAnnotationPresent(GeneratePopulator.class)) {
+                return Optional.empty();
+            }
+            try {
+                Class<?> populatorType = Class.forName(getPopulatorName(type), true, type.getClassLoader());
+                return Optional.of((Populator<?>) populatorType.getConstructor().newInstance());
+            } catch (ReflectiveOperationException | ClassCastException | LinkageError | SecurityException e) {
+                // the type has not been processed by the annotation processor
+                return Optional.empty();
+            }
+        }
+    };
+
+    private Populators() {
+    }
+
+    /**
+     * Get the populator generated for the given type.
+     *
+     * @param type the populated type
+     * @param <T> the populated type
+     * @return the populator of the given type, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Populator<T> getPopulator(final Class<T> type) {
+        return (Populator<T>) POPULATORS.get(type).orElse(null);
+    }
+
+    static String getPopulatorName(final Class<?> type) {
+        return type.getName() + Populator.SUFFIX;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.api.ContextAwareRandomizer;
+import org.jeasy.random.api.PrimitiveRandomizer;
+import org.jeasy.random.api.Randomizer;
+
+import java.lang.reflect.Method;
+
+/**
+ * Utility methods to generate primitive values with {@link PrimitiveRandomizer}s without boxing them.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+final class PrimitiveRandomizers {
+
+    private static final ClassValue<Boolean> UNBOXED_RANDOMIZERS = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            // a randomizer overriding getRandomValue (directly or in a subclass of a built-in randomizer) may
+            // generate values that differ from its primitive method, and a context aware randomizer expects to
+            // be invoked with its context: both are always invoked through getRandomValue
+            if (!PrimitiveRandomizer.class.isAssignableFrom(type) || ContextAwareRandomizer.class.isAssignableFrom(type)) {
+                return false;
+            }
+            try {
+                Method getRandomValue = type.getMethod("getRandomValue");
+                return getRandomValue.getDeclaringClass().isInterface();
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    private PrimitiveRandomizers() {
+    }
+
+    /**
+     * Can the given randomizer be invoked through its primitive method instead of {@link Randomizer#getRandomValue()}?
+     *
+     * @param randomizer the randomizer
+     * @return true if the randomizer is a {@link PrimitiveRandomizer} generating the same values through both methods
+     */
+    static boolean isUnboxed(final Randomizer<?> randomizer) {
+        return randomizer instanceof PrimitiveRandomizer && UNBOXED_RANDOMIZERS.get(randomizer.getClass());
+    }
+
+    /**
+     * Fill the given primitive array with values of the given randomizer, without boxing them.
+     *
+     * @param array the array to fill
+     * @param randomizer the randomizer of the component type of the array
+     * @return true if the array has been filled, false if no value has been generated
+     */
+    static boolean fill(final Object array, final Randomizer<?> randomizer) {
+        if (!isUnboxed(randomizer)) {
+            return false;
+        }
+        if (array instanceof int[] && randomizer instanceof PrimitiveRandomizer.OfInt) {
+            ((PrimitiveRandomizer.OfInt) randomizer).fill((int[]) array);
+        } else if (array instanceof long[] && randomizer instanceof PrimitiveRandomizer.OfLong) {
+            ((PrimitiveRandomizer.OfLong) randomizer).fill((long[]) array);
+        } else if (array instanceof double[] && randomizer instanceof PrimitiveRandomizer.OfDouble) {
+            ((PrimitiveRandomizer.OfDouble) randomizer).fill((double[]) array);
+        } else if (array instanceof byte[] && randomizer instanceof PrimitiveRandomizer.OfByte) {
+            ((PrimitiveRandomizer.OfByte) randomizer).fill((byte[]) array);
+        } else if (array instanceof boolean[] && randomizer instanceof PrimitiveRandomizer.OfBoolean) {
+            ((PrimitiveRandomizer.OfBoolean) randomizer).fill((boolean[]) array);
+        } else if (array instanceof float[] && randomizer instanceof PrimitiveRandomizer.OfFloat) {
+            ((PrimitiveRandomizer.OfFloat) randomizer).fill((float[]) array);
+        } else if (array instanceof char[] && randomizer instanceof PrimitiveRandomizer.OfChar) {
+            ((PrimitiveRandomizer.OfChar) randomizer).fill((char[]) array);
+        } else if (array instanceof short[] && randomizer instanceof PrimitiveRandomizer.OfShort) {
+            ((PrimitiveRandomizer.OfShort) randomizer).fill((short[]) array);
+        } else {
+            return false;
+        }
+        return true;
+    }
+}
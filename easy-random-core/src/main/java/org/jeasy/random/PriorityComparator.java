@@ -34,6 +34,14 @@ import java.util.Comparator;
  */
 class PriorityComparator implements Comparator<Object> {
 
+    private static final ClassValue<Integer> PRIORITIES = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            Priority annotation = type.getAnnotation(Priority.class);
+            return annotation != null ? annotation.value() : 0;
+        }
+    };
+
     @Override
     public int compare(final Object o1, final Object o2) {
         int o1Priority = getPriority(o1);
@@ -42,13 +50,14 @@ class PriorityComparator implements Comparator<Object> {
         return o2Priority - o1Priority;
     }
 
-    private int getPriority(final Object object) {
-        if (object != null) {
-            Priority annotation = object.getClass().getAnnotation(Priority.class);
-            if (annotation != null) {
-                return annotation.value();
-            }
-        }
-        return 0;
+    /**
+     * Get the priority of the given object. The {@link Priority} annotation is looked up
+     * once per class.
+     *
+     * @param object for which the priority should be returned
+     * @return the priority of the object, or 0 if the object is null or not annotated
+     */
+    static int getPriority(final Object object) {
+        return object != null ? PRIORITIES.get(object.getClass()) : 0;
     }
 }
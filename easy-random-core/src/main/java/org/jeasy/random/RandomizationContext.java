@@ -24,87 +24,144 @@
 package org.jeasy.random;
 
 import org.jeasy.random.api.RandomizerContext;
+import org.jeasy.random.util.RandomSource;
 
 import java.lang.reflect.Field;
 import java.util.*;
 
-import static java.util.stream.Collectors.toList;
-
 /**
  * Context object for a single call on {@link EasilyRandomer#nextObject(Class)}.
  * It contains a map acting as a cache of populated beans to avoid infinite recursion.
  *
+ * The stack of recursion steps is kept in arrays and the path of the current field is
+ * only turned into a string when requested, so that a context is cheap to create and
+ * to maintain while populating fields.
+ *
  * @author Rémi Alvergnat (toilal.dev@gmail.com)
  */
 class RandomizationContext implements RandomizerContext {
 
+    private static final int INITIAL_STACK_CAPACITY = 8;
+
     private final EasilyRandomerParameters parameters;
 
-    private final Map<Class<?>, List<Object>> populatedBeans;
+    // engine using this context, null for a detached context
+    private final EasilyRandomer easilyRandomer;
 
-    private final Stack<RandomizationContextStackItem> stack;
+    private final Map<Class<?>, List<Object>> populatedBeans;
 
     private final Class<?> type;
 
-    private final Random random;
+    // recursion steps: objects[i] is the object whose field fields[i] is being populated
+    private Object[] objects;
+
+    private Field[] fields;
+
+    private int depth;
+
+    // dotted path of the current field, null until requested after the stack changed
+    private String currentField;
+
+    // source of the configured algorithm used to pick objects from pools, created at first use
+    private RandomSource poolSource;
 
     private Object rootObject;
 
     RandomizationContext(final Class<?> type, final EasilyRandomerParameters parameters) {
+        this(type, parameters, null);
+    }
+
+    RandomizationContext(final Class<?> type, final EasilyRandomerParameters parameters, final EasilyRandomer easilyRandomer) {
         this.type = type;
+        this.easilyRandomer = easilyRandomer;
         populatedBeans = new IdentityHashMap<>();
-        stack = new Stack<>();
+        objects = new Object[INITIAL_STACK_CAPACITY];
+        fields = new Field[INITIAL_STACK_CAPACITY];
         this.parameters = parameters;
-        this.random = new Random(parameters.getSeed());
+    }
+
+    /**
+     * Reset this context so that it can be reused for a new call, as if it was just created.
+     */
+    void reset() {
+        // keep the pools allocated for the previous call, an empty pool means no populated bean
+        for (List<Object> pool : populatedBeans.values()) {
+            pool.clear();
+        }
+        Arrays.fill(objects, 0, depth, null);
+        Arrays.fill(fields, 0, depth, null);
+        depth = 0;
+        currentField = null;
+        poolSource = null;
+        rootObject = null;
     }
 
     void addPopulatedBean(final Class<?> type, Object object) {
         int objectPoolSize = parameters.getObjectPoolSize();
-        List<Object> objects = populatedBeans.get(type);
-        if (objects == null) {
-            objects = new ArrayList<>(objectPoolSize);
+        List<Object> pool = populatedBeans.get(type);
+        if (pool == null) {
+            pool = new ArrayList<>(objectPoolSize);
+            populatedBeans.put(type, pool);
         }
-        if (objects.size() < objectPoolSize) {
-            objects.add(object);
+        if (pool.size() < objectPoolSize) {
+            pool.add(object);
         }
-        populatedBeans.put(type, objects);
     }
 
     Object getPopulatedBean(final Class<?> type) {
-        int actualPoolSize = populatedBeans.get(type).size();
-        int randomIndex = actualPoolSize > 1 ? random.nextInt(actualPoolSize) : 0;
-        return populatedBeans.get(type).get(randomIndex);
+        List<Object> pool = populatedBeans.get(type);
+        int actualPoolSize = pool.size();
+        int randomIndex = actualPoolSize > 1 ? nextPoolIndex(actualPoolSize) : 0;
+        return pool.get(randomIndex);
+    }
+
+    private int nextPoolIndex(final int poolSize) {
+        if (poolSource == null) {
+            poolSource = parameters.getRandomSource().create(parameters.getSeed());
+        }
+        // in the java.util.Random mode, this picks the same objects as a java.util.Random created with the seed
+        return poolSource.nextInt(poolSize);
     }
 
     boolean hasAlreadyRandomizedType(final Class<?> type) {
-        return populatedBeans.containsKey(type) && populatedBeans.get(type).size() == parameters.getObjectPoolSize();
+        List<Object> pool = populatedBeans.get(type);
+        return pool != null && pool.size() == parameters.getObjectPoolSize();
+    }
+
+    void pushStackItem(final RandomizationContextStackItem item) {
+        pushStackItem(item.getObject(), item.getField());
     }
 
-    void pushStackItem(final RandomizationContextStackItem field) {
-        stack.push(field);
+    void pushStackItem(final Object object, final Field field) {
+        if (depth == fields.length) {
+            objects = Arrays.copyOf(objects, depth * 2);
+            fields = Arrays.copyOf(fields, depth * 2);
+        }
+        objects[depth] = object;
+        fields[depth] = field;
+        depth++;
+        currentField = null;
     }
 
     void popStackItem() {
-        stack.pop();
+        depth--;
+        objects[depth] = null;
+        fields[depth] = null;
+        currentField = null;
     }
 
     String getFieldFullName(final Field field) {
-        List<String> pathToField = getStackedFieldNames();
-        pathToField.add(field.getName());
-        return String.join(".", toLowerCase(pathToField));
+        String path = getCurrentField();
+        return (path.isEmpty() ? field.getName() : path + "." + field.getName()).toLowerCase();
     }
 
     boolean hasExceededRandomizationDepth() {
-        int currentRandomizationDepth = stack.size();
-        return currentRandomizationDepth > parameters.getRandomizationDepth();
+        return depth > parameters.getRandomizationDepth();
     }
 
-    private List<String> getStackedFieldNames() {
-        return stack.stream().map(i -> i.getField().getName()).collect(toList());
-    }
-
-    private List<String> toLowerCase(final List<String> strings) {
-        return strings.stream().map(String::toLowerCase).collect(toList());
+    // the fields of the current object are populated one level deeper than the object itself
+    boolean hasExceededRandomizationDepthOfFields() {
+        return depth + 1 > parameters.getRandomizationDepth();
     }
 
     void setRandomizedObject(Object randomizedObject) {
@@ -120,22 +177,32 @@ class RandomizationContext implements RandomizerContext {
 
     @Override
     public Object getCurrentObject() {
-        if (stack.empty()) {
+        if (depth == 0) {
             return rootObject;
         }
         else {
-            return stack.lastElement().getObject();
+            return objects[depth - 1];
         }
     }
 
     @Override
     public String getCurrentField() {
-        return String.join(".", getStackedFieldNames());
+        if (currentField == null) {
+            StringBuilder path = new StringBuilder();
+            for (int i = 0; i < depth; i++) {
+                if (i > 0) {
+                    path.append('.');
+                }
+                path.append(fields[i].getName());
+            }
+            currentField = path.toString();
+        }
+        return currentField;
     }
 
     @Override
     public int getCurrentRandomizationDepth() {
-        return stack.size();
+        return depth;
     }
 
     @Override
@@ -147,4 +214,20 @@ class RandomizationContext implements RandomizerContext {
     public EasilyRandomerParameters getParameters() {
         return parameters;
     }
+
+    @Override
+    public Object nextObject(final Field field) {
+        if (easilyRandomer == null) {
+            return RandomizerContext.super.nextObject(field);
+        }
+        return easilyRandomer.doPopulateField(field, this);
+    }
+
+    @Override
+    public Object nextObject(final Field field, final int size) {
+        if (easilyRandomer == null) {
+            return RandomizerContext.super.nextObject(field, size);
+        }
+        return easilyRandomer.doPopulateField(field, size, this);
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.api.FieldAccessStrategy;
+import org.jeasy.random.api.FieldAccessor;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import static org.jeasy.random.util.ReflectionUtils.getWriteMethod;
+
+/**
+ * {@link FieldAccessStrategy} based on the Java reflection API. The setter (if any) is resolved and
+ * a copy of the field is made accessible once, when the accessor is created.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class ReflectiveFieldAccessStrategy implements FieldAccessStrategy {
+
+    @Override
+    public FieldAccessor getAccessor(final Field field, final boolean bypassSetters) {
+        Method setter = bypassSetters ? null : getWriteMethod(field).orElse(null);
+        return new ReflectiveFieldAccessor(field, setter);
+    }
+
+    private static class ReflectiveFieldAccessor implements FieldAccessor {
+
+        private final Field field;
+
+        private final Method setter;
+
+        private ReflectiveFieldAccessor(final Field field, final Method setter) {
+            // a copy of the field is made accessible, the field of the caller is left untouched
+            this.field = copyOf(field);
+            this.setter = setter;
+            this.field.trySetAccessible();
+        }
+
+        private static Field copyOf(final Field field) {
+            try {
+                return field.getDeclaringClass().getDeclaredField(field.getName());
+            } catch (NoSuchFieldException e) {
+                throw new IllegalArgumentException("Unable to copy field " + field, e);
+            }
+        }
+
+        @Override
+        public Object getValue(final Object target) throws IllegalAccessException {
+            return field.get(target);
+        }
+
+        @Override
+        public void setValue(final Object target, final Object value) throws IllegalAccessException, InvocationTargetException {
+            if (setter == null) {
+                field.set(target, value);
+                return;
+            }
+            try {
+                setter.invoke(target, value);
+            } catch (IllegalAccessException e) {
+                // otherwise, set field using reflection
+                field.set(target, value);
+            }
+        }
+    }
+}
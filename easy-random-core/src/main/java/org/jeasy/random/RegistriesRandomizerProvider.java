@@ -30,72 +30,184 @@ import org.jeasy.random.api.RandomizerRegistry;
 
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
 
 /**
  * Central class to get registered randomizers by Field or by Type.
  *
+ * Answers of {@link RandomizerRegistry#isStable() stable} registries are resolved once per
+ * field and per type (including the absence of a randomizer) and cached. Other registries are
+ * consulted on each lookup and their answers are merged with the cached ones, so that the
+ * randomizer with the highest priority (and then the one from the registry with the highest
+ * priority) wins, as if all registries were consulted. Cached answers are discarded when the
+ * {@link RandomizerRegistry#getVersion() version} of a stable registry changes, for instance when
+ * a randomizer or an exclusion is added to the parameters after the engine is built.
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
 class RegistriesRandomizerProvider implements RandomizerProvider {
 
+    private static final Lookup<Field> BY_FIELD = RandomizerRegistry::getRandomizer;
+    private static final Lookup<Class<?>> BY_TYPE = RandomizerRegistry::getRandomizer;
+
     private final List<RandomizerRegistry> registries = new ArrayList<>();
 
     private final Comparator<Object> priorityComparator = new PriorityComparator();
 
+    // replaced when the version of a stable registry changes, so that answers resolved concurrently with
+    // the change are never cached with the new version
+    private volatile Resolutions resolutions = new Resolutions(0);
+
+    private int[] unstableRegistries = new int[0];
+
+    // stable registries whose answers can change, the others always have the same version
+    private RandomizerRegistry[] versionedRegistries = new RandomizerRegistry[0];
+
     @Override
     public Randomizer<?> getRandomizerByField(Field field, RandomizerContext context) {
-        return getRandomizer(new ByFieldProvider(field));
+        return getRandomizer(getResolutions().byField, field, BY_FIELD);
     }
 
     @Override
     public <T> Randomizer<T> getRandomizerByType(Class<T> type, RandomizerContext context) {
-        return (Randomizer<T>) getRandomizer(new ByTypeProvider(type));
+        return (Randomizer<T>) getRandomizer(getResolutions().byType, type, BY_TYPE);
     }
 
     @Override
     public void setRandomizerRegistries(Set<RandomizerRegistry> randomizerRegistries) {
         this.registries.addAll(randomizerRegistries);
         this.registries.sort(priorityComparator);
+        this.unstableRegistries = IntStream.range(0, registries.size())
+                .filter(index -> !registries.get(index).isStable())
+                .toArray();
+        this.versionedRegistries = registries.stream()
+                .filter(registry -> registry.isStable() && isVersioned(registry))
+                .toArray(RandomizerRegistry[]::new);
+        resolutions = new Resolutions(getVersion());
     }
 
-    private Randomizer<?> getRandomizer(final Provider provider) {
-        return registries.stream()
-                .map(provider::getRandomizer)
-                .filter(Objects::nonNull)
-                .sorted(priorityComparator)
-                .findFirst().orElse(null);
+    private static boolean isVersioned(final RandomizerRegistry registry) {
+        try {
+            return registry.getClass().getMethod("getVersion").getDeclaringClass() != RandomizerRegistry.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
     }
 
-    @FunctionalInterface
-    private interface Provider {
-        Randomizer<?> getRandomizer(RandomizerRegistry registry);
+    /**
+     * Are all the registries of this provider stable? If so, the randomizer of a field or of a type only
+     * changes with the {@link #getVersion() version} of the registries.
+     *
+     * @return true if all the registries are stable
+     */
+    boolean isStable() {
+        return unstableRegistries.length == 0;
     }
 
-    private static class ByTypeProvider implements Provider {
+    /**
+     * Get the version of the stable registries of this provider, which changes when one of their answers can change.
+     *
+     * @return the version of the stable registries
+     */
+    long getVersion() {
+        long version = 0;
+        for (RandomizerRegistry registry : versionedRegistries) {
+            version += registry.getVersion();
+        }
+        return version;
+    }
 
-        private final Class<?> type;
+    private Resolutions getResolutions() {
+        Resolutions current = resolutions;
+        long version = getVersion();
+        if (current.version != version) {
+            current = new Resolutions(version);
+            resolutions = current;
+        }
+        return current;
+    }
 
-        public ByTypeProvider(final Class<?> type) {
-            this.type = type;
+    private <K> Randomizer<?> getRandomizer(final Map<K, Resolution> cache, final K key, final Lookup<? super K> lookup) {
+        Resolution resolution = cache.get(key);
+        if (resolution == null) {
+            resolution = resolveStable(key, lookup);
+            cache.putIfAbsent(key, resolution);
         }
+        Randomizer<?> best = resolution.randomizer;
+        int bestPriority = resolution.priority;
+        int bestIndex = resolution.registryIndex;
+        for (int index : unstableRegistries) {
+            Randomizer<?> randomizer = lookup.getRandomizer(registries.get(index), key);
+            if (randomizer != null) {
+                int priority = PriorityComparator.getPriority(randomizer);
+                if (isBetter(best, bestPriority, bestIndex, priority, index)) {
+                    best = randomizer;
+                    bestPriority = priority;
+                    bestIndex = index;
+                }
+            }
+        }
+        return best;
+    }
 
-        @Override
-        public Randomizer<?> getRandomizer(final RandomizerRegistry registry) {
-            return registry.getRandomizer(type);
+    private <K> Resolution resolveStable(final K key, final Lookup<? super K> lookup) {
+        Resolution resolution = Resolution.NONE;
+        for (int i = 0; i < registries.size(); i++) {
+            RandomizerRegistry registry = registries.get(i);
+            if (registry.isStable()) {
+                Randomizer<?> randomizer = lookup.getRandomizer(registry, key);
+                if (randomizer != null) {
+                    int priority = PriorityComparator.getPriority(randomizer);
+                    if (isBetter(resolution.randomizer, resolution.priority, resolution.registryIndex, priority, i)) {
+                        resolution = new Resolution(randomizer, priority, i);
+                    }
+                }
+            }
         }
+        return resolution;
+    }
+
+    private static boolean isBetter(final Randomizer<?> best, final int bestPriority, final int bestIndex,
+                                    final int priority, final int index) {
+        return best == null || priority > bestPriority || (priority == bestPriority && index < bestIndex);
     }
 
-    private static class ByFieldProvider implements Provider {
+    /**
+     * Answers of stable registries, for a given version of these registries.
+     */
+    private static class Resolutions {
 
-        private final Field field;
+        private final long version;
+        private final Map<Field, Resolution> byField = new ConcurrentHashMap<>();
+        private final Map<Class<?>, Resolution> byType = new ConcurrentHashMap<>();
 
-        public ByFieldProvider(final Field field) {
-            this.field = field;
+        private Resolutions(final long version) {
+            this.version = version;
         }
+    }
+
+    @FunctionalInterface
+    private interface Lookup<K> {
+        Randomizer<?> getRandomizer(RandomizerRegistry registry, K key);
+    }
+
+    /**
+     * A randomizer along with its priority and the position of the registry it comes from.
+     */
+    private static class Resolution {
+
+        // cached when no stable registry has a randomizer for a field or a type
+        private static final Resolution NONE = new Resolution(null, 0, Integer.MAX_VALUE);
+
+        private final Randomizer<?> randomizer;
+        private final int priority;
+        private final int registryIndex;
 
-        @Override
-        public Randomizer<?> getRandomizer(final RandomizerRegistry registry) {
-            return registry.getRandomizer(field);
+        private Resolution(final Randomizer<?> randomizer, final int priority, final int registryIndex) {
+            this.randomizer = randomizer;
+            this.priority = priority;
+            this.registryIndex = registryIndex;
         }
     }
 }
@@ -0,0 +1,114 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+/**
+ * One of the contiguous and disjoint parts of a range of object indexes. Shards are
+ * used to split the generation of a large dataset between several processes:
+ *
+ *<pre>
+ *     // in process k of n
+ *     Stream&lt;Person&gt; persons = easilyRandomer.objects(Person.class, datasetSize, shard(k, n));
+ *</pre>
+ *
+ * Since the object at a given index only depends on the seed, the type and the index,
+ * concatenating the shards in order gives the same dataset as generating it in one process.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class Shard {
+
+    private final int index;
+
+    private final int count;
+
+    /**
+     * Create a new {@link Shard}.
+     *
+     * @param index of the shard, from 0 (inclusive) to count (exclusive)
+     * @param count total number of shards
+     */
+    public Shard(final int index, final int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("The shard count must be strictly positive");
+        }
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("The shard index must be between 0 (inclusive) and the shard count (exclusive)");
+        }
+        this.index = index;
+        this.count = count;
+    }
+
+    /**
+     * Create a new {@link Shard}.
+     *
+     * @param index of the shard, from 0 (inclusive) to count (exclusive)
+     * @param count total number of shards
+     * @return the shard at the given index
+     */
+    public static Shard shard(final int index, final int count) {
+        return new Shard(index, count);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Get the first index of this shard in a range of the given size. Sizes of the shards
+     * of a range differ by at most one.
+     *
+     * @param size of the range
+     * @return the first index of this shard (inclusive)
+     */
+    public long getFromIndex(final long size) {
+        return startOf(index, size);
+    }
+
+    /**
+     * Get the last index of this shard in a range of the given size.
+     *
+     * @param size of the range
+     * @return the last index of this shard (exclusive)
+     */
+    public long getToIndex(final long size) {
+        return startOf(index + 1, size);
+    }
+
+    private long startOf(final int shardIndex, final long size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The size must be positive");
+        }
+        return (size / count) * shardIndex + Math.min(shardIndex, size % count);
+    }
+
+    @Override
+    public String toString() {
+        return "Shard{" + index + " of " + count + '}';
+    }
+}
@@ -33,4 +33,23 @@ public interface ContextAwareRandomizer<T> extends Randomizer<T> {
 
     void setRandomizerContext(RandomizerContext context);
 
+    /**
+     * Generate a random value in the given context. This is the method called by
+     * {@link org.jeasy.random.EasilyRandomer}, possibly from several threads at the same time.
+     *
+     * The default implementation sets the context on this randomizer and then calls
+     * {@link #getRandomValue()}. Implementations relying on {@link #setRandomizerContext(RandomizerContext)}
+     * are therefore not safe to share between threads, or between engines used by several threads:
+     * a context set by one call can be read by another one. Randomizers that are shared should
+     * override this method and use the given context directly.
+     *
+     * @param context the current randomization context
+     * @return a random value
+     * @since 5.1
+     */
+    default T getRandomValue(RandomizerContext context) {
+        setRandomizerContext(context);
+        return getRandomValue();
+    }
+
 }
@@ -0,0 +1,161 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.api;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Read/write access to a given field of objects being randomized.
+ * Accessors are created once per field by a {@link FieldAccessStrategy} and reused
+ * for every generated object.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ * @since 5.1
+ */
+public interface FieldAccessor {
+
+    /**
+     * Get the value of the field in the target object.
+     *
+     * @param target instance to get the field value of
+     * @return the value of the field
+     * @throws IllegalAccessException if the field cannot be read
+     */
+    Object getValue(final Object target) throws IllegalAccessException;
+
+    /**
+     * Set the value of the field in the target object.
+     *
+     * @param target instance to set the field value on
+     * @param value value to set
+     * @throws IllegalAccessException if the field cannot be set
+     * @throws InvocationTargetException if the field is set through a setter which throws an exception
+     */
+    void setValue(final Object target, final Object value) throws IllegalAccessException, InvocationTargetException;
+
+    /**
+     * Set the value of a {@code boolean} field in the target object. The default implementation
+     * boxes the value and delegates to {@link #setValue(Object, Object)}.
+     *
+     * @param target instance to set the field value on
+     * @param value value to set
+     * @throws IllegalAccessException if the field cannot be set
+     * @throws InvocationTargetException if the field is set through a setter which throws an exception
+     */
+    default void setBoolean(final Object target, final boolean value) throws IllegalAccessException, InvocationTargetException {
+        setValue(target, value);
+    }
+
+    /**
+     * Set the value of a {@code byte} field in the target object. The default implementation
+     * boxes the value and delegates to {@link #setValue(Object, Object)}.
+     *
+     * @param target instance to set the field value on
+     * @param value value to set
+     * @throws IllegalAccessException if the field cannot be set
+     * @throws InvocationTargetException if the field is set through a setter which throws an exception
+     */
+    default void setByte(final Object target, final byte value) throws IllegalAccessException, InvocationTargetException {
+        setValue(target, value);
+    }
+
+    /**
+     * Set the value of a {@code char} field in the target object. The default implementation
+     * boxes the value and delegates to {@link #setValue(Object, Object)}.
+     *
+     * @param target instance to set the field value on
+     * @param value value to set
+     * @throws IllegalAccessException if the field cannot be set
+     * @throws InvocationTargetException if the field is set through a setter which throws an exception
+     */
+    default void setChar(final Object target, final char value) throws IllegalAccessException, InvocationTargetException {
+        setValue(target, value);
+    }
+
+    /**
+     * Set the value of a {@code short} field in the target object. The default implementation
+     * boxes the value and delegates to {@link #setValue(Object, Object)}.
+     *
+     * @param target instance to set the field value on
+     * @param value value to set
+     * @throws IllegalAccessException if the field cannot be set
+     * @throws InvocationTargetException if the field is set through a setter which throws an exception
+     */
+    default void setShort(final Object target, final short value) throws IllegalAccessException, InvocationTargetException {
+        setValue(target, value);
+    }
+
+    /**
+     * Set the value of a {@code int} field in the target object. The default implementation
+     * boxes the value and delegates to {@link #setValue(Object, Object)}.
+     *
+     * @param target instance to set the field value on
+     * @param value value to set
+     * @throws IllegalAccessException if the field cannot be set
+     * @throws InvocationTargetException if the field is set through a setter which throws an exception
+     */
+    default void setInt(final Object target, final int value) throws IllegalAccessException, InvocationTargetException {
+        setValue(target, value);
+    }
+
+    /**
+     * Set the value of a {@code long} field in the target object. The default implementation
+     * boxes the value and delegates to {@link #setValue(Object, Object)}.
+     *
+     * @param target instance to set the field value on
+     * @param value value to set
+     * @throws IllegalAccessException if the field cannot be set
+     * @throws InvocationTargetException if the field is set through a setter which throws an exception
+     */
+    default void setLong(final Object target, final long value) throws IllegalAccessException, InvocationTargetException {
+        setValue(target, value);
+    }
+
+    /**
+     * Set the value of a {@code float} field in the target object. The default implementation
+     * boxes the value and delegates to {@link #setValue(Object, Object)}.
+     *
+     * @param target instance to set the field value on
+     * @param value value to set
+     * @throws IllegalAccessException if the field cannot be set
+     * @throws InvocationTargetException if the field is set through a setter which throws an exception
+     */
+    default void setFloat(final Object target, final float value) throws IllegalAccessException, InvocationTargetException {
+        setValue(target, value);
+    }
+
+    /**
+     * Set the value of a {@code double} field in the target object. The default implementation
+     * boxes the value and delegates to {@link #setValue(Object, Object)}.
+     *
+     * @param target instance to set the field value on
+     * @param value value to set
+     * @throws IllegalAccessException if the field cannot be set
+     * @throws InvocationTargetException if the field is set through a setter which throws an exception
+     */
+    default void setDouble(final Object target, final double value) throws IllegalAccessException, InvocationTargetException {
+        setValue(target, value);
+    }
+
+}
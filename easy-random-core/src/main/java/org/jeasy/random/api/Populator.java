@@ -0,0 +1,80 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.api;
+
+import java.lang.reflect.Field;
+
+/**
+ * Reflection free access to a given type, generated at compile time for types annotated with
+ * {@link org.jeasy.random.annotation.GeneratePopulator}.
+ *
+ * The populator of a type is discovered by naming convention: it is the class named after the
+ * binary name of the type followed by {@code _Populator}, in the package of the type. The {@code $}
+ * of nested types is kept, so that two types never get the same populator name. For example, the
+ * populator of {@code com.acme.Order$Line} is {@code com.acme.Order$Line_Populator}, and the one of
+ * {@code com.acme.Order_Line} is {@code com.acme.Order_Line_Populator}. It must have a public no-arg
+ * constructor.
+ *
+ * Populators only replace reflection: exclusions, randomizers and randomization depth are applied
+ * by {@link org.jeasy.random.EasilyRandomer} in the same way for all types.
+ *
+ * @param <T> the populated type
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ * @since 5.1
+ */
+public interface Populator<T> {
+
+    /**
+     * Suffix of the simple name of generated populators.
+     */
+    String SUFFIX = "_Populator";
+
+    /**
+     * Create a new instance of the populated type with its no-arg constructor.
+     *
+     * @return a new instance, or null if the type has no accessible no-arg constructor
+     */
+    T newInstance();
+
+    /**
+     * Get an accessor of the given field, declared in the populated type or in one of its super classes.
+     *
+     * @param field the field to access
+     * @param bypassSetters true if the field should be written directly even if a setter exists
+     * @return an accessor of the given field, or null if the field is not accessible to this populator
+     */
+    FieldAccessor getAccessor(final Field field, final boolean bypassSetters);
+
+    /**
+     * Get the fields of the populated type and of its super classes, as known when the populator was
+     * generated: fields declared in the populated type first, then those of each super class. This is
+     * the order of {@link Class#getDeclaredFields()} walked up the class hierarchy.
+     *
+     * @return the fields of the populated type, or null if they should be found by reflection
+     */
+    default Field[] getFields() {
+        return null;
+    }
+
+}
@@ -0,0 +1,272 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.api;
+
+/**
+ * A {@link Randomizer} of primitive values which can generate them without boxing.
+ * {@link org.jeasy.random.EasilyRandomer} uses the specialisation matching the type of a primitive
+ * field to populate it without boxing the generated value.
+ *
+ * Implementations should only implement the primitive method of their specialisation:
+ * {@link #getRandomValue()} boxes the value it returns, so that both methods draw the same values.
+ * A randomizer overriding {@link #getRandomValue()} is always invoked through it.
+ *
+ * @param <T> the wrapper type of the generated values
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ * @since 5.1
+ */
+public interface PrimitiveRandomizer<T> extends Randomizer<T> {
+
+    /**
+     * A {@link PrimitiveRandomizer} of {@code boolean} values.
+     */
+    interface OfBoolean extends PrimitiveRandomizer<Boolean> {
+
+        /**
+         * Generate a random {@code boolean} value.
+         *
+         * @return a random {@code boolean} value
+         */
+        boolean nextBoolean();
+
+        /**
+         * Fill the given array with random values, in order.
+         *
+         * @param values the array to fill
+         */
+        default void fill(final boolean[] values) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = nextBoolean();
+            }
+        }
+
+        @Override
+        default Boolean getRandomValue() {
+            return nextBoolean();
+        }
+    }
+
+    /**
+     * A {@link PrimitiveRandomizer} of {@code byte} values.
+     */
+    interface OfByte extends PrimitiveRandomizer<Byte> {
+
+        /**
+         * Generate a random {@code byte} value.
+         *
+         * @return a random {@code byte} value
+         */
+        byte nextByte();
+
+        /**
+         * Fill the given array with random values, in order.
+         *
+         * @param values the array to fill
+         */
+        default void fill(final byte[] values) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = nextByte();
+            }
+        }
+
+        @Override
+        default Byte getRandomValue() {
+            return nextByte();
+        }
+    }
+
+    /**
+     * A {@link PrimitiveRandomizer} of {@code char} values.
+     */
+    interface OfChar extends PrimitiveRandomizer<Character> {
+
+        /**
+         * Generate a random {@code char} value.
+         *
+         * @return a random {@code char} value
+         */
+        char nextChar();
+
+        /**
+         * Fill the given array with random values, in order.
+         *
+         * @param values the array to fill
+         */
+        default void fill(final char[] values) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = nextChar();
+            }
+        }
+
+        @Override
+        default Character getRandomValue() {
+            return nextChar();
+        }
+    }
+
+    /**
+     * A {@link PrimitiveRandomizer} of {@code short} values.
+     */
+    interface OfShort extends PrimitiveRandomizer<Short> {
+
+        /**
+         * Generate a random {@code short} value.
+         *
+         * @return a random {@code short} value
+         */
+        short nextShort();
+
+        /**
+         * Fill the given array with random values, in order.
+         *
+         * @param values the array to fill
+         */
+        default void fill(final short[] values) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = nextShort();
+            }
+        }
+
+        @Override
+        default Short getRandomValue() {
+            return nextShort();
+        }
+    }
+
+    /**
+     * A {@link PrimitiveRandomizer} of {@code int} values.
+     */
+    interface OfInt extends PrimitiveRandomizer<Integer> {
+
+        /**
+         * Generate a random {@code int} value.
+         *
+         * @return a random {@code int} value
+         */
+        int nextInt();
+
+        /**
+         * Fill the given array with random values, in order.
+         *
+         * @param values the array to fill
+         */
+        default void fill(final int[] values) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = nextInt();
+            }
+        }
+
+        @Override
+        default Integer getRandomValue() {
+            return nextInt();
+        }
+    }
+
+    /**
+     * A {@link PrimitiveRandomizer} of {@code long} values.
+     */
+    interface OfLong extends PrimitiveRandomizer<Long> {
+
+        /**
+         * Generate a random {@code long} value.
+         *
+         * @return a random {@code long} value
+         */
+        long nextLong();
+
+        /**
+         * Fill the given array with random values, in order.
+         *
+         * @param values the array to fill
+         */
+        default void fill(final long[] values) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = nextLong();
+            }
+        }
+
+        @Override
+        default Long getRandomValue() {
+            return nextLong();
+        }
+    }
+
+    /**
+     * A {@link PrimitiveRandomizer} of {@code float} values.
+     */
+    interface OfFloat extends PrimitiveRandomizer<Float> {
+
+        /**
+         * Generate a random {@code float} value.
+         *
+         * @return a random {@code float} value
+         */
+        float nextFloat();
+
+        /**
+         * Fill the given array with random values, in order.
+         *
+         * @param values the array to fill
+         */
+        default void fill(final float[] values) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = nextFloat();
+            }
+        }
+
+        @Override
+        default Float getRandomValue() {
+            return nextFloat();
+        }
+    }
+
+    /**
+     * A {@link PrimitiveRandomizer} of {@code double} values.
+     */
+    interface OfDouble extends PrimitiveRandomizer<Double> {
+
+        /**
+         * Generate a random {@code double} value.
+         *
+         * @return a random {@code double} value
+         */
+        double nextDouble();
+
+        /**
+         * Fill the given array with random values, in order.
+         *
+         * @param values the array to fill
+         */
+        default void fill(final double[] values) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = nextDouble();
+            }
+        }
+
+        @Override
+        default Double getRandomValue() {
+            return nextDouble();
+        }
+    }
+}
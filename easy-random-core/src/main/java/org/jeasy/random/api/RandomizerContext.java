@@ -26,6 +26,8 @@ package org.jeasy.random.api;
 import org.jeasy.random.EasilyRandomer;
 import org.jeasy.random.EasilyRandomerParameters;
 
+import java.lang.reflect.Field;
+
 /**
  * A context object for a {@link Randomizer}.
  * This interface provides information about the randomization context.
@@ -70,4 +72,39 @@ public interface RandomizerContext {
      */
     EasilyRandomerParameters getParameters();
 
+    /**
+     * Generate a random value for the given field with the enclosing {@link EasilyRandomer}, as part
+     * of the current randomization, so that the value counts in the randomization depth and shares
+     * the objects already populated. Randomizers registered for the field are not used.
+     *
+     * This is intended for randomizers of fields which only handle some of the types of the field.
+     *
+     * @param field for which a value should be generated
+     * @return a random value for the field
+     * @throws UnsupportedOperationException if this context is not attached to an {@link EasilyRandomer}
+     * @since 5.1
+     */
+    default Object nextObject(Field field) {
+        throw new UnsupportedOperationException("This context is not attached to an EasilyRandomer");
+    }
+
+    /**
+     * Generate a random value for the given field with the enclosing {@link EasilyRandomer}, as part
+     * of the current randomization, so that the value counts in the randomization depth and shares
+     * the objects already populated. Randomizers registered for the field are not used. Arrays,
+     * collections and maps are generated with the given size instead of a size drawn from
+     * {@link EasilyRandomerParameters#getCollectionSizeRange()}.
+     *
+     * This is intended for randomizers of fields which only constrain the size of their value.
+     *
+     * @param field for which a value should be generated
+     * @param size of the array, collection or map to generate, ignored for other types
+     * @return a random value for the field
+     * @throws UnsupportedOperationException if this context is not attached to an {@link EasilyRandomer}
+     * @since 5.1
+     */
+    default Object nextObject(Field field, int size) {
+        throw new UnsupportedOperationException("This context is not attached to an EasilyRandomer");
+    }
+
 }
@@ -57,4 +57,31 @@ public interface RandomizerRegistry {
      * @return the randomizer registered for the given type.
      */
     Randomizer<?> getRandomizer(final Class<?> type);
+
+    /**
+     * Tell whether this registry always returns the same answer for a given field or type
+     * once it has been initialized, as long as its {@link #getVersion() version} does not change.
+     * Answers of stable registries (including the absence of a randomizer) are cached by the
+     * {@link RandomizerProvider}, so a stable registry is consulted only once per field and per
+     * type and per version.
+     *
+     * @return true if the answers of this registry can be cached, false otherwise
+     * @since 5.1
+     */
+    default boolean isStable() {
+        return false;
+    }
+
+    /**
+     * Get the version of the answers of this registry. A stable registry whose answers can change
+     * after it has been initialized, for instance because a randomizer is registered in it, must
+     * return a new version each time its answers change, so that the answers cached by the
+     * {@link RandomizerProvider} are discarded.
+     *
+     * @return the version of the answers of this registry
+     * @since 5.1
+     */
+    default long getVersion() {
+        return 0;
+    }
 }
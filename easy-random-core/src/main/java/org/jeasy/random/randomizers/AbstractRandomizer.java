@@ -24,6 +24,7 @@
 package org.jeasy.random.randomizers;
 
 import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.util.BindableRandom;
 
 import java.util.Random;
 
@@ -32,6 +33,10 @@ import static java.util.ResourceBundle.getBundle;
 /**
  * Base class for {@link org.jeasy.random.api.Randomizer} implementations.
  *
+ * Values are drawn from the {@link org.jeasy.random.util.RandomSource} bound to the generating
+ * thread if any (see {@link org.jeasy.random.EasilyRandomerParameters#randomSource}), and from
+ * the seed of the randomizer otherwise.
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
 public abstract class AbstractRandomizer<T> implements Randomizer<T>  {
@@ -39,11 +44,11 @@ public abstract class AbstractRandomizer<T> implements Randomizer<T>  {
     protected final Random random;
 
     protected AbstractRandomizer() {
-        random = new Random();
+        random = new BindableRandom();
     }
 
     protected AbstractRandomizer(final long seed) {
-        random = new Random(seed);
+        random = new BindableRandom(seed);
     }
 
     protected String[] getPredefinedValuesOf(final String key) {
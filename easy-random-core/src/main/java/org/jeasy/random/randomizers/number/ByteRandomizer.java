@@ -23,14 +23,14 @@
  */
 package org.jeasy.random.randomizers.number;
 
-import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.api.PrimitiveRandomizer;
 
 /**
  * Generate a random {@link Byte}.
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class ByteRandomizer implements Randomizer<Byte> {
+public class ByteRandomizer implements PrimitiveRandomizer.OfByte {
 
     private final IntegerRandomizer delegate;
 
@@ -51,7 +51,7 @@ public class ByteRandomizer implements Randomizer<Byte> {
     }
 
     @Override
-    public Byte getRandomValue() {
-        return delegate.getRandomValue().byteValue();
+    public byte nextByte() {
+        return (byte) delegate.nextInt();
     }
 }
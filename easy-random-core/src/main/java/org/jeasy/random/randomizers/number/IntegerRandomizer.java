@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.number;
 
+import org.jeasy.random.api.PrimitiveRandomizer;
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
 /**
@@ -30,7 +31,7 @@ import org.jeasy.random.randomizers.AbstractRandomizer;
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class IntegerRandomizer extends AbstractRandomizer<Integer> {
+public class IntegerRandomizer extends AbstractRandomizer<Integer> implements PrimitiveRandomizer.OfInt {
 
     /**
      * Create a new {@link IntegerRandomizer}.
@@ -48,7 +49,7 @@ public class IntegerRandomizer extends AbstractRandomizer<Integer> {
     }
 
     @Override
-    public Integer getRandomValue() {
+    public int nextInt() {
         return random.nextInt();
     }
 }
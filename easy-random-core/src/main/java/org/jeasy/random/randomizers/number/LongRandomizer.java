@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.number;
 
+import org.jeasy.random.api.PrimitiveRandomizer;
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
 /**
@@ -30,7 +31,7 @@ import org.jeasy.random.randomizers.AbstractRandomizer;
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class LongRandomizer extends AbstractRandomizer<Long> {
+public class LongRandomizer extends AbstractRandomizer<Long> implements PrimitiveRandomizer.OfLong {
 
     /**
      * Create a new {@link LongRandomizer}.
@@ -48,7 +49,7 @@ public class LongRandomizer extends AbstractRandomizer<Long> {
     }
 
     @Override
-    public Long getRandomValue() {
+    public long nextLong() {
         return random.nextLong();
     }
 }
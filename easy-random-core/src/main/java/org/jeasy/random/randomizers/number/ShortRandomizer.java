@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.number;
 
+import org.jeasy.random.api.PrimitiveRandomizer;
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
 /**
@@ -30,7 +31,7 @@ import org.jeasy.random.randomizers.AbstractRandomizer;
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class ShortRandomizer extends AbstractRandomizer<Short> {
+public class ShortRandomizer extends AbstractRandomizer<Short> implements PrimitiveRandomizer.OfShort {
 
     /**
      * Create a new {@link ShortRandomizer}.
@@ -48,7 +49,7 @@ public class ShortRandomizer extends AbstractRandomizer<Short> {
     }
 
     @Override
-    public Short getRandomValue() {
+    public short nextShort() {
         return (short) random.nextInt();
     }
 }
@@ -23,12 +23,14 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.PrimitiveRandomizer;
+
 /**
  * Generate a random {@link Byte} in the given range.
  *
  * @author Rémi Alvergnat (toilal.dev@gmail.com)
  */
-public class ByteRangeRandomizer extends AbstractRangeRandomizer<Byte> {
+public class ByteRangeRandomizer extends AbstractRangeRandomizer<Byte> implements PrimitiveRandomizer.OfByte {
 
     /**
      * Create a new {@link ByteRangeRandomizer}.
@@ -59,7 +61,7 @@ public class ByteRangeRandomizer extends AbstractRangeRandomizer<Byte> {
     }
 
     @Override
-    public Byte getRandomValue() {
+    public byte nextByte() {
         return (byte) nextDouble(min, max);
     }
 
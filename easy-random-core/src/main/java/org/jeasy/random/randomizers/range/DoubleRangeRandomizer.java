@@ -23,12 +23,14 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.PrimitiveRandomizer;
+
 /**
  * Generate a random {@link Double} in the given range.
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class DoubleRangeRandomizer extends AbstractRangeRandomizer<Double> {
+public class DoubleRangeRandomizer extends AbstractRangeRandomizer<Double> implements PrimitiveRandomizer.OfDouble {
 
     /**
      * Create a new {@link DoubleRangeRandomizer}.
@@ -69,7 +71,7 @@ public class DoubleRangeRandomizer extends AbstractRangeRandomizer<Double> {
     }
 
     @Override
-    public Double getRandomValue() {
+    public double nextDouble() {
         return nextDouble(min, max);
     }
 }
@@ -23,12 +23,14 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.PrimitiveRandomizer;
+
 /**
  * Generate a random {@link Short} in the given range.
  *
  * @author Rémi Alvergnat (toilal.dev@gmail.com)
  */
-public class ShortRangeRandomizer extends AbstractRangeRandomizer<Short> {
+public class ShortRangeRandomizer extends AbstractRangeRandomizer<Short> implements PrimitiveRandomizer.OfShort {
 
     /**
      * Create a new {@link ShortRangeRandomizer}.
@@ -59,7 +61,7 @@ public class ShortRangeRandomizer extends AbstractRangeRandomizer<Short> {
     }
 
     @Override
-    public Short getRandomValue() {
+    public short nextShort() {
         return (short) nextDouble(min, max);
     }
 
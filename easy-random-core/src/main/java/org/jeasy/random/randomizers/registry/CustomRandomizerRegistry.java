@@ -25,26 +25,42 @@ package org.jeasy.random.randomizers.registry;
 
 import org.jeasy.random.annotation.Priority;
 import org.jeasy.random.EasilyRandomerParameters;
+import org.jeasy.random.FieldPredicates.FieldPredicate;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.api.RandomizerRegistry;
 import org.jeasy.random.util.ReflectionUtils;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 
 /**
  * Registry of user defined randomizers.
  *
+ * When several field predicates match a field, the randomizer of the first registered one is used.
+ * Predicates created with {@link org.jeasy.random.FieldPredicates} are indexed by the name, type or
+ * declaring class they require, so only the predicates which may match a field are tested. Other
+ * predicates are tested in registration order on each lookup.
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
 @Priority(-1)
 public class CustomRandomizerRegistry implements RandomizerRegistry {
 
-    private final Map<Predicate<Field>, Randomizer<?>> customFieldRandomizersRegistry = new HashMap<>();
+    private final Map<Predicate<Field>, FieldRandomizer> customFieldRandomizersRegistry = new LinkedHashMap<>();
+    private final Map<String, List<FieldRandomizer>> fieldRandomizersByName = new HashMap<>();
+    private final Map<Class<?>, List<FieldRandomizer>> fieldRandomizersByDeclaringClass = new HashMap<>();
+    private final Map<Class<?>, List<FieldRandomizer>> fieldRandomizersByType = new HashMap<>();
+    private final List<FieldRandomizer> unindexedFieldRandomizers = new ArrayList<>();
     private final Map<Class<?>, Randomizer<?>> customTypeRandomizersRegistry = new HashMap<>();
 
+    // incremented each time a randomizer is registered, randomizers can be registered after the engine is built
+    private volatile long version;
+
     @Override
     public void init(EasilyRandomerParameters parameters) {
         // no op
@@ -52,14 +68,33 @@ public class CustomRandomizerRegistry implements RandomizerRegistry {
 
     @Override
     public Randomizer<?> getRandomizer(Field field) {
-        for (Predicate<Field> fieldPredicate : customFieldRandomizersRegistry.keySet()) {
-            if (fieldPredicate.test(field)) {
-                return customFieldRandomizersRegistry.get(fieldPredicate);
+        if (!customFieldRandomizersRegistry.isEmpty()) {
+            FieldRandomizer match = firstMatch(fieldRandomizersByName.get(field.getName()), field, null);
+            match = firstMatch(fieldRandomizersByDeclaringClass.get(field.getDeclaringClass()), field, match);
+            match = firstMatch(fieldRandomizersByType.get(field.getType()), field, match);
+            match = firstMatch(unindexedFieldRandomizers, field, match);
+            if (match != null) {
+                return match.randomizer;
             }
         }
         return getRandomizer(field.getType());
     }
 
+    // candidates are in registration order, so only those registered before the current match need to be tested
+    private static FieldRandomizer firstMatch(final List<FieldRandomizer> candidates, final Field field, final FieldRandomizer match) {
+        if (candidates != null) {
+            for (FieldRandomizer candidate : candidates) {
+                if (match != null && candidate.order > match.order) {
+                    break;
+                }
+                if (candidate.predicate.test(field)) {
+                    return candidate;
+                }
+            }
+        }
+        return match;
+    }
+
     @Override
     public Randomizer<?> getRandomizer(Class<?> type) {
         // issue 241: primitive type were ignored: try to get randomizer by primitive type, if not, then try by wrapper type
@@ -73,10 +108,69 @@ public class CustomRandomizerRegistry implements RandomizerRegistry {
 
     public <T, R> void registerRandomizer(final Class<T> type, final Randomizer<R> randomizer) {
         customTypeRandomizersRegistry.put(type, randomizer);
+        version++;
     }
 
     public void registerRandomizer(final Predicate<Field> predicate, Randomizer<?> randomizer) {
-        customFieldRandomizersRegistry.put(predicate, randomizer);
+        FieldRandomizer fieldRandomizer = customFieldRandomizersRegistry.get(predicate);
+        if (fieldRandomizer != null) {
+            // registering a predicate again replaces its randomizer but keeps its rank
+            fieldRandomizer.randomizer = randomizer;
+        } else {
+            fieldRandomizer = new FieldRandomizer(predicate, randomizer, customFieldRandomizersRegistry.size());
+            customFieldRandomizersRegistry.put(predicate, fieldRandomizer);
+            index(fieldRandomizer);
+        }
+        version++;
+    }
+
+    private void index(final FieldRandomizer fieldRandomizer) {
+        if (fieldRandomizer.predicate instanceof FieldPredicate) {
+            FieldPredicate fieldPredicate = (FieldPredicate) fieldRandomizer.predicate;
+            if (fieldPredicate.getName() != null) {
+                fieldRandomizersByName.computeIfAbsent(fieldPredicate.getName(), name -> new ArrayList<>()).add(fieldRandomizer);
+                return;
+            }
+            if (fieldPredicate.getDeclaringClass() != null) {
+                fieldRandomizersByDeclaringClass.computeIfAbsent(fieldPredicate.getDeclaringClass(), declaringClass -> new ArrayList<>()).add(fieldRandomizer);
+                return;
+            }
+            if (fieldPredicate.getType() != null) {
+                fieldRandomizersByType.computeIfAbsent(fieldPredicate.getType(), type -> new ArrayList<>()).add(fieldRandomizer);
+                return;
+            }
+        }
+        unindexedFieldRandomizers.add(fieldRandomizer);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    private static class FieldRandomizer {
+
+        private final Predicate<Field> predicate;
+
+        private final int order;
+
+        private Randomizer<?> randomizer;
+
+        FieldRandomizer(final Predicate<Field> predicate, final Randomizer<?> randomizer, final int order) {
+            this.predicate = predicate;
+            this.randomizer = randomizer;
+            this.order = order;
+        }
+    }
 }
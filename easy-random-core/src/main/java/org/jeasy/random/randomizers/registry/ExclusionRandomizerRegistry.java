@@ -34,27 +34,42 @@ import org.jeasy.random.randomizers.misc.SkipRandomizer;
 
 import java.lang.reflect.Field;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 /**
  * A {@link RandomizerRegistry} to exclude fields using a {@link Predicate}.
  *
+ * The decision for each field and each type is made once and memoized, until a predicate is added.
+ * Adding a predicate also changes the {@link #getVersion() version} of the registry.
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
 @Priority(0)
 public class ExclusionRandomizerRegistry implements RandomizerRegistry {
 
+    // skip randomizers are stateless, a single one is returned for all excluded fields and types
+    private static final SkipRandomizer SKIP_RANDOMIZER = new SkipRandomizer();
+
     private Set<Predicate<Field>> fieldPredicates = new HashSet<>();
     private Set<Predicate<Class<?>>> typePredicates = new HashSet<>();
 
+    private final Map<Field, Boolean> fieldExclusions = new ConcurrentHashMap<>();
+    // replaced when a type predicate is added, since the values of a class value cannot be cleared
+    private volatile ClassValue<Boolean> typeExclusions = newTypeExclusions();
+
+    // incremented each time a predicate is added, predicates can be added after the engine is built
+    private volatile long version;
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void init(EasilyRandomerParameters parameters) {
-        fieldPredicates.add(FieldPredicates.isAnnotatedWith(Exclude.class));
-        typePredicates.add(TypePredicates.isAnnotatedWith(Exclude.class));
+        addFieldPredicate(FieldPredicates.isAnnotatedWith(Exclude.class));
+        addTypePredicate(TypePredicates.isAnnotatedWith(Exclude.class));
     }
 
     /**
@@ -62,12 +77,12 @@ public class ExclusionRandomizerRegistry implements RandomizerRegistry {
      */
     @Override
     public Randomizer<?> getRandomizer(Field field) {
-        for (Predicate<Field> fieldPredicate : fieldPredicates) {
-            if (fieldPredicate.test(field)) {
-                return new SkipRandomizer();
-            }
+        Boolean excluded = fieldExclusions.get(field);
+        if (excluded == null) {
+            excluded = isExcluded(field);
+            fieldExclusions.put(field, excluded);
         }
-        return null;
+        return excluded ? SKIP_RANDOMIZER : null;
     }
 
     /**
@@ -75,12 +90,30 @@ public class ExclusionRandomizerRegistry implements RandomizerRegistry {
      */
     @Override
     public Randomizer<?> getRandomizer(Class<?> clazz) {
-        for (Predicate<Class<?>> typePredicate : typePredicates) {
-            if (typePredicate.test(clazz)) {
-                return new SkipRandomizer();
+        return typeExclusions.get(clazz) ? SKIP_RANDOMIZER : null;
+    }
+
+    private boolean isExcluded(final Field field) {
+        for (Predicate<Field> fieldPredicate : fieldPredicates) {
+            if (fieldPredicate.test(field)) {
+                return true;
             }
         }
-        return null;
+        return false;
+    }
+
+    private ClassValue<Boolean> newTypeExclusions() {
+        return new ClassValue<Boolean>() {
+            @Override
+            protected Boolean computeValue(Class<?> type) {
+                for (Predicate<Class<?>> typePredicate : typePredicates) {
+                    if (typePredicate.test(type)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        };
     }
 
     /**
@@ -90,6 +123,8 @@ public class ExclusionRandomizerRegistry implements RandomizerRegistry {
      */
     public void addFieldPredicate(Predicate<Field> predicate) {
         fieldPredicates.add(predicate);
+        fieldExclusions.clear();
+        version++;
     }
 
     /**
@@ -99,6 +134,23 @@ public class ExclusionRandomizerRegistry implements RandomizerRegistry {
      */
     public void addTypePredicate(Predicate<Class<?>> predicate) {
         typePredicates.add(predicate);
+        typeExclusions = newTypeExclusions();
+        version++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isStable() {
+        return true;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getVersion() {
+        return version;
+    }
 }
@@ -52,8 +52,10 @@ import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 import static java.sql.Date.valueOf;
 
@@ -65,47 +67,67 @@ import static java.sql.Date.valueOf;
 @Priority(-4)
 public class InternalRandomizerRegistry implements RandomizerRegistry {
 
-    private final Map<Class<?>, Randomizer<?>> randomizers = new HashMap<>();
+    // randomizers are created on first lookup of their type, from the parameters captured at init time
+    private static final Map<Class<?>, Function<InternalRandomizerRegistry, Randomizer<?>>> FACTORIES = new HashMap<>();
+
+    static {
+        FACTORIES.put(String.class, registry -> new StringRandomizer(registry.charset, registry.minStringLength, registry.maxStringLength, registry.seed));
+        FACTORIES.put(Character.class, registry -> new CharacterRandomizer(registry.charset, registry.seed));
+        FACTORIES.put(Boolean.class, registry -> new BooleanRandomizer(registry.seed));
+        FACTORIES.put(boolean.class, registry -> new BooleanRandomizer(registry.seed));
+        FACTORIES.put(Byte.class, registry -> new ByteRandomizer(registry.seed));
+        FACTORIES.put(byte.class, registry -> new ByteRandomizer(registry.seed));
+        FACTORIES.put(Short.class, registry -> new ShortRandomizer(registry.seed));
+        FACTORIES.put(short.class, registry -> new ShortRandomizer(registry.seed));
+        FACTORIES.put(Integer.class, registry -> new IntegerRandomizer(registry.seed));
+        FACTORIES.put(int.class, registry -> new IntegerRandomizer(registry.seed));
+        FACTORIES.put(Long.class, registry -> new LongRandomizer(registry.seed));
+        FACTORIES.put(long.class, registry -> new LongRandomizer(registry.seed));
+        FACTORIES.put(Double.class, registry -> new DoubleRandomizer(registry.seed));
+        FACTORIES.put(double.class, registry -> new DoubleRandomizer(registry.seed));
+        FACTORIES.put(Float.class, registry -> new FloatRandomizer(registry.seed));
+        FACTORIES.put(float.class, registry -> new FloatRandomizer(registry.seed));
+        FACTORIES.put(BigInteger.class, registry -> new BigIntegerRandomizer(registry.seed));
+        FACTORIES.put(BigDecimal.class, registry -> new BigDecimalRandomizer(registry.seed));
+        FACTORIES.put(AtomicLong.class, registry -> new AtomicLongRandomizer(registry.seed));
+        FACTORIES.put(AtomicInteger.class, registry -> new AtomicIntegerRandomizer(registry.seed));
+        FACTORIES.put(Date.class, registry -> new DateRangeRandomizer(registry.minDate, registry.maxDate, registry.seed));
+        FACTORIES.put(java.sql.Date.class, registry -> new SqlDateRangeRandomizer(new java.sql.Date(registry.minDate.getTime()),
+                new java.sql.Date(registry.maxDate.getTime()), registry.seed));
+        FACTORIES.put(java.sql.Time.class, registry -> new SqlTimeRandomizer(registry.seed));
+        FACTORIES.put(java.sql.Timestamp.class, registry -> new SqlTimestampRandomizer(registry.seed));
+        FACTORIES.put(Calendar.class, registry -> new CalendarRandomizer(registry.seed));
+        FACTORIES.put(URL.class, registry -> new UrlRandomizer(registry.seed));
+        FACTORIES.put(URI.class, registry -> new UriRandomizer(registry.seed));
+        FACTORIES.put(Locale.class, registry -> new LocaleRandomizer(registry.seed));
+        FACTORIES.put(UUID.class, registry -> new UUIDRandomizer(registry.seed));
+        // issue #280: skip fields of type Class
+        FACTORIES.put(Class.class, registry -> new SkipRandomizer());
+    }
+
+    private final Map<Class<?>, Randomizer<?>> randomizers = new ConcurrentHashMap<>();
+
+    private long seed;
+
+    private Charset charset;
+
+    private int minStringLength;
+
+    private int maxStringLength;
+
+    private Date minDate;
+
+    private Date maxDate;
 
     @Override
     public void init(EasilyRandomerParameters parameters) {
-        long seed = parameters.getSeed();
-        Charset charset = parameters.getCharset();
-        randomizers.put(String.class, new StringRandomizer(charset, parameters.getStringLengthRange().getMin(), parameters.getStringLengthRange().getMax(), seed));
-        CharacterRandomizer characterRandomizer = new CharacterRandomizer(charset, seed);
-        randomizers.put(Character.class, characterRandomizer);
-        randomizers.put(char.class, characterRandomizer);
-        randomizers.put(Boolean.class, new BooleanRandomizer(seed));
-        randomizers.put(boolean.class, new BooleanRandomizer(seed));
-        randomizers.put(Byte.class, new ByteRandomizer(seed));
-        randomizers.put(byte.class, new ByteRandomizer(seed));
-        randomizers.put(Short.class, new ShortRandomizer(seed));
-        randomizers.put(short.class, new ShortRandomizer(seed));
-        randomizers.put(Integer.class, new IntegerRandomizer(seed));
-        randomizers.put(int.class, new IntegerRandomizer(seed));
-        randomizers.put(Long.class, new LongRandomizer(seed));
-        randomizers.put(long.class, new LongRandomizer(seed));
-        randomizers.put(Double.class, new DoubleRandomizer(seed));
-        randomizers.put(double.class, new DoubleRandomizer(seed));
-        randomizers.put(Float.class, new FloatRandomizer(seed));
-        randomizers.put(float.class, new FloatRandomizer(seed));
-        randomizers.put(BigInteger.class, new BigIntegerRandomizer(seed));
-        randomizers.put(BigDecimal.class, new BigDecimalRandomizer(seed));
-        randomizers.put(AtomicLong.class, new AtomicLongRandomizer(seed));
-        randomizers.put(AtomicInteger.class, new AtomicIntegerRandomizer(seed));
-        Date minDate = valueOf(parameters.getDateRange().getMin());
-        Date maxDate = valueOf(parameters.getDateRange().getMax());
-        randomizers.put(Date.class, new DateRangeRandomizer(minDate, maxDate, seed));
-        randomizers.put(java.sql.Date.class, new SqlDateRangeRandomizer(new java.sql.Date(minDate.getTime()), new java.sql.Date(maxDate.getTime()), seed));
-        randomizers.put(java.sql.Time.class, new SqlTimeRandomizer(seed));
-        randomizers.put(java.sql.Timestamp.class, new SqlTimestampRandomizer(seed));
-        randomizers.put(Calendar.class, new CalendarRandomizer(seed));
-        randomizers.put(URL.class, new UrlRandomizer(seed));
-        randomizers.put(URI.class, new UriRandomizer(seed));
-        randomizers.put(Locale.class, new LocaleRandomizer(seed));
-        randomizers.put(UUID.class, new UUIDRandomizer(seed));
-        // issue #280: skip fields of type Class
-        randomizers.put(Class.class, new SkipRandomizer());
+        seed = parameters.getSeed();
+        charset = parameters.getCharset();
+        minStringLength = parameters.getStringLengthRange().getMin();
+        maxStringLength = parameters.getStringLengthRange().getMax();
+        minDate = valueOf(parameters.getDateRange().getMin());
+        maxDate = valueOf(parameters.getDateRange().getMax());
+        randomizers.clear();
     }
 
     @Override
@@ -118,6 +140,20 @@ public class InternalRandomizerRegistry implements RandomizerRegistry {
      */
     @Override
     public Randomizer<?> getRandomizer(Class<?> type) {
-        return randomizers.get(type);
+        // characters and their wrapper share the same randomizer
+        Class<?> key = type == char.class ? Character.class : type;
+        Function<InternalRandomizerRegistry, Randomizer<?>> factory = FACTORIES.get(key);
+        if (factory == null) {
+            return null;
+        }
+        return randomizers.computeIfAbsent(key, k -> factory.apply(this));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isStable() {
+        return true;
     }
 }
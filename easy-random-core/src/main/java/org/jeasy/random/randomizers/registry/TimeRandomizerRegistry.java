@@ -44,6 +44,8 @@ import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import static java.time.LocalDateTime.of;
 
@@ -55,35 +57,60 @@ import static java.time.LocalDateTime.of;
 @Priority(-3)
 public class TimeRandomizerRegistry implements RandomizerRegistry {
 
-    private final Map<Class<?>, Randomizer<?>> randomizers = new HashMap<>();
+    // randomizers are created on first lookup of their type, from the parameters captured at init time
+    private static final Map<Class<?>, Function<TimeRandomizerRegistry, Randomizer<?>>> FACTORIES = new HashMap<>();
+
+    static {
+        FACTORIES.put(Duration.class, registry -> new DurationRandomizer(registry.seed));
+        FACTORIES.put(GregorianCalendar.class, registry -> new GregorianCalendarRandomizer(registry.seed));
+        FACTORIES.put(Instant.class, registry -> new InstantRangeRandomizer(
+                registry.minDate.atStartOfDay(ZoneId.systemDefault()).toInstant(),
+                registry.maxDate.atStartOfDay(ZoneId.systemDefault()).toInstant(), registry.seed));
+        FACTORIES.put(LocalDate.class, registry -> new LocalDateRangeRandomizer(registry.minDate, registry.maxDate, registry.seed));
+        FACTORIES.put(LocalDateTime.class, registry -> new LocalDateTimeRangeRandomizer(
+                of(registry.minDate, registry.minTime), of(registry.maxDate, registry.maxTime), registry.seed));
+        FACTORIES.put(LocalTime.class, registry -> new LocalTimeRangeRandomizer(registry.minTime, registry.maxTime, registry.seed));
+        FACTORIES.put(MonthDay.class, registry -> new MonthDayRandomizer(registry.seed));
+        FACTORIES.put(OffsetDateTime.class, registry -> new OffsetDateTimeRangeRandomizer(
+                toOffsetDateTime(registry.minDate, registry.minTime),
+                toOffsetDateTime(registry.maxDate, registry.maxTime), registry.seed));
+        FACTORIES.put(OffsetTime.class, registry -> new OffsetTimeRangeRandomizer(
+                registry.minTime.atOffset(OffsetDateTime.now().getOffset()),
+                registry.maxTime.atOffset(OffsetDateTime.now().getOffset()), registry.seed));
+        FACTORIES.put(Period.class, registry -> new PeriodRandomizer(registry.seed));
+        FACTORIES.put(TimeZone.class, registry -> new TimeZoneRandomizer(registry.seed));
+        FACTORIES.put(YearMonth.class, registry -> new YearMonthRangeRandomizer(
+                YearMonth.of(registry.minDate.getYear(), registry.minDate.getMonth()),
+                YearMonth.of(registry.maxDate.getYear(), registry.maxDate.getMonth()), registry.seed));
+        FACTORIES.put(Year.class, registry -> new YearRangeRandomizer(
+                Year.of(registry.minDate.getYear()), Year.of(registry.maxDate.getYear()), registry.seed));
+        FACTORIES.put(ZonedDateTime.class, registry -> new ZonedDateTimeRangeRandomizer(
+                toZonedDateTime(registry.minDate, registry.minTime),
+                toZonedDateTime(registry.maxDate, registry.maxTime), registry.seed));
+        FACTORIES.put(ZoneOffset.class, registry -> new ZoneOffsetRandomizer(registry.seed));
+        FACTORIES.put(ZoneId.class, registry -> new ZoneIdRandomizer(registry.seed));
+    }
+
+    private final Map<Class<?>, Randomizer<?>> randomizers = new ConcurrentHashMap<>();
+
+    private long seed;
+
+    private LocalDate minDate;
+
+    private LocalDate maxDate;
+
+    private LocalTime minTime;
+
+    private LocalTime maxTime;
 
     @Override
     public void init(EasilyRandomerParameters parameters) {
-        long seed = parameters.getSeed();
-        LocalDate minDate = parameters.getDateRange().getMin();
-        LocalDate maxDate = parameters.getDateRange().getMax();
-        LocalTime minTime = parameters.getTimeRange().getMin();
-        LocalTime maxTime = parameters.getTimeRange().getMax();
-        randomizers.put(Duration.class, new DurationRandomizer(seed));
-        randomizers.put(GregorianCalendar.class, new GregorianCalendarRandomizer(seed));
-        randomizers.put(Instant.class, new InstantRangeRandomizer(minDate.atStartOfDay(ZoneId.systemDefault()).toInstant(), maxDate.atStartOfDay(ZoneId.systemDefault()).toInstant(), seed));
-        randomizers.put(LocalDate.class, new LocalDateRangeRandomizer(minDate, maxDate, seed));
-        randomizers.put(LocalDateTime.class, new LocalDateTimeRangeRandomizer(of(minDate, minTime), of(maxDate, maxTime), seed));
-        randomizers.put(LocalTime.class, new LocalTimeRangeRandomizer(minTime, maxTime, seed));
-        randomizers.put(MonthDay.class, new MonthDayRandomizer(seed));
-        randomizers.put(OffsetDateTime.class,
-                new OffsetDateTimeRangeRandomizer(toOffsetDateTime(minDate, minTime), toOffsetDateTime(maxDate, maxTime), seed));
-        randomizers.put(OffsetTime.class, new OffsetTimeRangeRandomizer(minTime.atOffset(OffsetDateTime.now().getOffset()),
-                maxTime.atOffset(OffsetDateTime.now().getOffset()), seed));
-        randomizers.put(Period.class, new PeriodRandomizer(seed));
-        randomizers.put(TimeZone.class, new TimeZoneRandomizer(seed));
-        randomizers.put(YearMonth.class, new YearMonthRangeRandomizer(YearMonth.of(minDate.getYear(), minDate.getMonth()),
-                YearMonth.of(maxDate.getYear(), maxDate.getMonth()), seed));
-        randomizers.put(Year.class, new YearRangeRandomizer(Year.of(minDate.getYear()), Year.of(maxDate.getYear()), seed));
-        randomizers.put(ZonedDateTime.class,
-                new ZonedDateTimeRangeRandomizer(toZonedDateTime(minDate, minTime), toZonedDateTime(maxDate, maxTime), seed));
-        randomizers.put(ZoneOffset.class, new ZoneOffsetRandomizer(seed));
-        randomizers.put(ZoneId.class, new ZoneIdRandomizer(seed));
+        seed = parameters.getSeed();
+        minDate = parameters.getDateRange().getMin();
+        maxDate = parameters.getDateRange().getMax();
+        minTime = parameters.getTimeRange().getMin();
+        maxTime = parameters.getTimeRange().getMax();
+        randomizers.clear();
     }
 
     private static ZonedDateTime toZonedDateTime(LocalDate localDate, LocalTime localTime) {
@@ -101,6 +128,18 @@ public class TimeRandomizerRegistry implements RandomizerRegistry {
 
     @Override
     public Randomizer<?> getRandomizer(Class<?> type) {
-        return randomizers.get(type);
+        Function<TimeRandomizerRegistry, Randomizer<?>> factory = FACTORIES.get(type);
+        if (factory == null) {
+            return null;
+        }
+        return randomizers.computeIfAbsent(type, k -> factory.apply(this));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isStable() {
+        return true;
     }
 }
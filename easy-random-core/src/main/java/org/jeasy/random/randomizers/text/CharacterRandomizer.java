@@ -23,32 +23,31 @@
  */
 package org.jeasy.random.randomizers.text;
 
+import org.jeasy.random.api.PrimitiveRandomizer;
 import org.jeasy.random.randomizers.AbstractRandomizer;
+import org.jeasy.random.util.BindableRandom;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
 
-import static org.jeasy.random.util.CharacterUtils.collectPrintableCharactersOf;
-import static org.jeasy.random.util.CharacterUtils.filterLetters;
+import static org.jeasy.random.util.CharacterUtils.Filter.LETTERS;
+import static org.jeasy.random.util.CharacterUtils.alphabetOf;
 
 /**
  * Generate a random {@link Character}.
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class CharacterRandomizer extends AbstractRandomizer<Character> {
+public class CharacterRandomizer extends AbstractRandomizer<Character> implements PrimitiveRandomizer.OfChar {
 
-    private Charset charset = StandardCharsets.US_ASCII;
-
-    private List<Character> characters = collectPrintableCharactersOf(charset);
+    // printable letters of the charset, shared by all randomizers using the same charset
+    private final String characters;
 
     /**
      * Create a new {@link CharacterRandomizer}.
      */
     public CharacterRandomizer() {
-        super();
-        characters = filterLetters(characters);
+        this(StandardCharsets.US_ASCII);
     }
 
     /**
@@ -58,8 +57,7 @@ public class CharacterRandomizer extends AbstractRandomizer<Character> {
      */
     public CharacterRandomizer(final Charset charset) {
         super();
-        this.charset = charset;
-        characters = filterLetters(characters);
+        characters = alphabetOf(charset, LETTERS);
     }
 
     /**
@@ -68,8 +66,7 @@ public class CharacterRandomizer extends AbstractRandomizer<Character> {
      * @param seed initial seed
      */
     public CharacterRandomizer(final long seed) {
-        super(seed);
-        characters = filterLetters(characters);
+        this(StandardCharsets.US_ASCII, seed);
     }
 
     /**
@@ -80,12 +77,70 @@ public class CharacterRandomizer extends AbstractRandomizer<Character> {
      */
     public CharacterRandomizer(final Charset charset, final long seed) {
         super(seed);
-        this.charset = charset;
-        characters = filterLetters(characters);
+        characters = alphabetOf(charset, LETTERS);
     }
 
     @Override
-    public Character getRandomValue() {
-        return characters.get(random.nextInt(characters.size()));
+    public char nextChar() {
+        return characters.charAt(random.nextInt(characters.length()));
+    }
+
+    boolean isLatin1() {
+        // the alphabet is sorted, so its last character is the greatest one
+        return characters.isEmpty() || characters.charAt(characters.length() - 1) <= 0xFF;
+    }
+
+    void nextLatin1Chars(final byte[] bytes) {
+        nextChars(bytes, null, bytes.length);
+    }
+
+    @Override
+    public void fill(final char[] chars) {
+        nextChars(null, chars, chars.length);
+    }
+
+    /*
+     * Bulk generation used by StringRandomizer and array population, writing into either array.
+     * When values are drawn from a bound random source, each nextLong is cut into as many indexes
+     * as it holds: an index has just enough bits to cover the alphabet, and indexes falling outside
+     * of the alphabet are rejected so that all characters stay equally likely. Otherwise, characters
+     * are drawn one by one with nextChar, so that seeded randomizers generate the same values as
+     * previous versions, and subclasses overriding nextChar are always honoured.
+     */
+    private void nextChars(final byte[] bytes, final char[] chars, final int length) {
+        String alphabet = characters;
+        int size = alphabet.length();
+        if (size < 2 || getClass() != CharacterRandomizer.class || BindableRandom.getBoundSource() == null) {
+            for (int i = 0; i < length; i++) {
+                store(bytes, chars, i, nextChar());
+            }
+            return;
+        }
+        int bits = indexBits(size);
+        int indexesPerLong = Long.SIZE / bits;
+        long mask = (1L << bits) - 1;
+        int i = 0;
+        while (i < length) {
+            long word = random.nextLong();
+            for (int k = 0; k < indexesPerLong && i < length; k++, word >>>= bits) {
+                int index = (int) (word & mask);
+                if (index < size) {
+                    store(bytes, chars, i++, alphabet.charAt(index));
+                }
+            }
+        }
+    }
+
+    private static void store(final byte[] bytes, final char[] chars, final int i, final char c) {
+        if (bytes != null) {
+            bytes[i] = (byte) c;
+        } else {
+            chars[i] = c;
+        }
+    }
+
+    // number of bits of the greatest index of an alphabet of the given size
+    private static int indexBits(final int size) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(size - 1);
     }
 }
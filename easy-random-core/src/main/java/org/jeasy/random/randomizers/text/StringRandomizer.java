@@ -27,6 +27,7 @@ import org.jeasy.random.EasilyRandomerParameters;
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Generate a random {@link String}.
@@ -149,10 +150,14 @@ public class StringRandomizer extends AbstractRandomizer<String> {
     @Override
     public String getRandomValue() {
         int length = (int) nextDouble(minLength, maxLength);
-        char[] chars = new char[length];
-        for (int i = 0; i < length; i++) {
-            chars[i] = characterRandomizer.getRandomValue();
+        if (characterRandomizer.isLatin1()) {
+            // one byte per character, decoding Latin-1 bytes creates a compact string with a single copy
+            byte[] bytes = new byte[length];
+            characterRandomizer.nextLatin1Chars(bytes);
+            return new String(bytes, StandardCharsets.ISO_8859_1);
         }
+        char[] chars = new char[length];
+        characterRandomizer.fill(chars);
         return new String(chars);
     }
 }
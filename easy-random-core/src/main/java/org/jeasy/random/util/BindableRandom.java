@@ -0,0 +1,143 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import java.util.Random;
+
+/**
+ * A {@link Random} that draws its values from the {@link RandomSource} bound to the current
+ * thread if any, and from its own seed otherwise. Without a bound source, it generates exactly
+ * the same values as a {@link Random} created with the same seed.
+ *
+ * Binding a source to the thread generating an object makes every value drawn during this
+ * generation (by the engine, the randomizers and the object factory) depend only on the
+ * bound source, and not on the state left by previous generations. Since the bound source is
+ * confined to the thread, it does not need the atomic updates of the seed of a {@link Random}.
+ *
+ * <strong>This class is intended for internal use only.</strong>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class BindableRandom extends Random {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ThreadLocal<RandomSource> BOUND_SOURCE = new ThreadLocal<>();
+
+    /**
+     * Create a new {@link BindableRandom} with a random seed.
+     */
+    public BindableRandom() {
+        super();
+    }
+
+    /**
+     * Create a new {@link BindableRandom} with the given seed.
+     *
+     * @param seed initial seed
+     */
+    public BindableRandom(final long seed) {
+        super(seed);
+    }
+
+    /**
+     * Bind the given source to the current thread.
+     *
+     * @param source to bind
+     * @return the source previously bound to the current thread, or null if none,
+     *         to be passed to {@link #unbind(RandomSource)}
+     */
+    public static RandomSource bind(final RandomSource source) {
+        RandomSource previous = BOUND_SOURCE.get();
+        BOUND_SOURCE.set(source);
+        return previous;
+    }
+
+    /**
+     * Restore the source that was bound to the current thread before the last call to
+     * {@link #bind(RandomSource)}.
+     *
+     * @param previous the source returned by {@link #bind(RandomSource)}
+     */
+    public static void unbind(final RandomSource previous) {
+        if (previous == null) {
+            BOUND_SOURCE.remove();
+        } else {
+            BOUND_SOURCE.set(previous);
+        }
+    }
+
+    /**
+     * Get the source bound to the current thread.
+     *
+     * @return the bound source, or null if no source is bound to the current thread
+     */
+    public static RandomSource getBoundSource() {
+        return BOUND_SOURCE.get();
+    }
+
+    @Override
+    protected int next(final int bits) {
+        RandomSource source = getBoundSource();
+        return source != null ? source.next(bits) : super.next(bits);
+    }
+
+    // the methods below delegate to the bound source, so that it can generate each value in a single call
+
+    @Override
+    public int nextInt() {
+        RandomSource source = getBoundSource();
+        return source != null ? source.nextInt() : super.nextInt();
+    }
+
+    @Override
+    public int nextInt(final int bound) {
+        RandomSource source = getBoundSource();
+        return source != null ? source.nextInt(bound) : super.nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+        RandomSource source = getBoundSource();
+        return source != null ? source.nextLong() : super.nextLong();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        RandomSource source = getBoundSource();
+        return source != null ? source.nextBoolean() : super.nextBoolean();
+    }
+
+    @Override
+    public float nextFloat() {
+        RandomSource source = getBoundSource();
+        return source != null ? source.nextFloat() : super.nextFloat();
+    }
+
+    @Override
+    public double nextDouble() {
+        RandomSource source = getBoundSource();
+        return source != null ? source.nextDouble() : super.nextDouble();
+    }
+}
@@ -24,8 +24,12 @@
 package org.jeasy.random.util;
 
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.stream.Collectors.toList;
 
@@ -38,9 +42,62 @@ import static java.util.stream.Collectors.toList;
  */
 public final class CharacterUtils {
 
+    /**
+     * Filter applied to the printable characters of a charset to build an alphabet.
+     */
+    public enum Filter {
+        /** all printable characters */
+        PRINTABLE,
+        /** printable letters only */
+        LETTERS
+    }
+
+    // alphabets are built once per charset and filter, and shared by all randomizers
+    private static final Map<Filter, Map<Charset, String>> ALPHABETS = new EnumMap<>(Filter.class);
+
+    static {
+        for (Filter filter : Filter.values()) {
+            ALPHABETS.put(filter, new ConcurrentHashMap<>());
+        }
+    }
+
     private CharacterUtils() {
     }
 
+    /**
+     * Returns the printable characters of the given charset that match the given filter,
+     * in ascending order. Alphabets are computed once per charset and filter.
+     *
+     * @param charset Charset to use
+     * @param filter filter to apply to printable characters
+     * @return an immutable alphabet
+     */
+    public static String alphabetOf(Charset charset, Filter filter) {
+        return ALPHABETS.get(filter).computeIfAbsent(charset, key -> buildAlphabet(key, filter));
+    }
+
+    private static String buildAlphabet(Charset charset, Filter filter) {
+        StringBuilder alphabet = new StringBuilder();
+        CharsetEncoder encoder = charset.canEncode() ? charset.newEncoder() : null;
+        for (int i = Character.MIN_VALUE; i < Character.MAX_VALUE; i++) {
+            char character = (char) i;
+            if (isPrintable(character) && (filter != Filter.LETTERS || Character.isLetter(character))
+                    && canEncode(charset, encoder, character)) {
+                alphabet.append(character);
+            }
+        }
+        return alphabet.toString();
+    }
+
+    private static boolean canEncode(Charset charset, CharsetEncoder encoder, char character) {
+        if (encoder != null) {
+            return encoder.canEncode(character);
+        }
+        // charsets that cannot encode: keep characters that survive a round trip
+        String characterAsString = Character.toString(character);
+        return characterAsString.equals(new String(characterAsString.getBytes(charset), charset));
+    }
+
     /**
      * Returns a list of all printable charaters of the given charset.
      * 
@@ -49,17 +106,10 @@ public final class CharacterUtils {
      * @return list of printable characters
      */
     public static List<Character> collectPrintableCharactersOf(Charset charset) {
-        List<Character> chars = new ArrayList<>();
-        for (int i = Character.MIN_VALUE; i < Character.MAX_VALUE; i++) {
-            char character = (char) i;
-            if (isPrintable(character)) {
-                String characterAsString = Character.toString(character);
-                byte[] encoded = characterAsString.getBytes(charset);
-                String decoded = new String(encoded, charset);
-                if (characterAsString.equals(decoded)) {
-                    chars.add(character);
-                }
-            }
+        String alphabet = alphabetOf(charset, Filter.PRINTABLE);
+        List<Character> chars = new ArrayList<>(alphabet.length());
+        for (int i = 0; i < alphabet.length(); i++) {
+            chars.add(alphabet.charAt(i));
         }
         return chars;
     }
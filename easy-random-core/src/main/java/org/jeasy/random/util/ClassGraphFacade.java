@@ -23,39 +23,55 @@
  */
 package org.jeasy.random.util;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Map;
+import java.util.Set;
 
 import io.github.classgraph.ClassGraph;
-import io.github.classgraph.ClassInfoList;
+import io.github.classgraph.ClassInfo;
 import io.github.classgraph.ScanResult;
 
 /**
- * Facade for {@link io.github.classgraph.ClassGraph}. It is a separate class from {@link ReflectionUtils},
- * so that the classpath scanning - which can take a few seconds - is only done when necessary.
+ * Facade for {@link io.github.classgraph.ClassGraph}. It is a separate class from {@link ClasspathScanner},
+ * so that ClassGraph - which is an optional dependency - is only loaded when the classpath is scanned.
  *
  * @author Pascal Schumacher (https://github.com/PascalSchumacher)
  */
 abstract class ClassGraphFacade {
 
-    private static final ConcurrentHashMap<Class<?>, List<Class<?>>> typeToConcreteSubTypes = new ConcurrentHashMap<>();
-    private static final ScanResult scanResult = new ClassGraph().enableSystemJarsAndModules().enableClassInfo().scan();
-
     /**
-     * Searches the classpath for all public concrete subtypes of the given interface or abstract class.
+     * Scan the classpath and index the names of the public concrete subtypes of each class and interface.
+     * The result of the scan is closed before returning, only the index is kept.
      *
-     * @param type to search concrete subtypes of
-     * @return a list of all concrete subtypes found
+     * @param packages to scan, all packages if empty
+     * @param systemModules whether to scan the JDK modules and jars
+     * @return the names of the public concrete subtypes of each class and interface, sorted by name
      */
-    public static <T> List<Class<?>> getPublicConcreteSubTypesOf(final Class<T> type) {
-        return typeToConcreteSubTypes.computeIfAbsent(type, ClassGraphFacade::searchForPublicConcreteSubTypesOf);
-    }
-
-    private static <T> List<Class<?>> searchForPublicConcreteSubTypesOf(final Class<T> type) {
-        String typeName = type.getName();
-        ClassInfoList subTypes = type.isInterface() ? scanResult.getClassesImplementing(typeName) : scanResult.getSubclasses(typeName);
-        List<Class<?>> loadedSubTypes = subTypes.filter(subType -> subType.isPublic() && !subType.isAbstract()).loadClasses(true);
-        return Collections.unmodifiableList(loadedSubTypes);
+    static Map<String, List<String>> indexPublicConcreteSubTypes(final Set<String> packages, final boolean systemModules) {
+        ClassGraph classGraph = new ClassGraph().enableClassInfo();
+        if (systemModules) {
+            classGraph.enableSystemJarsAndModules();
+        }
+        if (!packages.isEmpty()) {
+            classGraph.acceptPackages(packages.toArray(new String[0]));
+        }
+        Map<String, List<String>> subTypes = new HashMap<>();
+        try (ScanResult scanResult = classGraph.scan()) {
+            // the list of all classes is sorted by name, and so are the lists of subtypes
+            for (ClassInfo classInfo : scanResult.getAllStandardClasses()) {
+                if (classInfo.isPublic() && !classInfo.isAbstract()) {
+                    String name = classInfo.getName();
+                    for (ClassInfo superclass : classInfo.getSuperclasses()) {
+                        subTypes.computeIfAbsent(superclass.getName(), type -> new ArrayList<>()).add(name);
+                    }
+                    for (ClassInfo anInterface : classInfo.getInterfaces()) {
+                        subTypes.computeIfAbsent(anInterface.getName(), type -> new ArrayList<>()).add(name);
+                    }
+                }
+            }
+        }
+        return subTypes;
     }
 }
@@ -0,0 +1,245 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.TreeSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+
+/**
+ * Scanner of the classpath for the public concrete subtypes of interfaces and abstract classes.
+ *
+ * Subtypes are first searched in the {@value #SUBTYPE_INDEX} resources written at build time by the
+ * {@code SubtypeIndexProcessor} of the {@code easy-random-processor} module. The classpath is only
+ * scanned for the types that these indexes do not cover, that is for which they do not list any
+ * subtype in the accepted packages.
+ *
+ * The classpath is scanned lazily, the first time subtypes are searched. The result of the scan is
+ * reduced to an index of the names of subtypes, and subtypes are loaded for at most
+ * {@value #MAX_CACHED_TYPES} types, the least recently used ones being evicted first. Closing the
+ * scanner releases the index and the loaded subtypes: the classpath will be scanned again if
+ * subtypes are searched afterwards.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ * @since 5.1
+ */
+public class ClasspathScanner implements AutoCloseable {
+
+    /**
+     * Location of the indexes of subtypes written at build time. Each line of an index lists the
+     * binary names of the public concrete subtypes of a type: {@code type=subtype1,subtype2}.
+     */
+    public static final String SUBTYPE_INDEX = "META-INF/easy-random/subtypes";
+
+    static final int MAX_CACHED_TYPES = 1024;
+
+    private static final ClasspathScanner DEFAULT = new ClasspathScanner();
+
+    private final Set<String> packages;
+
+    private final boolean systemModules;
+
+    // names of the public concrete subtypes by type name, null until first needed
+    private Map<String, List<String>> buildTimeIndex;
+
+    private Map<String, List<String>> index;
+
+    private final Map<Class<?>, List<Class<?>>> subTypes = new LinkedHashMap<Class<?>, List<Class<?>>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Class<?>, List<Class<?>>> eldest) {
+            return size() > MAX_CACHED_TYPES;
+        }
+    };
+
+    /**
+     * Create a new {@link ClasspathScanner} of all packages, JDK modules and jars included.
+     */
+    public ClasspathScanner() {
+        this(Collections.emptySet(), true);
+    }
+
+    private ClasspathScanner(final Set<String> packages, final boolean systemModules) {
+        this.packages = packages;
+        this.systemModules = systemModules;
+    }
+
+    /**
+     * Get the scanner shared by all {@link org.jeasy.random.EasilyRandomer}s that do not set one,
+     * which scans all packages, JDK modules and jars included.
+     *
+     * @return the default scanner
+     */
+    public static ClasspathScanner getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Create a new scanner of the given packages (and their sub-packages) only.
+     *
+     * @param packages to scan, all packages if none
+     * @return a new scanner of the given packages, with the same other settings as this one
+     */
+    public ClasspathScanner acceptPackages(final String... packages) {
+        return new ClasspathScanner(Collections.unmodifiableSet(new LinkedHashSet<>(asList(packages))), systemModules);
+    }
+
+    /**
+     * Create a new scanner that includes or excludes the JDK modules and jars.
+     *
+     * @param systemModules true to scan the JDK modules and jars
+     * @return a new scanner with the given setting, and the same other settings as this one
+     */
+    public ClasspathScanner includeSystemModules(final boolean systemModules) {
+        return new ClasspathScanner(packages, systemModules);
+    }
+
+    /**
+     * Get the packages scanned by this scanner.
+     *
+     * @return the scanned packages, empty if all packages are scanned
+     */
+    public Set<String> getPackages() {
+        return packages;
+    }
+
+    /**
+     * Whether this scanner scans the JDK modules and jars.
+     *
+     * @return true if the JDK modules and jars are scanned
+     */
+    public boolean isIncludeSystemModules() {
+        return systemModules;
+    }
+
+    /**
+     * Search the classpath for all public concrete subtypes of the given interface or abstract class.
+     *
+     * @param type to search concrete subtypes of
+     * @return a list of all concrete subtypes found, sorted by name
+     */
+    public synchronized List<Class<?>> getPublicConcreteSubTypesOf(final Class<?> type) {
+        List<Class<?>> typeSubTypes = subTypes.get(type);
+        if (typeSubTypes == null) {
+            if (buildTimeIndex == null) {
+                buildTimeIndex = readBuildTimeIndex();
+            }
+            List<String> names = accepted(buildTimeIndex.getOrDefault(type.getName(), Collections.emptyList()));
+            if (names.isEmpty()) {
+                if (index == null) {
+                    index = ClassGraphFacade.indexPublicConcreteSubTypes(packages, systemModules);
+                }
+                names = index.getOrDefault(type.getName(), Collections.emptyList());
+            }
+            typeSubTypes = loadClasses(names);
+            subTypes.put(type, typeSubTypes);
+        }
+        return typeSubTypes;
+    }
+
+    private List<String> accepted(final List<String> names) {
+        if (packages.isEmpty() || names.isEmpty()) {
+            return names;
+        }
+        List<String> acceptedNames = new ArrayList<>(names.size());
+        for (String name : names) {
+            for (String acceptedPackage : packages) {
+                if (name.startsWith(acceptedPackage + ".")) {
+                    acceptedNames.add(name);
+                    break;
+                }
+            }
+        }
+        return acceptedNames;
+    }
+
+    private static Map<String, List<String>> readBuildTimeIndex() {
+        Map<String, TreeSet<String>> subTypeNames = new HashMap<>();
+        try {
+            Enumeration<URL> indexes = getClassLoader().getResources(SUBTYPE_INDEX);
+            while (indexes.hasMoreElements()) {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(indexes.nextElement().openStream(), UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        int separator = line.indexOf('=');
+                        if (separator > 0) {
+                            subTypeNames.computeIfAbsent(line.substring(0, separator), type -> new TreeSet<>())
+                                    .addAll(asList(line.substring(separator + 1).split(",")));
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read the subtype indexes " + SUBTYPE_INDEX, e);
+        }
+        // the subtypes of each type are sorted by name, as when they are found by scanning the classpath
+        Map<String, List<String>> index = new HashMap<>();
+        for (Map.Entry<String, TreeSet<String>> entry : subTypeNames.entrySet()) {
+            index.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+        return index;
+    }
+
+    private static ClassLoader getClassLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : ClasspathScanner.class.getClassLoader();
+    }
+
+    private static List<Class<?>> loadClasses(final List<String> names) {
+        ClassLoader classLoader = getClassLoader();
+        List<Class<?>> classes = new ArrayList<>(names.size());
+        for (String name : names) {
+            try {
+                classes.add(Class.forName(name, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError error) {
+                // skip the subtypes that cannot be loaded, as classgraph does
+            }
+        }
+        return Collections.unmodifiableList(classes);
+    }
+
+    /**
+     * Release the indexes of subtypes and the loaded subtypes.
+     */
+    @Override
+    public synchronized void close() {
+        buildTimeIndex = null;
+        index = null;
+        subTypes.clear();
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+/**
+ * A source of random values, with the same methods as {@link java.util.Random}.
+ *
+ * Implementations only generate random longs: the other values are derived from the
+ * leading bits of these longs with the same algorithms as {@link java.util.Random}, so
+ * that all sources are interchangeable. Unlike {@link java.util.Random}, implementations
+ * are <strong>not thread safe</strong> and are meant to be confined to a single thread.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ * @since 5.1
+ */
+@FunctionalInterface
+public interface RandomSource {
+
+    /**
+     * Algorithms of the random sources used to generate objects.
+     */
+    enum Algorithm {
+
+        /**
+         * The linear congruential generator of {@link java.util.Random}. A source created
+         * with this algorithm generates the same values as a {@link java.util.Random}
+         * created with the same seed.
+         */
+        JDK {
+            @Override
+            public RandomSource create(final long seed) {
+                return new JdkRandomSource(seed);
+            }
+        },
+
+        /**
+         * The SplitMix64 generator of {@link java.util.SplittableRandom}.
+         */
+        SPLITTABLE {
+            @Override
+            public RandomSource create(final long seed) {
+                return new SplittableRandomSource(seed);
+            }
+        },
+
+        /**
+         * The xoshiro256** generator of Blackman and Vigna.
+         */
+        XOSHIRO_256_STAR_STAR {
+            @Override
+            public RandomSource create(final long seed) {
+                return new Xoshiro256StarStarSource(seed);
+            }
+        };
+
+        /**
+         * Create a new source with this algorithm.
+         *
+         * @param seed initial seed
+         * @return a new source seeded with the given seed
+         */
+        public abstract RandomSource create(long seed);
+    }
+
+    /**
+     * Generate the next random long.
+     *
+     * @return the next random long
+     */
+    long nextLong();
+
+    /**
+     * Generate the next random bits.
+     *
+     * @param bits number of random bits, between 1 and 32
+     * @return the next random bits
+     */
+    default int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    /**
+     * Generate the next random int.
+     *
+     * @return the next random int
+     */
+    default int nextInt() {
+        return next(32);
+    }
+
+    /**
+     * Generate the next random int between 0 (inclusive) and the given bound (exclusive).
+     *
+     * @param bound the upper bound (exclusive), must be positive
+     * @return the next random int in the given range
+     */
+    default int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        int r = next(31);
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            r = (int) ((bound * (long) r) >> 31);
+        } else {
+            for (int u = r; u - (r = u % bound) + m < 0; u = next(31)) {
+                // reject values from the last incomplete range of the bound
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Generate the next random boolean.
+     *
+     * @return the next random boolean
+     */
+    default boolean nextBoolean() {
+        return next(1) != 0;
+    }
+
+    /**
+     * Generate the next random float between 0 (inclusive) and 1 (exclusive).
+     *
+     * @return the next random float
+     */
+    default float nextFloat() {
+        return next(24) / ((float) (1 << 24));
+    }
+
+    /**
+     * Generate the next random double between 0 (inclusive) and 1 (exclusive).
+     *
+     * @return the next random double
+     */
+    default double nextDouble() {
+        return (((long) next(26) << 27) + next(27)) * 0x1.0p-53;
+    }
+}
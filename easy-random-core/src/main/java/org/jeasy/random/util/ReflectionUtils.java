@@ -198,32 +198,42 @@ public final class ReflectionUtils {
         if (!fieldType.isPrimitive()) {
             return false;
         }
-        Object fieldValue = getFieldValue(object, field);
-        if (fieldValue == null) {
+        return isPrimitiveDefaultValue(fieldType, getFieldValue(object, field));
+    }
+
+    /**
+     * Check if a value is the default value set by the compiler for the given primitive type.
+     *
+     * @param type  the type of the value
+     * @param value the value to check
+     * @return true if the type is primitive and the value is its default value, false otherwise
+     */
+    public static boolean isPrimitiveDefaultValue(final Class<?> type, final Object value) {
+        if (!type.isPrimitive() || value == null) {
             return false;
         }
-        if (fieldType.equals(boolean.class) && (boolean) fieldValue == false) {
+        if (type.equals(boolean.class) && (boolean) value == false) {
             return true;
         }
-        if (fieldType.equals(byte.class) && (byte) fieldValue == (byte) 0) {
+        if (type.equals(byte.class) && (byte) value == (byte) 0) {
             return true;
         }
-        if (fieldType.equals(short.class) && (short) fieldValue == (short) 0) {
+        if (type.equals(short.class) && (short) value == (short) 0) {
           return true;
         }
-        if (fieldType.equals(int.class) && (int) fieldValue == 0) {
+        if (type.equals(int.class) && (int) value == 0) {
             return true;
         }
-        if (fieldType.equals(long.class) && (long) fieldValue == 0L) {
+        if (type.equals(long.class) && (long) value == 0L) {
             return true;
         }
-        if (fieldType.equals(float.class) && (float) fieldValue == 0.0F) {
+        if (type.equals(float.class) && (float) value == 0.0F) {
             return true;
         }
-        if (fieldType.equals(double.class) && (double) fieldValue == 0.0D) {
+        if (type.equals(double.class) && (double) value == 0.0D) {
             return true;
         }
-        if (fieldType.equals(char.class) && (char) fieldValue == '\u0000') {
+        if (type.equals(char.class) && (char) value == '\u0000') {
             return true;
         }
         return false;
@@ -395,14 +405,15 @@ public final class ReflectionUtils {
     }
 
     /**
-     * Searches the classpath for all public concrete subtypes of the given interface or abstract class.
+     * Searches the classpath for all public concrete subtypes of the given interface or abstract class,
+     * with the {@link ClasspathScanner#getDefault() default scanner}.
      *
      * @param type to search concrete subtypes of
      * @param <T>  the actual type to introspect
      * @return a list of all concrete subtypes found
      */
     public static <T> List<Class<?>> getPublicConcreteSubTypesOf(final Class<T> type) {
-        return ClassGraphFacade.getPublicConcreteSubTypesOf(type);
+        return ClasspathScanner.getDefault().getPublicConcreteSubTypesOf(type);
     }
 
     /**
@@ -457,27 +468,38 @@ public final class ReflectionUtils {
      * @return empty implementation for the collection interface
      */
     public static Collection<?> getEmptyImplementationForCollectionInterface(final Class<?> collectionInterface) {
-        Collection<?> collection = new ArrayList<>();
-        if (List.class.isAssignableFrom(collectionInterface)) {
-            collection = new ArrayList<>();
-        } else if (NavigableSet.class.isAssignableFrom(collectionInterface)) {
-            collection = new TreeSet<>();
+        return getEmptyImplementationForCollectionInterface(collectionInterface, 0);
+    }
+
+    /**
+     * Return an empty implementation for a {@link Collection} type, sized to hold the given number
+     * of elements without growing when the implementation supports it.
+     *
+     * @param collectionInterface for which an empty implementation should be returned
+     * @param expectedSize number of elements that will be added to the collection
+     * @return empty implementation for the collection interface
+     * @since 5.1
+     */
+    public static Collection<?> getEmptyImplementationForCollectionInterface(final Class<?> collectionInterface, final int expectedSize) {
+        if (NavigableSet.class.isAssignableFrom(collectionInterface)) {
+            return new TreeSet<>();
         } else if (SortedSet.class.isAssignableFrom(collectionInterface)) {
-            collection = new TreeSet<>();
+            return new TreeSet<>();
         } else if (Set.class.isAssignableFrom(collectionInterface)) {
-            collection = new HashSet<>();
+            return new HashSet<>(getHashCapacity(expectedSize));
         } else if (BlockingDeque.class.isAssignableFrom(collectionInterface)) {
-            collection = new LinkedBlockingDeque<>();
+            return new LinkedBlockingDeque<>();
         } else if (Deque.class.isAssignableFrom(collectionInterface)) {
-            collection = new ArrayDeque<>();
+            return new ArrayDeque<>(expectedSize);
         } else if (TransferQueue.class.isAssignableFrom(collectionInterface)) {
-            collection = new LinkedTransferQueue<>();
+            return new LinkedTransferQueue<>();
         } else if (BlockingQueue.class.isAssignableFrom(collectionInterface)) {
-            collection = new LinkedBlockingQueue<>();
+            return new LinkedBlockingQueue<>();
         } else if (Queue.class.isAssignableFrom(collectionInterface)) {
-            collection = new LinkedList<>();
+            return new LinkedList<>();
         }
-        return collection;
+        // lists and other collections
+        return new ArrayList<>(expectedSize);
     }
 
     /**
@@ -488,6 +510,16 @@ public final class ReflectionUtils {
      */
     public static Collection<?> createEmptyCollectionForType(Class<?> fieldType, int initialSize) {
         rejectUnsupportedTypes(fieldType);
+        // common implementations are sized to hold all the elements that will be added to them
+        if (fieldType == ArrayList.class) {
+            return new ArrayList<>(initialSize);
+        } else if (fieldType == HashSet.class) {
+            return new HashSet<>(getHashCapacity(initialSize));
+        } else if (fieldType == LinkedHashSet.class) {
+            return new LinkedHashSet<>(getHashCapacity(initialSize));
+        } else if (fieldType == ArrayDeque.class) {
+            return new ArrayDeque<>(initialSize);
+        }
         Collection<?> collection;
         try {
             collection = (Collection<?>) fieldType.getDeclaredConstructor().newInstance();
@@ -507,17 +539,46 @@ public final class ReflectionUtils {
      * @return empty implementation for the given {@link Map} interface.
      */
     public static Map<?, ?> getEmptyImplementationForMapInterface(final Class<?> mapInterface) {
-        Map<?, ?> map = new HashMap<>();
+        return getEmptyImplementationForMapInterface(mapInterface, 0);
+    }
+
+    /**
+     * Return an empty implementation for the given {@link Map} interface, sized to hold the given
+     * number of entries without growing when the implementation supports it.
+     * @param mapInterface for which an empty implementation should be returned
+     * @param expectedSize number of entries that will be added to the map
+     * @return empty implementation for the given {@link Map} interface.
+     * @since 5.1
+     */
+    public static Map<?, ?> getEmptyImplementationForMapInterface(final Class<?> mapInterface, final int expectedSize) {
         if (ConcurrentNavigableMap.class.isAssignableFrom(mapInterface)) {
-            map = new ConcurrentSkipListMap<>();
+            return new ConcurrentSkipListMap<>();
         } else if (ConcurrentMap.class.isAssignableFrom(mapInterface)) {
-            map = new ConcurrentHashMap<>();
+            return new ConcurrentHashMap<>(expectedSize);
         } else if (NavigableMap.class.isAssignableFrom(mapInterface)) {
-            map = new TreeMap<>();
+            return new TreeMap<>();
         } else if (SortedMap.class.isAssignableFrom(mapInterface)) {
-            map = new TreeMap<>();
+            return new TreeMap<>();
         }
-        return map;
+        return createEmptyHashMap(HashMap.class, expectedSize);
+    }
+
+    /**
+     * Create an empty {@link HashMap} or {@link LinkedHashMap}, sized to hold the given number of
+     * entries without being resized.
+     * @param mapType {@link HashMap} or {@link LinkedHashMap}
+     * @param expectedSize number of entries that will be added to the map
+     * @return empty map of the given type
+     * @since 5.1
+     */
+    public static Map<?, ?> createEmptyHashMap(final Class<?> mapType, final int expectedSize) {
+        int capacity = getHashCapacity(expectedSize);
+        return mapType == LinkedHashMap.class ? new LinkedHashMap<>(capacity) : new HashMap<>(capacity);
+    }
+
+    // initial capacity of a hash based collection holding the given number of elements without being resized
+    private static int getHashCapacity(final int expectedSize) {
+        return Math.max((int) (expectedSize / 0.75f) + 1, 16);
     }
 
     private static void rejectUnsupportedTypes(Class<?> type) {
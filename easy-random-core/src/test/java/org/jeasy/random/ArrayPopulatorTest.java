@@ -24,6 +24,10 @@
 package org.jeasy.random;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Array;
@@ -34,6 +38,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.jeasy.random.api.PrimitiveRandomizer;
+import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.beans.ArrayBean;
 import org.jeasy.random.beans.Person;
 
@@ -65,6 +71,28 @@ class ArrayPopulatorTest {
         assertThat(strings).containsOnly(STRING);
     }
 
+    @Test
+    void primitiveArraysShouldBeFilledByTheRandomizerOfTheirComponentType() {
+        when(context.getParameters()).thenReturn(new EasilyRandomerParameters().collectionSizeRange(INT, INT));
+        doReturn((PrimitiveRandomizer.OfInt) () -> INT).when(easilyRandomer).getPlainRandomizer(int.class, context);
+
+        int[] ints = (int[]) arrayPopulator.getRandomArray(int[].class, context);
+
+        assertThat(ints).hasSize(INT).containsOnly(INT);
+        verify(easilyRandomer, never()).doPopulateBean(any(), any());
+    }
+
+    @Test
+    void wrapperTypeArraysShouldBeFilledByTheRandomizerOfTheirComponentType() {
+        when(context.getParameters()).thenReturn(new EasilyRandomerParameters().collectionSizeRange(INT, INT));
+        doReturn((Randomizer<Long>) () -> 1L).when(easilyRandomer).getPlainRandomizer(Long.class, context);
+
+        Long[] longs = (Long[]) arrayPopulator.getRandomArray(Long[].class, context);
+
+        assertThat(longs).hasSize(INT).containsOnly(1L);
+        verify(easilyRandomer, never()).doPopulateBean(any(), any());
+    }
+
     /*
      * Integration tests for arrays population
      */
@@ -0,0 +1,136 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jeasy.random.FieldPredicates.inClass;
+import static org.jeasy.random.FieldPredicates.named;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jeasy.random.api.ContextAwareRandomizer;
+import org.jeasy.random.api.RandomizerContext;
+import org.jeasy.random.beans.Address;
+import org.jeasy.random.beans.Gender;
+import org.jeasy.random.beans.Person;
+import org.jeasy.random.beans.Street;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentGenerationTest {
+
+    private static final int THREADS = 32;
+
+    private static final int OBJECTS_PER_THREAD = 100;
+
+    @Test
+    void aSharedInstanceShouldGenerateConsistentObjectsFromManyThreads() throws Exception {
+        // Given
+        EasilyRandomerParameters parameters = new EasilyRandomerParameters()
+                .randomize(named("phoneNumber").and(inClass(Person.class)), new RootObjectIdentityRandomizer());
+        EasilyRandomer easilyRandomer = new EasilyRandomer(parameters);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Person>>> futures = new ArrayList<>();
+
+        try {
+            // When
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    List<Person> persons = new ArrayList<>(OBJECTS_PER_THREAD);
+                    for (int j = 0; j < OBJECTS_PER_THREAD; j++) {
+                        persons.add(easilyRandomer.nextObject(Person.class));
+                    }
+                    return persons;
+                }));
+            }
+            start.countDown();
+
+            // Then
+            for (Future<List<Person>> future : futures) {
+                for (Person person : future.get(1, MINUTES)) {
+                    validatePerson(person);
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void validatePerson(final Person person) {
+        assertThat(person).isNotNull();
+        assertThat(person.getEmail()).isNotEmpty();
+        assertThat(person.getGender()).isIn(asList(Gender.values()));
+        assertThat(person.getBirthDate()).isNotNull();
+        assertThat(person.getNicknames()).isNotNull();
+        assertThat(person.getName()).isNotEmpty();
+        // the context seen by the randomizer must be the one of the call that generated this person
+        assertThat(person.getPhoneNumber()).isEqualTo(RootObjectIdentityRandomizer.identityOf(person));
+
+        final Address address = person.getAddress();
+        assertThat(address).isNotNull();
+        assertThat(address.getCity()).isNotEmpty();
+        assertThat(address.getCountry()).isNotEmpty();
+        assertThat(address.getZipCode()).isNotEmpty();
+
+        final Street street = address.getStreet();
+        assertThat(street).isNotNull();
+        assertThat(street.getName()).isNotEmpty();
+    }
+
+    /**
+     * A context aware randomizer without any state: it reads the context passed to each call, so
+     * the objects are only consistent if the engine passes the context of the generating call.
+     */
+    static class RootObjectIdentityRandomizer implements ContextAwareRandomizer<String> {
+
+        static String identityOf(Object object) {
+            return String.valueOf(System.identityHashCode(object));
+        }
+
+        @Override
+        public void setRandomizerContext(RandomizerContext context) {
+            // the context is passed to each call
+        }
+
+        @Override
+        public String getRandomValue(RandomizerContext context) {
+            // widen the window in which the context of another call could be observed
+            Thread.yield();
+            return identityOf(context.getRootObject());
+        }
+
+        @Override
+        public String getRandomValue() {
+            throw new UnsupportedOperationException("This randomizer must be invoked with its context");
+        }
+    }
+}
@@ -40,6 +40,7 @@ import java.util.stream.Stream;
 import static java.sql.Timestamp.valueOf;
 import static java.time.LocalDateTime.of;
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.jeasy.random.FieldPredicates.*;
@@ -114,6 +115,103 @@ class EasilyRandomerTest {
         assertThat(persons).hasSize(2).hasOnlyElementsOfType(Person.class);
     }
 
+    @Test
+    void bulkGeneratedObjectsShouldBeTheSameAsObjectsGeneratedOneByOne() {
+        EasilyRandomerParameters parameters = new EasilyRandomerParameters().seed(42);
+        EasilyRandomer oneByOne = new EasilyRandomer(parameters);
+        List<Person> expected = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            expected.add(oneByOne.nextObject(Person.class));
+        }
+
+        List<Person> consumed = new ArrayList<>();
+        new EasilyRandomer(parameters).nextObjects(Person.class, 10, consumed::add);
+        List<Person> listed = new ArrayList<>();
+        new EasilyRandomer(parameters).nextObjects(Person.class, 10, listed);
+        Person[] array = new Person[10];
+        new EasilyRandomer(parameters).nextObjects(Person.class, array);
+
+        assertThat(consumed).usingRecursiveComparison().isEqualTo(expected);
+        assertThat(listed).usingRecursiveComparison().isEqualTo(expected);
+        assertThat(asList(array)).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    void whenNumberOfBulkGeneratedObjectsIsNegative_thenShouldThrowAnIllegalArgumentException() {
+        assertThatThrownBy(() -> easilyRandomer.nextObjects(Person.class, -1, new ArrayList<>()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void parallelStreamShouldGenerateTheSameObjectsAsSequentialStream() {
+        easilyRandomer = new EasilyRandomer(new EasilyRandomerParameters().seed(42));
+
+        List<Person> sequential = easilyRandomer.objects(Person.class, 1000).collect(toList());
+        List<Person> parallel = easilyRandomer.objects(Person.class, 1000).parallel().collect(toList());
+
+        assertThat(parallel).usingRecursiveComparison().isEqualTo(sequential);
+    }
+
+    @Test
+    void streamedObjectsShouldNotDependOnPreviouslyGeneratedObjects() {
+        EasilyRandomerParameters parameters = new EasilyRandomerParameters().seed(42);
+        EasilyRandomer usedEasilyRandomer = new EasilyRandomer(parameters);
+        usedEasilyRandomer.nextObject(Person.class);
+        usedEasilyRandomer.objects(Person.class, 3).forEach(person -> { });
+
+        List<Person> expected = new EasilyRandomer(parameters).objects(Person.class, 10).collect(toList());
+        List<Person> actual = usedEasilyRandomer.objects(Person.class, 10).collect(toList());
+
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    void objectAtGivenIndexShouldBeTheObjectAtTheSameIndexInTheStream() {
+        easilyRandomer = new EasilyRandomer(new EasilyRandomerParameters().seed(42));
+        List<Person> persons = easilyRandomer.objects(Person.class, 20).collect(toList());
+
+        assertThat(easilyRandomer.nextObject(Person.class, 17)).usingRecursiveComparison().isEqualTo(persons.get(17));
+        assertThat(easilyRandomer.nextObject(Person.class, 3)).usingRecursiveComparison().isEqualTo(persons.get(3));
+        assertThat(easilyRandomer.objects(Person.class, 5L, 8L).collect(toList()))
+                .usingRecursiveComparison().isEqualTo(persons.subList(5, 8));
+    }
+
+    @Test
+    void objectAtGivenIndexShouldDependOnlyOnSeedTypeAndIndex() {
+        long index = 7_345_221L;
+        EasilyRandomerParameters parameters = new EasilyRandomerParameters().seed(42);
+        Person expected = new EasilyRandomer(parameters).nextObject(Person.class, index);
+
+        EasilyRandomer usedEasilyRandomer = new EasilyRandomer(parameters);
+        usedEasilyRandomer.nextObject(Person.class);
+        usedEasilyRandomer.nextObject(Person.class, 12);
+        Person actual = usedEasilyRandomer.nextObject(Person.class, index);
+
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+        assertThat(new EasilyRandomer(parameters).nextObject(Person.class, index + 1))
+                .usingRecursiveComparison().isNotEqualTo(expected);
+        assertThat(new EasilyRandomer(new EasilyRandomerParameters().seed(43)).nextObject(Person.class, index))
+                .usingRecursiveComparison().isNotEqualTo(expected);
+    }
+
+    @Test
+    void whenIndexIsNegative_thenShouldThrowAnIllegalArgumentException() {
+        assertThatThrownBy(() -> easilyRandomer.nextObject(Person.class, -1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> easilyRandomer.objects(Person.class, 5L, 2L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void streamOfObjectsShouldBeSizedAndSplittable() {
+        Spliterator<Person> spliterator = easilyRandomer.objects(Person.class, 10).spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(10);
+        Spliterator<Person> prefix = spliterator.trySplit();
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.getExactSizeIfKnown()).isEqualTo(5);
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(5);
+    }
+
     @Test
     void customRandomzierForFieldsShouldBeUsedToPopulateObjects() {
         when(randomizer.getRandomValue()).thenReturn(FOO);
@@ -128,6 +226,22 @@ class EasilyRandomerTest {
         assertThat(person.getName()).isEqualTo(FOO);
     }
 
+    @Test
+    void randomizersAndExclusionsAddedAfterTheEngineIsBuiltShouldBeUsed() {
+        EasilyRandomerParameters parameters = new EasilyRandomerParameters();
+        easilyRandomer = new EasilyRandomer(parameters);
+        Person person = easilyRandomer.nextObject(Person.class);
+        assertThat(person.getName()).isNotEqualTo(FOO);
+        assertThat(person.getPhoneNumber()).isNotNull();
+
+        parameters.randomize(named("name"), () -> FOO)
+                .excludeField(named("phoneNumber"));
+        person = easilyRandomer.nextObject(Person.class);
+
+        assertThat(person.getName()).isEqualTo(FOO);
+        assertThat(person.getPhoneNumber()).isNull();
+    }
+
     @Test
     void customRandomzierForFieldsShouldBeUsedToPopulateFieldsWithOneModifier() {
         when(randomizer.getRandomValue()).thenReturn(FOO);
@@ -24,7 +24,6 @@
 package org.jeasy.random;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
@@ -34,6 +33,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.jeasy.random.api.ContextAwareRandomizer;
+import org.jeasy.random.api.PrimitiveRandomizer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -47,6 +47,7 @@ import org.jeasy.random.beans.CollectionBean;
 import org.jeasy.random.beans.Human;
 import org.jeasy.random.beans.MapBean;
 import org.jeasy.random.beans.Person;
+import org.jeasy.random.beans.Salary;
 import org.jeasy.random.randomizers.misc.SkipRandomizer;
 
 @ExtendWith(MockitoExtension.class)
@@ -76,7 +77,8 @@ class FieldPopulatorTest {
 
     @BeforeEach
     void setUp() {
-        fieldPopulator = new FieldPopulator(easilyRandomer, randomizerProvider, arrayPopulator, collectionPopulator, mapPopulator, optionalPopulator);
+        fieldPopulator = new FieldPopulator(easilyRandomer, randomizerProvider, arrayPopulator, collectionPopulator, mapPopulator, optionalPopulator,
+                new PopulationPlanCache(new DefaultExclusionPolicy()));
     }
 
     @Test
@@ -119,11 +121,10 @@ class FieldPopulatorTest {
         RandomizationContext context = new RandomizationContext(Human.class, new EasilyRandomerParameters());
         final Human[] currentObjectFromContext = new Human[1];
         when(randomizerProvider.getRandomizerByField(name, context)).thenReturn(contextAwareRandomizer);
-        when(contextAwareRandomizer.getRandomValue()).thenReturn(NAME);
-        doAnswer(invocationOnMock -> {
+        when(contextAwareRandomizer.getRandomValue(context)).thenAnswer(invocationOnMock -> {
             currentObjectFromContext[0] = (Human)invocationOnMock.getArgument(0, RandomizationContext.class).getCurrentObject();
-            return null;
-        }).when(contextAwareRandomizer).setRandomizerContext(context);
+            return NAME;
+        });
 
         // When
         fieldPopulator.populateField(human, name, context);
@@ -132,6 +133,49 @@ class FieldPopulatorTest {
         assertThat(currentObjectFromContext[0]).isEqualTo(human);
     }
 
+    @Test
+    void whenPrimitiveRandomizerIsRegisteredForAPrimitiveField_thenTheFieldShouldBePopulatedWithThePrimitiveValue() throws Exception {
+        // Given
+        Field amount = Salary.class.getDeclaredField("amount");
+        Salary salary = new Salary();
+        RandomizationContext context = new RandomizationContext(Salary.class, new EasilyRandomerParameters());
+        Randomizer primitiveRandomizer = (PrimitiveRandomizer.OfInt) () -> 42;
+        when(randomizerProvider.getRandomizerByField(amount, context)).thenReturn(primitiveRandomizer);
+
+        // When
+        fieldPopulator.populateField(salary, amount, context);
+
+        // Then
+        assertThat(salary.getAmount()).isEqualTo(42);
+        assertThat(salary.isSetterInvoked()).isTrue();
+    }
+
+    @Test
+    void whenPrimitiveRandomizerOverridesGetRandomValue_thenTheOverridingMethodShouldBeUsed() throws Exception {
+        // Given
+        Field amount = Salary.class.getDeclaredField("amount");
+        Salary salary = new Salary();
+        RandomizationContext context = new RandomizationContext(Salary.class, new EasilyRandomerParameters());
+        Randomizer primitiveRandomizer = new PrimitiveRandomizer.OfInt() {
+            @Override
+            public int nextInt() {
+                return 42;
+            }
+
+            @Override
+            public Integer getRandomValue() {
+                return 7;
+            }
+        };
+        when(randomizerProvider.getRandomizerByField(amount, context)).thenReturn(primitiveRandomizer);
+
+        // When
+        fieldPopulator.populateField(salary, amount, context);
+
+        // Then
+        assertThat(salary.getAmount()).isEqualTo(7);
+    }
+
     @Test
     void whenTheFieldIsOfTypeArray_thenShouldDelegatePopulationToArrayPopulator() throws Exception {
         // Given
@@ -184,6 +228,7 @@ class FieldPopulatorTest {
         Field name = Human.class.getDeclaredField("name");
         Human human = new Human();
         RandomizationContext context = Mockito.mock(RandomizationContext.class);
+        when(context.getParameters()).thenReturn(new EasilyRandomerParameters());
         when(context.hasExceededRandomizationDepth()).thenReturn(true);
 
         // When
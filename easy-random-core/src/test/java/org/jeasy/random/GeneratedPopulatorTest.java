@@ -0,0 +1,239 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.jeasy.random.FieldPredicates.named;
+import static org.jeasy.random.FieldPredicates.ofType;
+
+import java.lang.reflect.Field;
+import java.util.Date;
+import java.util.List;
+
+import org.jeasy.random.annotation.Priority;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.api.RandomizerRegistry;
+import org.jeasy.random.beans.BeanWithDefaultFieldValues;
+import org.jeasy.random.beans.Gender;
+import org.jeasy.random.beans.GenericBaseClass;
+import org.jeasy.random.beans.Human;
+import org.jeasy.random.beans.Node;
+import org.jeasy.random.beans.Person;
+import org.jeasy.random.beans.Salary;
+import org.jeasy.random.util.RandomSource;
+import org.junit.jupiter.api.Test;
+
+class GeneratedPopulatorTest {
+
+    @Test
+    void generatedPopulatorsShouldGenerateTheSameObjectsAsTheReflectivePath() {
+        assertSameObjects(new EasilyRandomerParameters().seed(123L));
+        assertSameObjects(new EasilyRandomerParameters().seed(123L).bypassSetters(true));
+        assertSameObjects(new EasilyRandomerParameters().seed(123L).overrideDefaultInitialization(true));
+        assertSameObjects(new EasilyRandomerParameters().seed(123L).randomSource(RandomSource.Algorithm.SPLITTABLE));
+    }
+
+    private void assertSameObjects(EasilyRandomerParameters parameters) {
+        EasilyRandomer reflective = new EasilyRandomer(parameters.copy().generatedPopulators(false));
+        EasilyRandomer generated = new EasilyRandomer(parameters.copy().generatedPopulators(true));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(generated.nextObject(Person.class)).usingRecursiveComparison().isEqualTo(reflective.nextObject(Person.class));
+            assertThat(generated.nextObject(Node.class)).usingRecursiveComparison().isEqualTo(reflective.nextObject(Node.class));
+            // the default comparator of doubles does not consider NaN equal to itself
+            assertThat(generated.nextObject(Flat.class)).usingRecursiveComparison().withComparatorForType(Double::compare, Double.class)
+                    .isEqualTo(reflective.nextObject(Flat.class));
+            assertThat(generated.nextObject(BeanWithDefaultFieldValues.class)).usingRecursiveComparison()
+                    .isEqualTo(reflective.nextObject(BeanWithDefaultFieldValues.class));
+        }
+    }
+
+    @Test
+    void fieldsShouldBeAssignedByTheGeneratedClass() {
+        EasilyRandomerParameters parameters = new EasilyRandomerParameters()
+                .generatedPopulators(true)
+                .randomize(named("name").and(ofType(String.class)), () -> new Throwable().getStackTrace()[1].getClassName());
+        EasilyRandomer easilyRandomer = new EasilyRandomer(parameters);
+
+        assertThat(easilyRandomer.nextObject(Person.class).getName()).startsWith(Person.class.getName() + "$$EasilyRandomerPopulator$");
+        assertThat(easilyRandomer.nextObject(Flat.class).name).startsWith(Flat.class.getName() + "$$EasilyRandomerPopulator$");
+    }
+
+    @Test
+    void generatedPopulatorsShouldHonourCustomRandomizersAndExclusions() {
+        EasilyRandomerParameters parameters = new EasilyRandomerParameters()
+                .generatedPopulators(true)
+                .randomize(named("name").and(ofType(String.class)), () -> "foo")
+                .excludeField(named("phoneNumber"));
+        EasilyRandomer easilyRandomer = new EasilyRandomer(parameters);
+
+        Person person = easilyRandomer.nextObject(Person.class);
+
+        assertThat(person.getName()).isEqualTo("foo");
+        assertThat(person.getPhoneNumber()).isNull();
+        assertThat(person.getEmail()).isNotNull();
+    }
+
+    @Test
+    void randomizersAndExclusionsAddedAfterFirstUseShouldBeHonoured() {
+        EasilyRandomerParameters parameters = new EasilyRandomerParameters().generatedPopulators(true);
+        EasilyRandomer easilyRandomer = new EasilyRandomer(parameters);
+        assertThat(easilyRandomer.nextObject(Person.class).getEmail()).isNotNull();
+
+        parameters.randomize(named("name").and(ofType(String.class)), () -> "foo").excludeField(named("email"));
+        Person person = easilyRandomer.nextObject(Person.class);
+
+        assertThat(person.getName()).isEqualTo("foo");
+        assertThat(person.getEmail()).isNull();
+    }
+
+    @Test
+    void generatedPopulatorsShouldHonourTheRandomizationDepth() {
+        EasilyRandomer easilyRandomer = new EasilyRandomer(new EasilyRandomerParameters()
+                .generatedPopulators(true)
+                .randomizationDepth(1));
+
+        Person person = easilyRandomer.nextObject(Person.class);
+
+        assertThat(person.getName()).isNotNull();
+        assertThat(person.getAddress()).isNotNull();
+        assertThat(person.getAddress().getCity()).isNull();
+        assertThat(person.getAddress().getStreet()).isNull();
+    }
+
+    @Test
+    void generatedPopulatorsShouldNotOverrideDefaultInitialization() {
+        EasilyRandomer easilyRandomer = new EasilyRandomer(new EasilyRandomerParameters().generatedPopulators(true));
+
+        BeanWithDefaultFieldValues bean = easilyRandomer.nextObject(BeanWithDefaultFieldValues.class);
+        Flat flat = easilyRandomer.nextObject(Flat.class);
+
+        assertThat(bean.getDefaultNonNullValue()).isEqualTo("default");
+        assertThat(bean.getDefaultNonNullValueSetByConstructor()).isEqualTo("defaultSetByConstructor");
+        assertThat(flat.initialized).isEqualTo(42L);
+        assertThat(flat.notANumber).isNaN();
+    }
+
+    @Test
+    void setterFailuresShouldBeReportedAsWithTheReflectivePath() {
+        EasilyRandomer reflective = new EasilyRandomer(new EasilyRandomerParameters().seed(123L));
+        EasilyRandomer generated = new EasilyRandomer(new EasilyRandomerParameters().seed(123L).generatedPopulators(true));
+
+        boolean failed = false;
+        for (int i = 0; i < 20; i++) {
+            Throwable expected = catchThrowable(() -> reflective.nextObject(Salary.class));
+            Throwable thrown = catchThrowable(() -> generated.nextObject(Salary.class));
+            if (expected == null) {
+                assertThat(thrown).isNull();
+                continue;
+            }
+            failed = true;
+            assertThat(thrown).isInstanceOf(ObjectCreationException.class).hasMessage(expected.getMessage());
+            assertThat(thrown.getCause()).isInstanceOf(ObjectCreationException.class)
+                    .hasMessage("Unable to invoke setter for field amount of class org.jeasy.random.beans.Salary");
+            assertThat(thrown.getCause().getCause()).isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Amount must be positive");
+        }
+        assertThat(failed).isTrue();
+    }
+
+    @Test
+    void typeVariableFieldsShouldFallBackToTheFieldPopulator() {
+        EasilyRandomer easilyRandomer = new EasilyRandomer(new EasilyRandomerParameters().generatedPopulators(true));
+
+        Concrete concrete = easilyRandomer.nextObject(Concrete.class);
+
+        assertThat(concrete.getX()).isInstanceOf(Integer.class);
+    }
+
+    @Test
+    void unstableRegistriesShouldBeConsultedForEachField() {
+        EasilyRandomerParameters parameters = new EasilyRandomerParameters()
+                .generatedPopulators(true)
+                .randomizerRegistry(new CountingRegistry());
+        EasilyRandomer easilyRandomer = new EasilyRandomer(parameters);
+
+        assertThat(easilyRandomer.nextObject(Human.class).getName()).isEqualTo("1");
+        assertThat(easilyRandomer.nextObject(Human.class).getName()).isEqualTo("2");
+    }
+
+    static class Concrete extends GenericBaseClass<Integer> {
+        Concrete(int x) {
+            super(x);
+        }
+    }
+
+    static class Flat {
+        private boolean flag;
+        byte smallNumber;
+        char letter;
+        short number;
+        int count;
+        long initialized = 42L;
+        float ratio;
+        double notANumber = Double.NaN;
+        String name;
+        private Integer boxed;
+        final String constant = "constant";
+        int[] numbers;
+        Gender gender;
+        Date date;
+        List<String> names;
+        Flat self;
+
+        public Flat setRatio(float ratio) {
+            this.ratio = ratio;
+            return this;
+        }
+
+        public void setBoxed(Integer boxed) {
+            this.boxed = boxed;
+        }
+    }
+
+    @Priority(10)
+    static class CountingRegistry implements RandomizerRegistry {
+
+        private int count;
+
+        @Override
+        public void init(EasilyRandomerParameters parameters) {
+        }
+
+        @Override
+        public Randomizer<?> getRandomizer(Field field) {
+            if (field.getName().equals("name")) {
+                String value = String.valueOf(++count);
+                return () -> value;
+            }
+            return null;
+        }
+
+        @Override
+        public Randomizer<?> getRandomizer(Class<?> type) {
+            return null;
+        }
+    }
+}
@@ -30,9 +30,12 @@ import static org.mockito.Mockito.when;
 import java.lang.reflect.Field;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.jeasy.random.api.ObjectFactory;
+import org.jeasy.random.util.RandomSource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -273,6 +276,20 @@ class MapPopulatorTest {
         assertContainsOnlyNonEmptyPersons(mapBean.getTypedConcurrentSkipListMap().values());
     }
 
+    @Test
+    void mapSizesShouldBeDrawnFromTheRandomSource() {
+        // with the default JDK source, all maps have the same size as in previous versions
+        EasilyRandomer easilyRandomer = new EasilyRandomer(new EasilyRandomerParameters().seed(123L)
+                .randomSource(RandomSource.Algorithm.SPLITTABLE));
+
+        Set<Integer> sizes = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            sizes.add(easilyRandomer.nextObject(MapBean.class).getTypedHashMap().size());
+        }
+
+        assertThat(sizes).hasSizeGreaterThan(1);
+    }
+
     @Test
     void wildcardTypedMapInterfacesShouldBeEmpty() {
         EasilyRandomer easilyRandomer = new EasilyRandomer();
@@ -0,0 +1,287 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+
+import org.jeasy.random.api.FieldAccessor;
+import org.jeasy.random.beans.ChainedSetterBean;
+import org.jeasy.random.beans.Human;
+import org.jeasy.random.beans.ImmutableBean;
+import org.jeasy.random.beans.Salary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MethodHandleFieldAccessStrategyTest {
+
+    private MethodHandleFieldAccessStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new MethodHandleFieldAccessStrategy();
+    }
+
+    @Test
+    void whenSettersAreNotBypassed_thenTheSetterShouldBeInvoked() throws Exception {
+        // Given
+        Field amount = Salary.class.getDeclaredField("amount");
+        Salary salary = new Salary();
+        FieldAccessor accessor = strategy.getAccessor(amount, false);
+
+        // When
+        accessor.setValue(salary, 10);
+
+        // Then
+        assertThat(salary.getAmount()).isEqualTo(10);
+        assertThat(salary.isSetterInvoked()).isTrue();
+        assertThat(accessor.getValue(salary)).isEqualTo(10);
+    }
+
+    @Test
+    void whenSettersAreBypassed_thenTheFieldShouldBeSetDirectly() throws Exception {
+        // Given
+        Field amount = Salary.class.getDeclaredField("amount");
+        Salary salary = new Salary();
+        FieldAccessor accessor = strategy.getAccessor(amount, true);
+
+        // When
+        accessor.setValue(salary, -10);
+
+        // Then
+        assertThat(salary.getAmount()).isEqualTo(-10);
+        assertThat(salary.isSetterInvoked()).isFalse();
+    }
+
+    @Test
+    void whenTheSetterThrowsAnException_thenItShouldBeReportedAsAnInvocationTargetException() throws Exception {
+        // Given
+        Field amount = Salary.class.getDeclaredField("amount");
+        FieldAccessor accessor = strategy.getAccessor(amount, false);
+
+        // When
+        Throwable thrown = catchThrowable(() -> accessor.setValue(new Salary(), -10));
+
+        // Then
+        assertThat(thrown).isInstanceOf(InvocationTargetException.class);
+        assertThat(thrown.getCause()).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Amount must be positive");
+    }
+
+    @Test
+    void whenTheValueDoesNotMatchTheSetter_thenItShouldBeRejectedWithoutInvokingTheSetter() throws Exception {
+        // Given
+        Field amount = Salary.class.getDeclaredField("amount");
+        Salary salary = new Salary();
+        FieldAccessor accessor = strategy.getAccessor(amount, false);
+
+        // When
+        Throwable wrongType = catchThrowable(() -> accessor.setValue(salary, "10"));
+        Throwable nullValue = catchThrowable(() -> accessor.setValue(salary, null));
+
+        // Then
+        assertThat(wrongType).isInstanceOf(IllegalArgumentException.class);
+        assertThat(nullValue).isInstanceOf(IllegalArgumentException.class);
+        assertThat(salary.isSetterInvoked()).isFalse();
+    }
+
+    @Test
+    void primitiveValuesShouldBeWrittenThroughTheSetterWithoutBoxing() throws Exception {
+        // Given
+        Field amount = Salary.class.getDeclaredField("amount");
+        Salary salary = new Salary();
+        FieldAccessor accessor = strategy.getAccessor(amount, false);
+
+        // When
+        accessor.setInt(salary, 10);
+
+        // Then
+        assertThat(salary.getAmount()).isEqualTo(10);
+        assertThat(salary.isSetterInvoked()).isTrue();
+        assertThat(catchThrowable(() -> accessor.setInt(new Salary(), -10)))
+                .isInstanceOf(InvocationTargetException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void primitiveValuesShouldBeWrittenToTheFieldWhenSettersAreBypassed() throws Exception {
+        // Given
+        Field amount = Salary.class.getDeclaredField("amount");
+        Salary salary = new Salary();
+        FieldAccessor accessor = strategy.getAccessor(amount, true);
+
+        // When
+        accessor.setInt(salary, -10);
+
+        // Then
+        assertThat(salary.getAmount()).isEqualTo(-10);
+        assertThat(salary.isSetterInvoked()).isFalse();
+    }
+
+    @Test
+    void valuesOfAllPrimitiveTypesShouldBeWrittenWithAndWithoutSetters() throws Exception {
+        for (boolean bypassSetters : new boolean[]{false, true}) {
+            // Given
+            Primitives primitives = new Primitives();
+
+            // When
+            strategy.getAccessor(Primitives.class.getDeclaredField("booleanValue"), bypassSetters).setBoolean(primitives, true);
+            strategy.getAccessor(Primitives.class.getDeclaredField("byteValue"), bypassSetters).setByte(primitives, (byte) -7);
+            strategy.getAccessor(Primitives.class.getDeclaredField("charValue"), bypassSetters).setChar(primitives, '\uFFFE');
+            strategy.getAccessor(Primitives.class.getDeclaredField("shortValue"), bypassSetters).setShort(primitives, Short.MIN_VALUE);
+            strategy.getAccessor(Primitives.class.getDeclaredField("longValue"), bypassSetters).setLong(primitives, Long.MAX_VALUE);
+            strategy.getAccessor(Primitives.class.getDeclaredField("floatValue"), bypassSetters).setFloat(primitives, 0.1f);
+            strategy.getAccessor(Primitives.class.getDeclaredField("doubleValue"), bypassSetters).setDouble(primitives, -0.1d);
+
+            // Then
+            assertThat(primitives.booleanValue).isTrue();
+            assertThat(primitives.byteValue).isEqualTo((byte) -7);
+            assertThat(primitives.charValue).isEqualTo('\uFFFE');
+            assertThat(primitives.shortValue).isEqualTo(Short.MIN_VALUE);
+            assertThat(primitives.longValue).isEqualTo(Long.MAX_VALUE);
+            assertThat(primitives.floatValue).isEqualTo(0.1f);
+            assertThat(primitives.doubleValue).isEqualTo(-0.1d);
+            assertThat(primitives.setterCalls).isEqualTo(bypassSetters ? 0 : 7);
+        }
+    }
+
+    @Test
+    void chainedSettersShouldBeSupported() throws Exception {
+        // Given
+        Field name = ChainedSetterBean.class.getDeclaredField("name");
+        ChainedSetterBean bean = new ChainedSetterBean();
+
+        // When
+        strategy.getAccessor(name, false).setValue(bean, "foo");
+
+        // Then
+        assertThat(bean.getName()).isEqualTo("foo");
+    }
+
+    @Test
+    void inheritedFieldsShouldBeAccessible() throws Exception {
+        // Given
+        Field name = Human.class.getDeclaredField("name");
+        Human human = new Human();
+
+        // When
+        strategy.getAccessor(name, true).setValue(human, "foo");
+
+        // Then
+        assertThat(human.getName()).isEqualTo("foo");
+    }
+
+    @Test
+    void finalFieldsShouldBeSetUsingTheReflectiveFallback() throws Exception {
+        // Given
+        Field finalValue = ImmutableBean.class.getDeclaredField("finalValue");
+        ImmutableBean bean = new ImmutableBean("foo", Collections.emptyList());
+
+        // When
+        strategy.getAccessor(finalValue, false).setValue(bean, "bar");
+
+        // Then
+        assertThat(bean.getFinalValue()).isEqualTo("bar");
+    }
+
+    @Test
+    void accessorsShouldBeSharedByAllStrategies() throws Exception {
+        // Given
+        Field amount = Salary.class.getDeclaredField("amount");
+
+        // When
+        FieldAccessor accessor = strategy.getAccessor(amount, false);
+
+        // Then
+        assertThat(new MethodHandleFieldAccessStrategy().getAccessor(Salary.class.getDeclaredField("amount"), false))
+                .isSameAs(accessor);
+        assertThat(strategy.getAccessor(amount, true)).isNotSameAs(accessor);
+    }
+
+    @Test
+    void fieldsOfTheCallerShouldNotBeMadeAccessibleByTheReflectiveStrategy() throws Exception {
+        // Given
+        Field amount = Salary.class.getDeclaredField("amount");
+        Salary salary = new Salary();
+
+        // When
+        FieldAccessor accessor = new ReflectiveFieldAccessStrategy().getAccessor(amount, true);
+        accessor.setValue(salary, 10);
+
+        // Then
+        assertThat(accessor.getValue(salary)).isEqualTo(10);
+        assertThat(amount.canAccess(salary)).isFalse();
+    }
+
+    static class Primitives {
+
+        private int setterCalls;
+        private boolean booleanValue;
+        private byte byteValue;
+        private char charValue;
+        private short shortValue;
+        private long longValue;
+        private float floatValue;
+        private double doubleValue;
+
+        public void setBooleanValue(boolean booleanValue) {
+            setterCalls++;
+            this.booleanValue = booleanValue;
+        }
+
+        public void setByteValue(byte byteValue) {
+            setterCalls++;
+            this.byteValue = byteValue;
+        }
+
+        public void setCharValue(char charValue) {
+            setterCalls++;
+            this.charValue = charValue;
+        }
+
+        public void setShortValue(short shortValue) {
+            setterCalls++;
+            this.shortValue = shortValue;
+        }
+
+        public void setLongValue(long longValue) {
+            setterCalls++;
+            this.longValue = longValue;
+        }
+
+        public void setFloatValue(float floatValue) {
+            setterCalls++;
+            this.floatValue = floatValue;
+        }
+
+        public void setDoubleValue(double doubleValue) {
+            setterCalls++;
+            this.doubleValue = doubleValue;
+        }
+    }
+}
@@ -24,6 +24,7 @@
 package org.jeasy.random;
 
 import org.jeasy.random.api.RandomizerContext;
+import org.jeasy.random.util.ClasspathScanner;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -58,6 +59,7 @@ class ObjenesisObjectFactoryTest {
     @Test
     void whenNoConcreteTypeIsFound_thenShouldThrowAnInstantiationError() {
         Mockito.when(context.getParameters().isScanClasspathForConcreteTypes()).thenReturn(true);
+        Mockito.when(context.getParameters().getClasspathScanner()).thenReturn(ClasspathScanner.getDefault());
         assertThatThrownBy(() -> objenesisObjectFactory.createInstance(AbstractFoo.class, context)).isInstanceOf(InstantiationError.class);
     }
 
@@ -0,0 +1,113 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jeasy.random.beans.Human;
+import org.jeasy.random.beans.Person;
+import org.junit.jupiter.api.Test;
+
+class PopulationPlanCacheTest {
+
+    @Test
+    void populationPlanShouldBeBuiltOncePerType() {
+        // Given
+        EasilyRandomer easilyRandomer = new EasilyRandomer();
+        PopulationPlanCache cache = easilyRandomer.getPopulationPlanCache();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            easilyRandomer.nextObject(Human.class);
+        }
+
+        // Then
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(9);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void populationPlanShouldContainDeclaredAndInheritedFieldsExceptExcludedOnes() {
+        // Given
+        EasilyRandomerParameters parameters = new EasilyRandomerParameters().excludeField(FieldPredicates.named("email"));
+        RandomizationContext context = new RandomizationContext(Person.class, parameters);
+
+        // When
+        PopulationPlan plan = PopulationPlan.of(Person.class, parameters.getExclusionPolicy(), context);
+
+        // Then
+        List<String> fieldNames = plan.getFieldPlans().stream()
+                .map(PopulationPlan.FieldPlan::getField)
+                .map(Field::getName)
+                .collect(Collectors.toList());
+        assertThat(plan.isExclusionCheckRequired()).isFalse();
+        assertThat(fieldNames).contains("name", "address", "gender", "id")
+                .doesNotContain("email", "SERIAL_VERSION_UID");
+    }
+
+    @Test
+    void fieldPlansShouldBeTakenFromTheCachedPlanOfTheType() throws NoSuchFieldException {
+        // Given
+        EasilyRandomerParameters parameters = new EasilyRandomerParameters().excludeField(FieldPredicates.named("email"));
+        PopulationPlanCache cache = new PopulationPlanCache(parameters.getExclusionPolicy());
+        RandomizationContext context = new RandomizationContext(Person.class, parameters);
+        Field name = Human.class.getDeclaredField("name");
+        Field email = Person.class.getDeclaredField("email");
+
+        // When
+        PopulationPlan.FieldPlan namePlan = cache.getFieldPlan(Person.class, name, context);
+        PopulationPlan.FieldPlan emailPlan = cache.getFieldPlan(Person.class, email, context);
+
+        // Then
+        assertThat(namePlan).isSameAs(cache.getPlan(Person.class, context).getFieldPlan(name));
+        // excluded fields are not part of the plan of the type, but their plans are cached as well
+        assertThat(emailPlan.getField()).isEqualTo(email);
+        assertThat(cache.getFieldPlan(Person.class, email, context)).isSameAs(emailPlan);
+        // only the lookup of the plan of the type is counted
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isZero();
+    }
+
+    @Test
+    void populationPlansShouldBeBuiltAgainWhenExclusionPredicatesAreAdded() throws NoSuchFieldException {
+        // Given
+        EasilyRandomerParameters parameters = new EasilyRandomerParameters();
+        PopulationPlanCache cache = new PopulationPlanCache(parameters.getExclusionPolicy());
+        RandomizationContext context = new RandomizationContext(Person.class, parameters);
+        Field email = Person.class.getDeclaredField("email");
+        assertThat(cache.getPlan(Person.class, context).getFieldPlan(email)).isNotNull();
+
+        // When
+        parameters.excludeField(FieldPredicates.named("email"));
+
+        // Then
+        assertThat(cache.getPlan(Person.class, context).getFieldPlan(email)).isNull();
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+}
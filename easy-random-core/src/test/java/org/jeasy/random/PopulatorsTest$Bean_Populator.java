@@ -0,0 +1,70 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import java.lang.reflect.Field;
+
+import org.jeasy.random.api.FieldAccessor;
+import org.jeasy.random.api.Populator;
+
+/**
+ * Hand written equivalent of a populator generated at compile time, writing upper case names
+ * and only exposing the name field to the population plan.
+ */
+public class PopulatorsTest$Bean_Populator implements Populator<PopulatorsTest.Bean> {
+
+    @Override
+    public PopulatorsTest.Bean newInstance() {
+        PopulatorsTest.Bean bean = new PopulatorsTest.Bean();
+        bean.origin = "populator";
+        return bean;
+    }
+
+    @Override
+    public FieldAccessor getAccessor(Field field, boolean bypassSetters) {
+        if (!field.getName().equals("name")) {
+            return null;
+        }
+        return new FieldAccessor() {
+            @Override
+            public Object getValue(Object target) {
+                return ((PopulatorsTest.Bean) target).name;
+            }
+
+            @Override
+            public void setValue(Object target, Object value) {
+                ((PopulatorsTest.Bean) target).name = ((String) value).toUpperCase();
+            }
+        };
+    }
+
+    @Override
+    public Field[] getFields() {
+        try {
+            return new Field[]{PopulatorsTest.Bean.class.getDeclaredField("name")};
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jeasy.random.FieldPredicates.named;
+
+import org.jeasy.random.annotation.GeneratePopulator;
+import org.jeasy.random.beans.Person;
+import org.junit.jupiter.api.Test;
+
+class PopulatorsTest {
+
+    @Test
+    void populatorsShouldBeDiscoveredByNamingConvention() {
+        assertThat(Populators.getPopulatorName(Bean.class)).isEqualTo("org.jeasy.random.PopulatorsTest$Bean_Populator");
+        assertThat(Populators.getPopulator(Bean.class)).isInstanceOf(PopulatorsTest$Bean_Populator.class);
+    }
+
+    @Test
+    void typesWithoutGeneratedPopulatorShouldHaveNoPopulator() {
+        assertThat(Populators.getPopulator(Person.class)).isNull();
+        assertThat(Populators.getPopulator(Unprocessed.class)).isNull();
+    }
+
+    @Test
+    void populationPlansShouldBeBuiltFromTheFieldsOfThePopulator() {
+        EasilyRandomerParameters parameters = new EasilyRandomerParameters();
+        RandomizationContext context = new RandomizationContext(Bean.class, parameters);
+
+        PopulationPlan plan = PopulationPlan.of(Bean.class, parameters.getExclusionPolicy(), context);
+
+        assertThat(plan.getFieldPlans()).extracting(fieldPlan -> fieldPlan.getField().getName()).containsExactly("name");
+    }
+
+    @Test
+    void populatorsShouldBePreferredToTheDefaultFieldAccessStrategy() {
+        EasilyRandomer easilyRandomer = new EasilyRandomer(new EasilyRandomerParameters()
+                .randomize(named("name"), () -> "foo"));
+
+        Bean bean = easilyRandomer.nextObject(Bean.class);
+
+        assertThat(bean.origin).isEqualTo("populator");
+        assertThat(bean.name).isEqualTo("FOO");
+    }
+
+    @Test
+    void populatorsShouldNotBeUsedWithACustomFieldAccessStrategy() {
+        EasilyRandomer easilyRandomer = new EasilyRandomer(new EasilyRandomerParameters()
+                .randomize(named("name"), () -> "foo")
+                .fieldAccessStrategy(new ReflectiveFieldAccessStrategy()));
+
+        Bean bean = easilyRandomer.nextObject(Bean.class);
+
+        assertThat(bean.name).isEqualTo("foo");
+    }
+
+    @GeneratePopulator
+    static class Bean {
+
+        String name;
+
+        transient String origin;
+    }
+
+    @GeneratePopulator
+    static class Unprocessed {
+    }
+}
@@ -26,6 +26,7 @@ package org.jeasy.random;
 import static java.lang.annotation.ElementType.FIELD;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.jeasy.random.FieldPredicates.named;
 import static org.mockito.Mockito.when;
 
@@ -33,9 +34,13 @@ import java.lang.annotation.Documented;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 import org.jeasy.random.api.ContextAwareRandomizer;
 import org.jeasy.random.api.RandomizerContext;
+import org.jeasy.random.util.RandomSource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -44,6 +49,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.jeasy.random.beans.Address;
 import org.jeasy.random.beans.Person;
+import org.jeasy.random.beans.Street;
 
 @ExtendWith(MockitoExtension.class)
 public class RandomizationContextTest {
@@ -90,6 +96,7 @@ public class RandomizationContextTest {
     @Test
     void whenATypeHasBeenRandomized_thenTheRandomizedBeanShouldBeRetrievedFromTheObjectPool() {
         when(parameters.getObjectPoolSize()).thenReturn(EasilyRandomerParameters.DEFAULT_OBJECT_POOL_SIZE);
+        when(parameters.getRandomSource()).thenReturn(RandomSource.Algorithm.SPLITTABLE);
 
         // Given
         randomizationContext.addPopulatedBean(String.class, bean1);
@@ -116,6 +123,67 @@ public class RandomizationContextTest {
         assertThat(fullFieldName).isEqualTo("address.street");
     }
 
+    @Test
+    void currentFieldShouldFollowTheStack() throws NoSuchFieldException {
+        // Given
+        Field address = Person.class.getDeclaredField("address");
+        Field street = Address.class.getDeclaredField("street");
+        Field name = Street.class.getDeclaredField("name");
+
+        // When / Then
+        assertThat(randomizationContext.getCurrentField()).isEmpty();
+        randomizationContext.pushStackItem(bean1, address);
+        randomizationContext.pushStackItem(bean2, street);
+        assertThat(randomizationContext.getCurrentField()).isEqualTo("address.street");
+        randomizationContext.popStackItem();
+        randomizationContext.pushStackItem(bean2, name);
+        assertThat(randomizationContext.getCurrentField()).isEqualTo("address.name");
+        assertThat(randomizationContext.getCurrentObject()).isEqualTo(bean2);
+        assertThat(randomizationContext.getCurrentRandomizationDepth()).isEqualTo(2);
+    }
+
+    @Test
+    void objectsPickedFromPoolsShouldBeTheSameAfterReset() {
+        when(parameters.getObjectPoolSize()).thenReturn(EasilyRandomerParameters.DEFAULT_OBJECT_POOL_SIZE);
+        when(parameters.getRandomSource()).thenReturn(RandomSource.Algorithm.SPLITTABLE);
+
+        // Given
+        List<Object> picked = new ArrayList<>();
+        for (int call = 0; call < 2; call++) {
+            for (int i = 0; i < EasilyRandomerParameters.DEFAULT_OBJECT_POOL_SIZE; i++) {
+                randomizationContext.addPopulatedBean(String.class, "bean" + i);
+            }
+            // When
+            for (int i = 0; i < 5; i++) {
+                picked.add(randomizationContext.getPopulatedBean(String.class));
+            }
+            randomizationContext.reset();
+        }
+
+        // Then
+        assertThat(picked.subList(5, 10)).isEqualTo(picked.subList(0, 5));
+        assertThat(randomizationContext.hasAlreadyRandomizedType(String.class)).isFalse();
+    }
+
+    @Test
+    void objectsPickedFromPoolsInJdkModeShouldBeTheSameAsWithJavaUtilRandom() {
+        when(parameters.getObjectPoolSize()).thenReturn(EasilyRandomerParameters.DEFAULT_OBJECT_POOL_SIZE);
+        when(parameters.getRandomSource()).thenReturn(RandomSource.Algorithm.JDK);
+        when(parameters.getSeed()).thenReturn(123L);
+
+        // Given
+        for (int i = 0; i < EasilyRandomerParameters.DEFAULT_OBJECT_POOL_SIZE; i++) {
+            randomizationContext.addPopulatedBean(String.class, "bean" + i);
+        }
+        Random random = new Random(123L);
+
+        // When / Then
+        for (int i = 0; i < 20; i++) {
+            int expectedIndex = random.nextInt(EasilyRandomerParameters.DEFAULT_OBJECT_POOL_SIZE);
+            assertThat(randomizationContext.getPopulatedBean(String.class)).isEqualTo("bean" + expectedIndex);
+        }
+    }
+
     @Test
     void whenCurrentStackSizeOverMaxRandomizationDepth_thenShouldExceedRandomizationDepth() throws NoSuchFieldException {
         // Given
@@ -187,6 +255,76 @@ public class RandomizationContextTest {
         assertThat(a.b.e.name).isEqualTo("bar");
     }
 
+    @Test
+    void fieldValuesShouldBeGeneratedWithTheGivenSizeByTheEnclosingEngine() {
+        // given
+        EasilyRandomerParameters parameters = new EasilyRandomerParameters()
+                .randomize(named("nicknames"), new ContextAwareRandomizer<Object>() {
+                    private RandomizerContext context;
+
+                    @Override
+                    public void setRandomizerContext(RandomizerContext context) {
+                        this.context = context;
+                    }
+
+                    @Override
+                    public Object getRandomValue() {
+                        return context.nextObject(getField(Person.class, "nicknames"), 3);
+                    }
+                });
+        EasilyRandomer easilyRandomer = new EasilyRandomer(parameters);
+
+        // when
+        Person person = easilyRandomer.nextObject(Person.class);
+
+        // then
+        assertThat(person.getNicknames()).hasSize(3).doesNotContainNull();
+    }
+
+    @Test
+    void fieldValuesShouldBeGeneratedWithoutTheirRandomizersByTheEnclosingEngine() {
+        // given
+        EasilyRandomerParameters parameters = new EasilyRandomerParameters()
+                .randomize(named("name").and(FieldPredicates.inClass(Street.class)), new ContextAwareRandomizer<Object>() {
+                    private RandomizerContext context;
+
+                    @Override
+                    public void setRandomizerContext(RandomizerContext context) {
+                        this.context = context;
+                    }
+
+                    @Override
+                    public Object getRandomValue() {
+                        return "street " + context.nextObject(getField(Street.class, "name"));
+                    }
+                });
+        EasilyRandomer easilyRandomer = new EasilyRandomer(parameters);
+
+        // when
+        Street street = easilyRandomer.nextObject(Street.class);
+
+        // then
+        assertThat(street.getName()).startsWith("street ").doesNotContain("street street");
+    }
+
+    @Test
+    void detachedContextShouldNotGenerateFieldValues() {
+        Field nicknames = getField(Person.class, "nicknames");
+
+        assertThatThrownBy(() -> randomizationContext.nextObject(nicknames, 3))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> randomizationContext.nextObject(nicknames))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private static Field getField(Class<?> type, String name) {
+        try {
+            return type.getDeclaredField(name);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     static class MyRandomizer implements ContextAwareRandomizer<D> {
 
         private RandomizerContext context;
@@ -25,10 +25,14 @@ package org.jeasy.random;
 
 import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
+import java.util.LinkedHashSet;
 
+import org.jeasy.random.annotation.Priority;
 import org.jeasy.random.api.RandomizerContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -39,6 +43,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.api.RandomizerRegistry;
 import org.jeasy.random.beans.Foo;
+import org.jeasy.random.randomizers.registry.CustomRandomizerRegistry;
+import org.mockito.Mockito;
 
 @ExtendWith(MockitoExtension.class)
 @SuppressWarnings("unchecked")
@@ -84,4 +90,135 @@ class RegistriesRandomizerProviderTest {
         // Then
         assertThat(actual).isEqualTo(randomizer);
     }
-}
\ No newline at end of file
+
+    @Test
+    void stableRegistriesShouldBeConsultedOncePerField() throws NoSuchFieldException {
+        // Given
+        Field field = Foo.class.getDeclaredField("bar");
+        when(randomizerRegistry.isStable()).thenReturn(true);
+        when(randomizerRegistry.getRandomizer(field)).thenReturn(randomizer);
+        randomizerProvider = new RegistriesRandomizerProvider();
+        randomizerProvider.setRandomizerRegistries(singleton(randomizerRegistry));
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertThat(randomizerProvider.getRandomizerByField(field, context)).isEqualTo(randomizer);
+        }
+
+        // Then
+        verify(randomizerRegistry, times(1)).getRandomizer(field);
+    }
+
+    @Test
+    void theAbsenceOfRandomizerInStableRegistriesShouldBeCached() {
+        // Given
+        when(randomizerRegistry.isStable()).thenReturn(true);
+        randomizerProvider = new RegistriesRandomizerProvider();
+        randomizerProvider.setRandomizerRegistries(singleton(randomizerRegistry));
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertThat(randomizerProvider.getRandomizerByType(String.class, context)).isNull();
+        }
+
+        // Then
+        verify(randomizerRegistry, times(1)).getRandomizer(String.class);
+    }
+
+    @Test
+    void cachedAnswersOfStableRegistriesShouldBeDiscardedWhenTheirVersionChanges() throws NoSuchFieldException {
+        // Given
+        Field field = Foo.class.getDeclaredField("bar");
+        Randomizer otherRandomizer = Mockito.mock(Randomizer.class);
+        CustomRandomizerRegistry customRandomizerRegistry = new CustomRandomizerRegistry();
+        randomizerProvider = new RegistriesRandomizerProvider();
+        randomizerProvider.setRandomizerRegistries(singleton(customRandomizerRegistry));
+        assertThat(randomizerProvider.getRandomizerByField(field, context)).isNull();
+        assertThat(randomizerProvider.getRandomizerByType(String.class, context)).isNull();
+
+        // When
+        customRandomizerRegistry.registerRandomizer(FieldPredicates.named("bar"), randomizer);
+        customRandomizerRegistry.registerRandomizer(String.class, otherRandomizer);
+
+        // Then
+        assertThat(randomizerProvider.getRandomizerByField(field, context)).isEqualTo(randomizer);
+        assertThat(randomizerProvider.getRandomizerByType(String.class, context)).isEqualTo(otherRandomizer);
+    }
+
+    @Test
+    void unstableRegistriesShouldBeConsultedOnEachLookup() {
+        // Given
+        when(randomizerRegistry.getRandomizer(String.class)).thenReturn(randomizer);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertThat(randomizerProvider.getRandomizerByType(String.class, context)).isEqualTo(randomizer);
+        }
+
+        // Then
+        verify(randomizerRegistry, times(10)).getRandomizer(String.class);
+    }
+
+    @Test
+    void randomizerWithHighestPriorityShouldWinWhetherItComesFromAStableRegistryOrNot() {
+        // Given
+        Randomizer highPriorityRandomizer = new HighPriorityRandomizer();
+        Randomizer lowPriorityRandomizer = new LowPriorityRandomizer();
+        RandomizerRegistry stableRegistry = Mockito.mock(RandomizerRegistry.class);
+        when(stableRegistry.isStable()).thenReturn(true);
+        when(stableRegistry.getRandomizer(String.class)).thenReturn(lowPriorityRandomizer);
+        when(stableRegistry.getRandomizer(Integer.class)).thenReturn(highPriorityRandomizer);
+        when(randomizerRegistry.getRandomizer(String.class)).thenReturn(highPriorityRandomizer);
+        when(randomizerRegistry.getRandomizer(Integer.class)).thenReturn(lowPriorityRandomizer);
+        LinkedHashSet<RandomizerRegistry> registries = new LinkedHashSet<>();
+        registries.add(stableRegistry);
+        registries.add(randomizerRegistry);
+        randomizerProvider = new RegistriesRandomizerProvider();
+        randomizerProvider.setRandomizerRegistries(registries);
+
+        // When
+        Randomizer<?> stringRandomizer = randomizerProvider.getRandomizerByType(String.class, context);
+        Randomizer<?> integerRandomizer = randomizerProvider.getRandomizerByType(Integer.class, context);
+
+        // Then
+        assertThat(stringRandomizer).isEqualTo(highPriorityRandomizer);
+        assertThat(integerRandomizer).isEqualTo(highPriorityRandomizer);
+    }
+
+    @Test
+    void withEqualPrioritiesTheRandomizerOfTheFirstRegistryShouldWin() {
+        // Given
+        Randomizer otherRandomizer = Mockito.mock(Randomizer.class);
+        RandomizerRegistry stableRegistry = Mockito.mock(RandomizerRegistry.class);
+        when(stableRegistry.isStable()).thenReturn(true);
+        when(stableRegistry.getRandomizer(String.class)).thenReturn(otherRandomizer);
+        when(randomizerRegistry.getRandomizer(String.class)).thenReturn(randomizer);
+        LinkedHashSet<RandomizerRegistry> registries = new LinkedHashSet<>();
+        registries.add(randomizerRegistry);
+        registries.add(stableRegistry);
+        randomizerProvider = new RegistriesRandomizerProvider();
+        randomizerProvider.setRandomizerRegistries(registries);
+
+        // When
+        Randomizer<?> actual = randomizerProvider.getRandomizerByType(String.class, context);
+
+        // Then
+        assertThat(actual).isEqualTo(randomizer);
+    }
+
+    @Priority(1)
+    static class HighPriorityRandomizer implements Randomizer<Object> {
+        @Override
+        public Object getRandomValue() {
+            return null;
+        }
+    }
+
+    @Priority(-1)
+    static class LowPriorityRandomizer implements Randomizer<Object> {
+        @Override
+        public Object getRandomValue() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jeasy.random.Shard.shard;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jeasy.random.beans.Gender;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ShardTest {
+
+    private static final long SEED = 42;
+
+    private static final int SIZE = 1000;
+
+    private static final int SHARDS = 4;
+
+    @Test
+    void shardsShouldPartitionTheIndexRange() {
+        long size = 10;
+        int count = 3;
+        long expectedFromIndex = 0;
+        for (int index = 0; index < count; index++) {
+            Shard shard = shard(index, count);
+            assertThat(shard.getFromIndex(size)).isEqualTo(expectedFromIndex);
+            assertThat(shard.getToIndex(size) - shard.getFromIndex(size)).isBetween(size / count, size / count + 1);
+            expectedFromIndex = shard.getToIndex(size);
+        }
+        assertThat(expectedFromIndex).isEqualTo(size);
+    }
+
+    @Test
+    void whenShardIsInvalid_thenShouldThrowAnIllegalArgumentException() {
+        assertThatThrownBy(() -> shard(0, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> shard(-1, 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> shard(2, 2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shardsGeneratedInSeparateProcessesShouldGiveTheSameDatasetAsOneProcess(@TempDir Path directory) throws Exception {
+        // Given
+        List<String> expected = new EasilyRandomer(new EasilyRandomerParameters().seed(SEED))
+                .objects(Record.class, SIZE)
+                .map(Record::toString)
+                .collect(toList());
+
+        // When
+        List<Process> processes = new ArrayList<>();
+        List<Path> outputs = new ArrayList<>();
+        for (int index = 0; index < SHARDS; index++) {
+            Path output = directory.resolve("shard-" + index + ".txt");
+            String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+            processes.add(new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                    ShardGenerator.class.getName(), String.valueOf(index), String.valueOf(SHARDS), output.toString())
+                    .redirectErrorStream(true)
+                    .redirectOutput(directory.resolve("shard-" + index + ".log").toFile())
+                    .start());
+            outputs.add(output);
+        }
+        List<String> actual = new ArrayList<>();
+        for (int index = 0; index < SHARDS; index++) {
+            Process process = processes.get(index);
+            assertThat(process.waitFor(2, TimeUnit.MINUTES)).isTrue();
+            assertThat(process.exitValue()).isZero();
+            actual.addAll(Files.readAllLines(outputs.get(index), UTF_8));
+        }
+
+        // Then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    /**
+     * Entry point of the processes generating one shard each.
+     */
+    public static class ShardGenerator {
+
+        public static void main(String[] args) throws Exception {
+            int index = Integer.parseInt(args[0]);
+            int count = Integer.parseInt(args[1]);
+            try (PrintStream output = new PrintStream(args[2], UTF_8.name())) {
+                new EasilyRandomer(new EasilyRandomerParameters().seed(SEED))
+                        .objects(Record.class, SIZE, shard(index, count))
+                        .forEach(output::println);
+            }
+        }
+    }
+
+    public static class Record {
+
+        private long id;
+        private String name;
+        private int quantity;
+        private double amount;
+        private Gender gender;
+        private LocalDate date;
+        private List<String> tags;
+
+        @Override
+        public String toString() {
+            return "Record{" +
+                    "id=" + id +
+                    ", name='" + name + '\'' +
+                    ", quantity=" + quantity +
+                    ", amount=" + amount +
+                    ", gender=" + gender +
+                    ", date=" + date +
+                    ", tags=" + tags +
+                    '}';
+        }
+    }
+}
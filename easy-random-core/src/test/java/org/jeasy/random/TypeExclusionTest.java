@@ -56,6 +56,40 @@ class TypeExclusionTest {
         assertThat(foo.getBaz()).isNull();
     }
 
+    @Test
+    void typesExcludedAfterTheFirstGenerationShouldBeExcluded() {
+        // given
+        class Customer {
+            private Address address;
+        }
+        EasilyRandomerParameters parameters = new EasilyRandomerParameters();
+        EasilyRandomer easilyRandomer = new EasilyRandomer(parameters);
+        assertThat(easilyRandomer.nextObject(Address.class)).isNotNull();
+        assertThat(easilyRandomer.nextObject(Customer.class).address).isNotNull();
+
+        // when
+        parameters.excludeType(type -> type == Address.class);
+
+        // then
+        assertThat(easilyRandomer.nextObject(Address.class)).isNull();
+        assertThat(easilyRandomer.nextObject(Customer.class).address).isNull();
+        assertThat(easilyRandomer.nextObject(Address[].class)).containsOnlyNulls();
+    }
+
+    @Test
+    void exclusionsAddedToACopyOfTheParametersShouldBeCountedByTheOriginal() {
+        // given
+        EasilyRandomerParameters parameters = new EasilyRandomerParameters();
+        long modifications = parameters.getExclusionModifications();
+
+        // when
+        parameters.copy().excludeType(type -> type == Address.class);
+
+        // then
+        assertThat(parameters.getExclusionModifications()).isEqualTo(modifications + 1);
+        assertThat(new EasilyRandomer(parameters).nextObject(Address.class)).isNull();
+    }
+
     static class Foo {
         private String name;
         private Address address;
@@ -0,0 +1,96 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.parameters;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.jeasy.random.EasilyRandomer;
+import org.jeasy.random.EasilyRandomerParameters;
+import org.jeasy.random.beans.Person;
+import org.jeasy.random.util.RandomSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class RandomSourceParameterTests {
+
+    private static final long SEED = 123L;
+
+    @Test
+    void theJdkRandomSourceShouldBeTheDefaultOne() {
+        assertThat(new EasilyRandomerParameters().getRandomSource()).isEqualTo(RandomSource.Algorithm.JDK);
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomSource.Algorithm.class)
+    void generatedObjectsShouldBeTheSameForTheSameSeed(RandomSource.Algorithm algorithm) {
+        // Given
+        EasilyRandomer easilyRandomer1 = new EasilyRandomer(new EasilyRandomerParameters().seed(SEED).randomSource(algorithm));
+        EasilyRandomer easilyRandomer2 = new EasilyRandomer(new EasilyRandomerParameters().seed(SEED).randomSource(algorithm));
+
+        // When
+        Person person1 = easilyRandomer1.nextObject(Person.class);
+        Person nextPerson1 = easilyRandomer1.nextObject(Person.class);
+        Person person2 = easilyRandomer2.nextObject(Person.class);
+        Person nextPerson2 = easilyRandomer2.nextObject(Person.class);
+
+        // Then
+        assertThat(person1).usingRecursiveComparison().isEqualTo(person2);
+        assertThat(nextPerson1).usingRecursiveComparison().isEqualTo(nextPerson2);
+        assertThat(nextPerson1).usingRecursiveComparison().isNotEqualTo(person1);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = RandomSource.Algorithm.class, names = "JDK", mode = EnumSource.Mode.EXCLUDE)
+    void generatedObjectsShouldDependOnTheAlgorithm(RandomSource.Algorithm algorithm) {
+        // Given
+        EasilyRandomer defaultRandomer = new EasilyRandomer(new EasilyRandomerParameters().seed(SEED));
+        EasilyRandomer easilyRandomer = new EasilyRandomer(new EasilyRandomerParameters().seed(SEED).randomSource(algorithm));
+
+        // When
+        Person defaultPerson = defaultRandomer.nextObject(Person.class);
+        Person person = easilyRandomer.nextObject(Person.class);
+
+        // Then
+        assertThat(person).usingRecursiveComparison().isNotEqualTo(defaultPerson);
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomSource.Algorithm.class)
+    void objectsAtAnIndexShouldBeTheSameAsInTheStream(RandomSource.Algorithm algorithm) {
+        // Given
+        EasilyRandomer easilyRandomer = new EasilyRandomer(new EasilyRandomerParameters().seed(SEED).randomSource(algorithm));
+
+        // When
+        List<Person> persons = easilyRandomer.objects(Person.class, 10).collect(toList());
+
+        // Then
+        for (int index = 0; index < persons.size(); index++) {
+            assertThat(easilyRandomer.nextObject(Person.class, index)).usingRecursiveComparison().isEqualTo(persons.get(index));
+        }
+    }
+}
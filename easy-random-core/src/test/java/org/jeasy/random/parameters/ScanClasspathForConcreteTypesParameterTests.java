@@ -45,6 +45,7 @@ import org.jeasy.random.beans.Human;
 import org.jeasy.random.beans.Mamals;
 import org.jeasy.random.beans.Person;
 import org.jeasy.random.beans.SocialPerson;
+import org.jeasy.random.util.ClasspathScanner;
 
 class ScanClasspathForConcreteTypesParameterTests {
 
@@ -120,6 +121,41 @@ class ScanClasspathForConcreteTypesParameterTests {
         then(randomValue.getTestEnum()).isNotNull();
     }
 
+    @Test
+    void whenScanClasspathForConcreteTypesIsEnabled_thenShouldOnlyScanTheAcceptedPackages() {
+        ClasspathScanner classpathScanner = new ClasspathScanner()
+                .acceptPackages("org.jeasy.random.beans")
+                .includeSystemModules(false);
+        EasilyRandomerParameters parameters = new EasilyRandomerParameters()
+                .scanClasspathForConcreteTypes(true)
+                .classpathScanner(classpathScanner);
+        easilyRandomer = new EasilyRandomer(parameters);
+
+        Mamals mamals = easilyRandomer.nextObject(Mamals.class);
+        ComparableBean comparableBean = easilyRandomer.nextObject(ComparableBean.class);
+
+        assertThat(mamals.getMamal()).isOfAnyClassIn(Human.class, Ape.class, Person.class, SocialPerson.class);
+        // java.util.Date is not in the accepted packages
+        assertThat(comparableBean.getDateComparable()).isOfAnyClassIn(ComparableBean.AlwaysEqual.class);
+    }
+
+    @Test
+    void whenTheClasspathScannerIsClosed_thenShouldScanTheClasspathAgainWhenNeeded() {
+        ClasspathScanner classpathScanner = new ClasspathScanner()
+                .acceptPackages("org.jeasy.random.beans")
+                .includeSystemModules(false);
+        EasilyRandomerParameters parameters = new EasilyRandomerParameters()
+                .scanClasspathForConcreteTypes(true)
+                .classpathScanner(classpathScanner);
+        easilyRandomer = new EasilyRandomer(parameters);
+        Bar bar = easilyRandomer.nextObject(Bar.class);
+
+        classpathScanner.close();
+
+        assertThat(bar).isInstanceOf(ConcreteBar.class);
+        assertThat(easilyRandomer.nextObject(Bar.class)).isInstanceOf(ConcreteBar.class);
+    }
+
     // issue https://github.com/j-easy/easy-random/issues/353
 
     @Test
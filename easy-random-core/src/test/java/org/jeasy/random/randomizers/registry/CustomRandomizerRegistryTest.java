@@ -0,0 +1,114 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers.registry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jeasy.random.FieldPredicates.inClass;
+import static org.jeasy.random.FieldPredicates.named;
+import static org.jeasy.random.FieldPredicates.ofType;
+
+import java.lang.reflect.Field;
+import java.util.function.Predicate;
+
+import org.jeasy.random.FieldPredicates.FieldPredicate;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.beans.Human;
+import org.jeasy.random.beans.Person;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CustomRandomizerRegistryTest {
+
+    private final Randomizer<String> foo = () -> "foo";
+    private final Randomizer<String> bar = () -> "bar";
+
+    private CustomRandomizerRegistry registry;
+    private Field name;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registry = new CustomRandomizerRegistry();
+        name = Human.class.getDeclaredField("name");
+    }
+
+    @Test
+    void conjunctionsOfFieldPredicatesShouldExposeTheirConstraints() {
+        FieldPredicate predicate = (FieldPredicate) named("name").and(ofType(String.class)).and(inClass(Human.class));
+
+        assertThat(predicate.getName()).isEqualTo("name");
+        assertThat(predicate.getType()).isEqualTo(String.class);
+        assertThat(predicate.getDeclaringClass()).isEqualTo(Human.class);
+        assertThat(predicate.test(name)).isTrue();
+    }
+
+    @Test
+    void conjunctionsWithOtherPredicatesShouldStillBeTested() {
+        FieldPredicate predicate = (FieldPredicate) named("name").and(field -> false);
+
+        assertThat(predicate.getName()).isEqualTo("name");
+        assertThat(predicate.test(name)).isFalse();
+    }
+
+    @Test
+    void firstRegisteredPredicateShouldWin() {
+        registry.registerRandomizer(named("name").and(inClass(Human.class)), foo);
+        registry.registerRandomizer(ofType(String.class), bar);
+
+        assertThat(registry.getRandomizer(name)).isSameAs(foo);
+    }
+
+    @Test
+    void opaquePredicatesShouldKeepTheirRegistrationRank() {
+        registry.registerRandomizer(field -> field.getName().startsWith("na"), foo);
+        registry.registerRandomizer(named("name"), bar);
+
+        assertThat(registry.getRandomizer(name)).isSameAs(foo);
+    }
+
+    @Test
+    void regularExpressionsShouldBeMatched() throws Exception {
+        registry.registerRandomizer(named("e.*l"), foo);
+
+        assertThat(registry.getRandomizer(Person.class.getDeclaredField("email"))).isSameAs(foo);
+        assertThat(registry.getRandomizer(name)).isNull();
+    }
+
+    @Test
+    void registeringAPredicateAgainShouldReplaceItsRandomizer() {
+        Predicate<Field> predicate = named("name");
+        registry.registerRandomizer(predicate, foo);
+        registry.registerRandomizer(ofType(String.class), bar);
+        registry.registerRandomizer(predicate, bar);
+
+        assertThat(registry.getRandomizer(name)).isSameAs(bar);
+    }
+
+    @Test
+    void typeRandomizerShouldBeUsedWhenNoPredicateMatches() {
+        registry.registerRandomizer(named("other"), foo);
+        registry.registerRandomizer(String.class, bar);
+
+        assertThat(registry.getRandomizer(name)).isSameAs(bar);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers.registry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jeasy.random.EasilyRandomerParameters;
+import org.jeasy.random.FieldPredicates;
+import org.jeasy.random.beans.Address;
+import org.jeasy.random.beans.Person;
+import org.jeasy.random.randomizers.misc.SkipRandomizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ExclusionRandomizerRegistryTest {
+
+    private ExclusionRandomizerRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ExclusionRandomizerRegistry();
+        registry.init(new EasilyRandomerParameters());
+    }
+
+    @Test
+    void fieldsAnnotatedWithExcludeShouldBeSkipped() throws Exception {
+        assertThat(registry.getRandomizer(Person.class.getDeclaredField("excluded"))).isInstanceOf(SkipRandomizer.class);
+        assertThat(registry.getRandomizer(Person.class.getDeclaredField("email"))).isNull();
+    }
+
+    @Test
+    void typePredicatesShouldBeEvaluatedOncePerType() {
+        AtomicInteger evaluations = new AtomicInteger();
+        registry.addTypePredicate(type -> evaluations.incrementAndGet() < 0);
+
+        registry.getRandomizer(Address.class);
+        registry.getRandomizer(Address.class);
+
+        assertThat(evaluations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void fieldPredicatesShouldBeEvaluatedOncePerField() throws Exception {
+        AtomicInteger evaluations = new AtomicInteger();
+        registry.addFieldPredicate(field -> evaluations.incrementAndGet() < 0);
+        Field email = Person.class.getDeclaredField("email");
+
+        registry.getRandomizer(email);
+        registry.getRandomizer(email);
+
+        assertThat(evaluations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void decisionsShouldBeUpdatedWhenPredicatesAreAdded() throws Exception {
+        Field email = Person.class.getDeclaredField("email");
+        assertThat(registry.getRandomizer(email)).isNull();
+        assertThat(registry.getRandomizer(Address.class)).isNull();
+
+        registry.addFieldPredicate(FieldPredicates.named("email"));
+        registry.addTypePredicate(Address.class::equals);
+
+        assertThat(registry.getRandomizer(email)).isInstanceOf(SkipRandomizer.class);
+        assertThat(registry.getRandomizer(Address.class)).isInstanceOf(SkipRandomizer.class);
+    }
+}
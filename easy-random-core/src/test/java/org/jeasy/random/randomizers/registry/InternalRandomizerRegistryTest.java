@@ -0,0 +1,72 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers.registry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.jeasy.random.EasilyRandomerParameters;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.beans.Person;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InternalRandomizerRegistryTest {
+
+    private InternalRandomizerRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new InternalRandomizerRegistry();
+    }
+
+    @Test
+    void randomizersShouldBeCreatedOnceOnFirstLookup() {
+        registry.init(new EasilyRandomerParameters());
+
+        Randomizer<?> randomizer = registry.getRandomizer(Integer.class);
+
+        assertThat(randomizer).isNotNull();
+        assertThat(registry.getRandomizer(Integer.class)).isSameAs(randomizer);
+        assertThat(registry.getRandomizer(int.class)).isNotSameAs(randomizer);
+        assertThat(registry.getRandomizer(Person.class)).isNull();
+    }
+
+    @Test
+    void charactersAndTheirWrapperShouldShareTheSameRandomizer() {
+        registry.init(new EasilyRandomerParameters());
+
+        assertThat(registry.getRandomizer(char.class)).isSameAs(registry.getRandomizer(Character.class));
+    }
+
+    @Test
+    void parametersShouldBeCapturedAtInitTime() {
+        EasilyRandomerParameters parameters = new EasilyRandomerParameters().seed(123L).stringLengthRange(5, 5);
+        registry.init(parameters);
+        parameters.stringLengthRange(10, 10);
+
+        Object value = registry.getRandomizer(String.class).getRandomValue();
+
+        assertThat((String) value).hasSize(5);
+    }
+}
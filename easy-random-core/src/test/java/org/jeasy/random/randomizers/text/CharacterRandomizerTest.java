@@ -24,11 +24,17 @@
 package org.jeasy.random.randomizers.text;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.jeasy.random.util.CharacterUtils.Filter.LETTERS;
+import static org.jeasy.random.util.CharacterUtils.alphabetOf;
+
+import java.nio.charset.StandardCharsets;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.jeasy.random.randomizers.AbstractRandomizerTest;
+import org.jeasy.random.util.BindableRandom;
+import org.jeasy.random.util.RandomSource;
 
 class CharacterRandomizerTest extends AbstractRandomizerTest<Character> {
 
@@ -60,4 +66,60 @@ class CharacterRandomizerTest extends AbstractRandomizerTest<Character> {
         assertThat(randomizer.getRandomValue()).isBetween('A', 'z');
     }
 
+    @Test
+    void shouldGenerateLettersOfTheGivenCharset() {
+        // Given
+        randomizer = new CharacterRandomizer(StandardCharsets.ISO_8859_1, SEED);
+        String letters = alphabetOf(StandardCharsets.ISO_8859_1, LETTERS);
+
+        // When
+        boolean nonAscii = false;
+        for (int i = 0; i < 100; i++) {
+            char character = randomizer.getRandomValue();
+            assertThat(letters.indexOf(character)).isNotNegative();
+            nonAscii |= character > 127;
+        }
+
+        // Then
+        assertThat(nonAscii).isTrue();
+    }
+
+    @Test
+    void filledCharactersShouldBeTheSameAsSuccessivelyGeneratedCharacters() {
+        // Given
+        CharacterRandomizer sameRandomizer = new CharacterRandomizer(SEED);
+        char[] actual = new char[20];
+
+        // When
+        new CharacterRandomizer(SEED).fill(actual);
+
+        // Then
+        for (char character : actual) {
+            assertThat(character).isEqualTo(sameRandomizer.nextChar());
+        }
+    }
+
+    @Test
+    void fillShouldUseTheCharactersOfSubclasses() {
+        // Given
+        CharacterRandomizer subclass = new CharacterRandomizer(SEED) {
+            @Override
+            public char nextChar() {
+                return 'x';
+            }
+        };
+        char[] actual = new char[20];
+
+        // When
+        RandomSource previous = BindableRandom.bind(RandomSource.Algorithm.SPLITTABLE.create(SEED));
+        try {
+            subclass.fill(actual);
+        } finally {
+            BindableRandom.unbind(previous);
+        }
+
+        // Then
+        assertThat(actual).containsOnly('x');
+    }
+
 }
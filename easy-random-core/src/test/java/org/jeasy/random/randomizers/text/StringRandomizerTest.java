@@ -24,6 +24,10 @@
 package org.jeasy.random.randomizers.text;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.jeasy.random.util.CharacterUtils.Filter.LETTERS;
+import static org.jeasy.random.util.CharacterUtils.alphabetOf;
+
+import java.nio.charset.StandardCharsets;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -86,4 +90,18 @@ class StringRandomizerTest extends AbstractRandomizerTest<String> {
         assertThat(actual.length()).isBetween(minLength, maxLength);
     }
 
+    @Test
+    void generatedCharactersShouldCoverTheWholeAlphabetOfTheCharset() {
+        // Given
+        String alphabet = alphabetOf(StandardCharsets.ISO_8859_1, LETTERS);
+        randomizer = new StringRandomizer(StandardCharsets.ISO_8859_1, 10000, 10000, SEED);
+
+        // When
+        String actual = randomizer.getRandomValue();
+
+        // Then
+        assertThat(actual).hasSize(10000);
+        assertThat(actual.chars().distinct().sorted().toArray()).isEqualTo(alphabet.chars().toArray());
+    }
+
 }
@@ -23,12 +23,17 @@
  */
 package org.jeasy.random.util;
 
+import static org.jeasy.random.util.CharacterUtils.alphabetOf;
+import static org.jeasy.random.util.CharacterUtils.collectPrintableCharactersOf;
 import static org.jeasy.random.util.CharacterUtils.filterLetters;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import org.jeasy.random.util.CharacterUtils.Filter;
+
 import org.junit.jupiter.api.Test;
 
 class CharacterUtilsTest {
@@ -39,4 +44,28 @@ class CharacterUtilsTest {
 
         assertThat(characters).containsExactly('a', 'b');
     }
+
+    @Test
+    void alphabetsShouldBeComputedOncePerCharsetAndFilter() {
+        String letters = alphabetOf(StandardCharsets.US_ASCII, Filter.LETTERS);
+
+        assertThat(alphabetOf(StandardCharsets.US_ASCII, Filter.LETTERS)).isSameAs(letters);
+        assertThat(letters).isEqualTo("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz");
+        assertThat(alphabetOf(StandardCharsets.US_ASCII, Filter.PRINTABLE)).hasSize(95).contains(" ", "0", "~");
+    }
+
+    @Test
+    void alphabetsShouldOnlyContainCharactersOfTheCharset() {
+        String latin1Letters = alphabetOf(StandardCharsets.ISO_8859_1, Filter.LETTERS);
+
+        assertThat(latin1Letters).contains("\u00e9").doesNotContain("\u0100");
+        assertThat(alphabetOf(StandardCharsets.UTF_8, Filter.LETTERS)).contains("\u0100");
+    }
+
+    @Test
+    void collectedPrintableCharactersShouldMatchTheAlphabet() {
+        List<Character> characters = collectPrintableCharactersOf(StandardCharsets.US_ASCII);
+
+        assertThat(characters).hasSize(95).startsWith(' ').endsWith('~');
+    }
 }
\ No newline at end of file
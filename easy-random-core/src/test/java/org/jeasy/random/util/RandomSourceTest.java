@@ -0,0 +1,107 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class RandomSourceTest {
+
+    private static final long SEED = 123L;
+
+    @Test
+    void jdkSourceShouldGenerateTheSameValuesAsRandom() {
+        Random random = new Random(SEED);
+        RandomSource source = new JdkRandomSource(SEED);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(source.nextInt()).isEqualTo(random.nextInt());
+            assertThat(source.nextInt(16)).isEqualTo(random.nextInt(16));
+            assertThat(source.nextInt(1_000_000_007)).isEqualTo(random.nextInt(1_000_000_007));
+            assertThat(source.nextLong()).isEqualTo(random.nextLong());
+            assertThat(source.nextBoolean()).isEqualTo(random.nextBoolean());
+            assertThat(source.nextFloat()).isEqualTo(random.nextFloat());
+            assertThat(source.nextDouble()).isEqualTo(random.nextDouble());
+        }
+    }
+
+    @Test
+    void splittableSourceShouldGenerateTheSameLongsAsSplittableRandom() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        RandomSource source = new SplittableRandomSource(SEED);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(source.nextLong()).isEqualTo(random.nextLong());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomSource.Algorithm.class)
+    void sourcesShouldBeReproducible(RandomSource.Algorithm algorithm) {
+        RandomSource source1 = algorithm.create(SEED);
+        RandomSource source2 = algorithm.create(SEED);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(source1.nextLong()).isEqualTo(source2.nextLong());
+        }
+        assertThat(algorithm.create(SEED + 1).nextLong()).isNotEqualTo(algorithm.create(SEED).nextLong());
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomSource.Algorithm.class)
+    void sourcesShouldGenerateValuesInRange(RandomSource.Algorithm algorithm) {
+        RandomSource source = algorithm.create(SEED);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(source.nextInt(10)).isBetween(0, 9);
+            assertThat(source.nextDouble()).isGreaterThanOrEqualTo(0).isLessThan(1);
+            assertThat(source.nextFloat()).isGreaterThanOrEqualTo(0).isLessThan(1);
+        }
+        assertThatThrownBy(() -> source.nextInt(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void bindableRandomShouldDrawFromTheBoundSource() {
+        BindableRandom random = new BindableRandom(SEED);
+        RandomSource source = new Xoshiro256StarStarSource(SEED);
+        RandomSource expected = new Xoshiro256StarStarSource(SEED);
+
+        RandomSource previous = BindableRandom.bind(source);
+        try {
+            assertThat(random.nextLong()).isEqualTo(expected.nextLong());
+            assertThat(random.nextInt(100)).isEqualTo(expected.nextInt(100));
+            assertThat(random.nextDouble()).isEqualTo(expected.nextDouble());
+        } finally {
+            BindableRandom.unbind(previous);
+        }
+        assertThat(random.nextLong()).isEqualTo(new Random(SEED).nextLong());
+    }
+}
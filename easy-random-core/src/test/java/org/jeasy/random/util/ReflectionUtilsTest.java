@@ -200,6 +200,20 @@ class ReflectionUtilsTest {
         assertThat(collection).isInstanceOf(ArrayList.class).isEmpty();
     }
 
+    @Test
+    void testGetPresizedImplementationForCollectionInterface() {
+        assertThat(ReflectionUtils.getEmptyImplementationForCollectionInterface(List.class, INITIAL_CAPACITY)).isInstanceOf(ArrayList.class).isEmpty();
+        assertThat(ReflectionUtils.getEmptyImplementationForCollectionInterface(Set.class, INITIAL_CAPACITY)).isInstanceOf(HashSet.class).isEmpty();
+        assertThat(ReflectionUtils.getEmptyImplementationForCollectionInterface(Deque.class, INITIAL_CAPACITY)).isInstanceOf(ArrayDeque.class).isEmpty();
+        assertThat(ReflectionUtils.getEmptyImplementationForCollectionInterface(SortedSet.class, INITIAL_CAPACITY)).isInstanceOf(TreeSet.class).isEmpty();
+    }
+
+    @Test
+    void createEmptyCollectionForCommonImplementations() {
+        assertThat(ReflectionUtils.createEmptyCollectionForType(ArrayList.class, INITIAL_CAPACITY)).isInstanceOf(ArrayList.class).isEmpty();
+        assertThat(ReflectionUtils.createEmptyCollectionForType(LinkedHashSet.class, INITIAL_CAPACITY)).isInstanceOf(LinkedHashSet.class).isEmpty();
+    }
+
     @Test
     void createEmptyCollectionForArrayBlockingQueue() {
         Collection<?> collection = ReflectionUtils.createEmptyCollectionForType(ArrayBlockingQueue.class, INITIAL_CAPACITY);
@@ -225,6 +239,13 @@ class ReflectionUtilsTest {
         assertThat(map).isInstanceOf(TreeMap.class).isEmpty();
     }
 
+    @Test
+    void getPresizedImplementationForMapInterface() {
+        assertThat(ReflectionUtils.getEmptyImplementationForMapInterface(Map.class, INITIAL_CAPACITY)).isInstanceOf(HashMap.class).isEmpty();
+        assertThat(ReflectionUtils.getEmptyImplementationForMapInterface(java.util.concurrent.ConcurrentMap.class, INITIAL_CAPACITY))
+                .isInstanceOf(java.util.concurrent.ConcurrentHashMap.class).isEmpty();
+    }
+
     @Test
     void setPropertyFluentBean() throws Exception {
         // given
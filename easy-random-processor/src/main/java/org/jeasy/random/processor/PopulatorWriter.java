@@ -0,0 +1,412 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.processor;
+
+import org.jeasy.random.api.Populator;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Writer of the source file of the populator of a given class.
+ *
+ * The generated populator mirrors {@link org.jeasy.random.MethodHandleFieldAccessStrategy}: fields
+ * are read directly, and written with their public setter unless setters are bypassed. Fields that
+ * cannot be accessed from the package of the class (private or final fields, fields of classes
+ * of other packages, etc) are left to the field access strategy at runtime. The populator also lists
+ * all the fields of the class hierarchy, so that population plans are built without scanning it.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+class PopulatorWriter {
+
+    private static final String GENERATED = "javax.annotation.processing.Generated";
+
+    private static final List<String> PRIMITIVE_TYPE_NAMES = Arrays.asList(
+            "boolean", "byte", "char", "short", "int", "long", "float", "double");
+
+    private final ProcessingEnvironment processingEnvironment;
+
+    private final Elements elements;
+
+    private final Types types;
+
+    private final TypeElement type;
+
+    private final PackageElement packageElement;
+
+    PopulatorWriter(final ProcessingEnvironment processingEnvironment, final TypeElement type) {
+        this.processingEnvironment = processingEnvironment;
+        this.elements = processingEnvironment.getElementUtils();
+        this.types = processingEnvironment.getTypeUtils();
+        this.type = type;
+        this.packageElement = elements.getPackageOf(type);
+    }
+
+    boolean isTypeAccessible() {
+        return isAccessible(type);
+    }
+
+    void write() throws IOException {
+        String packageName = packageElement.getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(type).toString();
+        // the binary name keeps the '$' of nested types, so that two types never get the same populator name
+        String simpleName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        String populatorName = simpleName + Populator.SUFFIX;
+        String qualifiedPopulatorName = packageName.isEmpty() ? populatorName : packageName + "." + populatorName;
+        String typeName = typeName(type.asType());
+        List<Property> properties = getProperties();
+
+        try (PrintWriter out = new PrintWriter(processingEnvironment.getFiler().createSourceFile(qualifiedPopulatorName, type).openWriter())) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("/**");
+            out.println(" * {@link org.jeasy.random.api.Populator} of {@link " + typeName + "}, generated at compile time.");
+            out.println(" */");
+            if (elements.getTypeElement(GENERATED) != null) {
+                out.println("@" + GENERATED + "(\"" + PopulatorProcessor.class.getName() + "\")");
+            }
+            out.println("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+            out.println("public final class " + populatorName + " implements org.jeasy.random.api.Populator<" + typeName + "> {");
+            out.println();
+            out.println("    @Override");
+            out.println("    public " + typeName + " newInstance() {");
+            out.println("        return " + (hasAccessibleNoArgConstructor() ? "new " + typeName + "()" : "null") + ";");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public org.jeasy.random.api.FieldAccessor getAccessor(final java.lang.reflect.Field field, final boolean bypassSetters) {");
+            out.println("        switch (field.getDeclaringClass().getName() + '#' + field.getName()) {");
+            for (int index = 0; index < properties.size(); index++) {
+                Property property = properties.get(index);
+                out.println("            case \"" + property.key + "\":");
+                out.println("                return new Accessor(" + index + ", " + (property.setter != null ? "!bypassSetters" : "false") + ");");
+            }
+            out.println("            default:");
+            out.println("                return null;");
+            out.println("        }");
+            out.println("    }");
+            out.println();
+            printGetFields(out, typeName);
+            out.println("    private static final class Accessor implements org.jeasy.random.api.FieldAccessor {");
+            out.println();
+            out.println("        private final int index;");
+            out.println();
+            out.println("        private final boolean setter;");
+            out.println();
+            out.println("        private Accessor(final int index, final boolean setter) {");
+            out.println("            this.index = index;");
+            out.println("            this.setter = setter;");
+            out.println("        }");
+            out.println();
+            out.println("        @Override");
+            out.println("        public Object getValue(final Object target) {");
+            out.println("            switch (index) {");
+            for (int index = 0; index < properties.size(); index++) {
+                Property property = properties.get(index);
+                out.println("                case " + index + ":");
+                out.println("                    return ((" + property.declaringTypeName + ") target)." + property.name + ";");
+            }
+            out.println("                default:");
+            out.println("                    throw new IllegalStateException(\"Unknown field index: \" + index);");
+            out.println("            }");
+            out.println("        }");
+            out.println();
+            out.println("        @Override");
+            out.println("        public void setValue(final Object target, final Object value) throws java.lang.reflect.InvocationTargetException {");
+            out.println("            switch (index) {");
+            for (int index = 0; index < properties.size(); index++) {
+                Property property = properties.get(index);
+                printWrite(out, index, property, "(" + property.valueTypeName + ") value");
+            }
+            out.println("                default:");
+            out.println("                    throw new IllegalStateException(\"Unknown field index: \" + index);");
+            out.println("            }");
+            out.println("        }");
+            // primitive fields are also written without boxing, other fields of the same call are written through setValue
+            for (String primitiveTypeName : PRIMITIVE_TYPE_NAMES) {
+                if (properties.stream().noneMatch(property -> primitiveTypeName.equals(property.primitiveTypeName))) {
+                    continue;
+                }
+                String methodName = "set" + primitiveTypeName.substring(0, 1).toUpperCase(Locale.ENGLISH) + primitiveTypeName.substring(1);
+                out.println();
+                out.println("        @Override");
+                out.println("        public void " + methodName + "(final Object target, final " + primitiveTypeName + " value) throws java.lang.reflect.InvocationTargetException {");
+                out.println("            switch (index) {");
+                for (int index = 0; index < properties.size(); index++) {
+                    Property property = properties.get(index);
+                    if (primitiveTypeName.equals(property.primitiveTypeName)) {
+                        printWrite(out, index, property, "value");
+                    }
+                }
+                out.println("                default:");
+                out.println("                    setValue(target, value);");
+                out.println("            }");
+                out.println("        }");
+            }
+            out.println("    }");
+            out.println("}");
+        }
+    }
+
+    // fields in the order of Class#getDeclaredFields, walked up the class hierarchy, as expected by the population plan
+    private void printGetFields(final PrintWriter out, final String typeName) {
+        List<List<String>> fieldNames = getFieldNames();
+        int count = fieldNames.stream().mapToInt(List::size).sum();
+        out.println("    @Override");
+        out.println("    public java.lang.reflect.Field[] getFields() {");
+        if (count == 0) {
+            out.println("        return new java.lang.reflect.Field[0];");
+            out.println("    }");
+            out.println();
+            return;
+        }
+        out.println("        java.lang.reflect.Field[] fields = new java.lang.reflect.Field[" + count + "];");
+        out.println("        Class<?> type = " + typeName + ".class;");
+        out.println("        try {");
+        int index = 0;
+        for (int depth = 0; depth < fieldNames.size(); depth++) {
+            if (depth > 0) {
+                out.println("            type = type.getSuperclass();");
+            }
+            for (String fieldName : fieldNames.get(depth)) {
+                out.println("            fields[" + index++ + "] = type.getDeclaredField(\"" + fieldName + "\");");
+            }
+        }
+        out.println("        } catch (NoSuchFieldException e) {");
+        out.println("            // the class changed since this populator was generated");
+        out.println("            return null;");
+        out.println("        }");
+        out.println("        return fields;");
+        out.println("    }");
+        out.println();
+    }
+
+    /*
+     * Names of all the fields declared in the class and in each of its super classes, including the ones
+     * this populator cannot access, up to the last super class declaring fields.
+     */
+    private List<List<String>> getFieldNames() {
+        List<List<String>> fieldNames = new ArrayList<>();
+        int lastDepthWithFields = -1;
+        TypeElement current = type;
+        while (current != null) {
+            List<String> names = new ArrayList<>();
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                names.add(field.getSimpleName().toString());
+            }
+            fieldNames.add(names);
+            if (!names.isEmpty()) {
+                lastDepthWithFields = fieldNames.size() - 1;
+            }
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) types.asElement(superclass) : null;
+        }
+        return fieldNames.subList(0, lastDepthWithFields + 1);
+    }
+
+    private static void printWrite(final PrintWriter out, final int index, final Property property, final String value) {
+        String target = "((" + property.declaringTypeName + ") target)";
+        out.println("                case " + index + ":");
+        if (property.setter != null) {
+            out.println("                    if (setter) {");
+            out.println("                        try {");
+            out.println("                            " + target + "." + property.setter + "(" + value + ");");
+            out.println("                        } catch (Throwable throwable) {");
+            out.println("                            throw new java.lang.reflect.InvocationTargetException(throwable);");
+            out.println("                        }");
+            out.println("                        return;");
+            out.println("                    }");
+        }
+        out.println("                    " + target + "." + property.name + " = " + value + ";");
+        out.println("                    return;");
+    }
+
+    /*
+     * Fields of the class and of its super classes that can be read and written from the package of the class.
+     */
+    private List<Property> getProperties() {
+        List<Property> properties = new ArrayList<>();
+        TypeElement current = type;
+        while (current != null && !current.getQualifiedName().contentEquals(Object.class.getName())) {
+            if (isAccessible(current)) {
+                for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                    Property property = toProperty(current, field);
+                    if (property != null) {
+                        properties.add(property);
+                    }
+                }
+            }
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) types.asElement(superclass) : null;
+        }
+        return properties;
+    }
+
+    private Property toProperty(final TypeElement declaringType, final VariableElement field) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL) || !isMemberAccessible(field, declaringType)) {
+            return null;
+        }
+        TypeMirror fieldType = types.erasure(field.asType());
+        if (!isAccessible(fieldType)) {
+            return null;
+        }
+        String name = field.getSimpleName().toString();
+        ExecutableElement setter = getSetter(declaringType, name, fieldType);
+        if (setter != null && setter.getModifiers().contains(Modifier.STATIC)) {
+            // the setter would be used at runtime, but cannot be invoked on the target
+            return null;
+        }
+        String valueTypeName = fieldType.getKind().isPrimitive()
+                ? typeName(types.boxedClass((PrimitiveType) fieldType).asType())
+                : typeName(fieldType);
+        return new Property(elements.getBinaryName(declaringType) + "#" + name, typeName(declaringType.asType()),
+                name, valueTypeName, fieldType.getKind().isPrimitive() ? typeName(fieldType) : null,
+                setter == null ? null : setter.getSimpleName().toString());
+    }
+
+    // same lookup as ReflectionUtils#getWriteMethod: a public method named after the field, taking the type of the field
+    private ExecutableElement getSetter(final TypeElement declaringType, final String fieldName, final TypeMirror fieldType) {
+        String setterName = "set" + fieldName.substring(0, 1).toUpperCase(Locale.ENGLISH) + fieldName.substring(1);
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(declaringType))) {
+            if (method.getSimpleName().contentEquals(setterName)
+                    && method.getModifiers().contains(Modifier.PUBLIC)
+                    && method.getParameters().size() == 1
+                    && types.isSameType(types.erasure(method.getParameters().get(0).asType()), fieldType)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private boolean hasAccessibleNoArgConstructor() {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)
+                || type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isAccessible(final TypeMirror typeMirror) {
+        switch (typeMirror.getKind()) {
+            case ARRAY:
+                return isAccessible(((ArrayType) typeMirror).getComponentType());
+            case DECLARED:
+                return isAccessible((TypeElement) ((DeclaredType) typeMirror).asElement());
+            default:
+                return typeMirror.getKind().isPrimitive();
+        }
+    }
+
+    private boolean isAccessible(final TypeElement typeElement) {
+        Element current = typeElement;
+        while (current.getKind().isClass() || current.getKind().isInterface()) {
+            Element enclosing = current.getEnclosingElement();
+            if (!isMemberAccessible(current, enclosing)) {
+                return false;
+            }
+            current = enclosing;
+        }
+        return current.getKind() == ElementKind.PACKAGE;
+    }
+
+    // a public member, or a package-private or protected member of the package of the populator
+    private boolean isMemberAccessible(final Element member, final Element owner) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        return !modifiers.contains(Modifier.PRIVATE) && elements.getPackageOf(owner).equals(packageElement);
+    }
+
+    // erased name of the type, without type annotations
+    private String typeName(final TypeMirror typeMirror) {
+        TypeMirror erasure = types.erasure(typeMirror);
+        switch (erasure.getKind()) {
+            case ARRAY:
+                return typeName(((ArrayType) erasure).getComponentType()) + "[]";
+            case DECLARED:
+                return ((TypeElement) ((DeclaredType) erasure).asElement()).getQualifiedName().toString();
+            default:
+                return erasure.getKind().name().toLowerCase(Locale.ENGLISH);
+        }
+    }
+
+    private static class Property {
+
+        // declaring class binary name and field name, as built at runtime from the Field
+        private final String key;
+
+        private final String declaringTypeName;
+
+        private final String name;
+
+        private final String valueTypeName;
+
+        // null if the field is not primitive
+        private final String primitiveTypeName;
+
+        private final String setter;
+
+        private Property(final String key, final String declaringTypeName, final String name,
+                         final String valueTypeName, final String primitiveTypeName, final String setter) {
+            this.key = key;
+            this.declaringTypeName = declaringTypeName;
+            this.name = name;
+            this.valueTypeName = valueTypeName;
+            this.primitiveTypeName = primitiveTypeName;
+            this.setter = setter;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.processor;
+
+import org.jeasy.random.util.ClasspathScanner;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor writing the index of the public concrete subtypes of the classes and interfaces
+ * extended or implemented by the compiled classes, so that the classpath does not need to be scanned at
+ * runtime to find them (see {@link ClasspathScanner#SUBTYPE_INDEX}).
+ *
+ * The index lists, for each supertype (except {@link Object}), the binary names of the public concrete
+ * classes of the compilation that extend or implement it, directly or not. It processes all classes
+ * without claiming any annotation, and is written once all classes have been processed. Since javac
+ * does not run it for the sources whose annotations have all been claimed by other processors, it should
+ * be listed first when processors are given explicitly (with {@code -processor}).
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ * @since 5.1
+ */
+@SupportedAnnotationTypes("*")
+public class SubtypeIndexProcessor extends AbstractProcessor {
+
+    private final Map<String, Set<String>> subTypes = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        for (Element element : roundEnvironment.getRootElements()) {
+            index(element);
+        }
+        if (roundEnvironment.processingOver() && !subTypes.isEmpty()) {
+            try {
+                write();
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write subtype index: " + e.getMessage());
+            }
+        }
+        return false;
+    }
+
+    private void index(final Element element) {
+        if (!element.getKind().isClass() && !element.getKind().isInterface()) {
+            return;
+        }
+        TypeElement type = (TypeElement) element;
+        if (isPublicConcreteClass(type)) {
+            String name = processingEnv.getElementUtils().getBinaryName(type).toString();
+            indexSuperTypes(type.asType(), name);
+        }
+        for (Element enclosedElement : type.getEnclosedElements()) {
+            index(enclosedElement);
+        }
+    }
+
+    private static boolean isPublicConcreteClass(final TypeElement type) {
+        ElementKind kind = type.getKind();
+        return (kind == ElementKind.CLASS || kind == ElementKind.ENUM)
+                && type.getModifiers().contains(Modifier.PUBLIC)
+                && !type.getModifiers().contains(Modifier.ABSTRACT);
+    }
+
+    private void indexSuperTypes(final TypeMirror type, final String subType) {
+        for (TypeMirror superType : processingEnv.getTypeUtils().directSupertypes(type)) {
+            if (superType.getKind() != TypeKind.DECLARED) {
+                continue;
+            }
+            TypeElement superTypeElement = (TypeElement) ((DeclaredType) superType).asElement();
+            String superTypeName = processingEnv.getElementUtils().getBinaryName(superTypeElement).toString();
+            if (!superTypeName.equals(Object.class.getName())
+                    && subTypes.computeIfAbsent(superTypeName, name -> new TreeSet<>()).add(subType)) {
+                indexSuperTypes(superType, subType);
+            }
+        }
+    }
+
+    private void write() throws IOException {
+        FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", ClasspathScanner.SUBTYPE_INDEX);
+        try (PrintWriter writer = new PrintWriter(index.openWriter())) {
+            for (Map.Entry<String, Set<String>> entry : subTypes.entrySet()) {
+                writer.print(entry.getKey());
+                writer.print('=');
+                writer.println(String.join(",", entry.getValue()));
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.processor;
+
+import java.util.List;
+
+import org.jeasy.random.annotation.GeneratePopulator;
+
+@GeneratePopulator
+public class Order extends BaseEntity {
+
+    String reference;
+
+    int quantity;
+
+    List<String> tags;
+
+    Line line;
+
+    private String secret;
+
+    public String getReference() {
+        return reference;
+    }
+
+    public void setReference(String reference) {
+        this.reference = "set:" + reference;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public Line getLine() {
+        return line;
+    }
+
+    public String getSecret() {
+        return secret;
+    }
+
+    @GeneratePopulator
+    public static class Line {
+
+        String product;
+
+        double price;
+
+        public String getProduct() {
+            return product;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.processor;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jeasy.random.FieldPredicates.named;
+import static org.jeasy.random.util.ReflectionUtils.getInheritedFields;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jeasy.random.EasilyRandomer;
+import org.jeasy.random.EasilyRandomerParameters;
+import org.jeasy.random.ReflectiveFieldAccessStrategy;
+import org.jeasy.random.api.FieldAccessor;
+import org.jeasy.random.api.Populator;
+import org.junit.jupiter.api.Test;
+
+class PopulatorProcessorTest {
+
+    @Test
+    void populatorsShouldBeGeneratedForAnnotatedClasses() {
+        Populator<Order> orderPopulator = new Order_Populator();
+        Populator<Order.Line> linePopulator = new Order$Line_Populator();
+
+        assertThat(orderPopulator.newInstance()).isInstanceOf(Order.class);
+        assertThat(linePopulator.newInstance()).isInstanceOf(Order.Line.class);
+    }
+
+    @Test
+    void populatorsShouldOnlyAccessNonPrivateFields() throws Exception {
+        Populator<Order> populator = new Order_Populator();
+
+        assertThat(populator.getAccessor(Order.class.getDeclaredField("reference"), false)).isNotNull();
+        assertThat(populator.getAccessor(BaseEntity.class.getDeclaredField("id"), false)).isNotNull();
+        assertThat(populator.getAccessor(Order.class.getDeclaredField("secret"), false)).isNull();
+    }
+
+    @Test
+    void populatorsShouldListTheFieldsOfTheClassHierarchyInReflectionOrder() {
+        List<Field> expectedFields = new ArrayList<>(asList(Order.class.getDeclaredFields()));
+        expectedFields.addAll(getInheritedFields(Order.class));
+
+        assertThat(new Order_Populator().getFields()).containsExactlyElementsOf(expectedFields);
+    }
+
+    @Test
+    void accessorsShouldUseSettersUnlessBypassed() throws Exception {
+        Populator<Order> populator = new Order_Populator();
+        Order order = new Order();
+
+        FieldAccessor accessor = populator.getAccessor(Order.class.getDeclaredField("reference"), false);
+        accessor.setValue(order, "foo");
+        assertThat(accessor.getValue(order)).isEqualTo("set:foo");
+
+        accessor = populator.getAccessor(Order.class.getDeclaredField("reference"), true);
+        accessor.setValue(order, "foo");
+        assertThat(accessor.getValue(order)).isEqualTo("foo");
+    }
+
+    @Test
+    void accessorsShouldWritePrimitiveFieldsWithoutBoxing() throws Exception {
+        Populator<Order> populator = new Order_Populator();
+        Order order = new Order();
+
+        populator.getAccessor(Order.class.getDeclaredField("quantity"), false).setInt(order, 3);
+        populator.getAccessor(BaseEntity.class.getDeclaredField("id"), false).setLong(order, 4L);
+
+        assertThat(order.getQuantity()).isEqualTo(3);
+        assertThat(order.getId()).isEqualTo(4L);
+    }
+
+    @Test
+    void generatedPopulatorsShouldGenerateTheSameObjectsAsReflection() {
+        EasilyRandomer generated = new EasilyRandomer(new EasilyRandomerParameters().seed(42L));
+        EasilyRandomer reflective = new EasilyRandomer(new EasilyRandomerParameters().seed(42L)
+                .fieldAccessStrategy(new ReflectiveFieldAccessStrategy()));
+
+        for (int i = 0; i < 10; i++) {
+            Order order = generated.nextObject(Order.class);
+            assertThat(order).usingRecursiveComparison().isEqualTo(reflective.nextObject(Order.class));
+            assertThat(order.getReference()).startsWith("set:");
+            assertThat(order.getSecret()).isNotNull();
+        }
+    }
+
+    @Test
+    void generatedPopulatorsShouldHonourExclusionsRandomizersAndDepth() {
+        EasilyRandomer easilyRandomer = new EasilyRandomer(new EasilyRandomerParameters()
+                .bypassSetters(true)
+                .excludeField(named("tags"))
+                .randomize(named("reference"), () -> "foo")
+                .randomizationDepth(1));
+
+        Order order = easilyRandomer.nextObject(Order.class);
+
+        assertThat(order.getReference()).isEqualTo("foo");
+        assertThat(order.getTags()).isNull();
+        assertThat(order.getLine()).isNotNull();
+        assertThat(order.getLine().getProduct()).isNull();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.processor;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import org.jeasy.random.util.ClasspathScanner;
+import org.junit.jupiter.api.Test;
+
+class SubtypeIndexProcessorTest {
+
+    @Test
+    void theIndexShouldListThePublicConcreteSubTypesOfEachType() throws IOException {
+        String index;
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(ClasspathScanner.SUBTYPE_INDEX)) {
+            assertThat(inputStream).isNotNull();
+            index = new String(inputStream.readAllBytes(), UTF_8);
+        }
+
+        assertThat(index).contains("org.jeasy.random.processor.Shape=org.jeasy.random.processor.Shape$Circle,org.jeasy.random.processor.Shape$Square\n");
+        assertThat(index).contains("org.jeasy.random.processor.Shape$AbstractShape=org.jeasy.random.processor.Shape$Square\n");
+        assertThat(index).doesNotContain("HiddenShape");
+        assertThat(index).doesNotContain("java.lang.Object=");
+    }
+
+    @Test
+    void subTypesShouldBeFoundInTheIndex() {
+        try (ClasspathScanner classpathScanner = new ClasspathScanner().acceptPackages("org.jeasy.random.processor")) {
+            List<Class<?>> subTypes = classpathScanner.getPublicConcreteSubTypesOf(Shape.class);
+
+            assertThat(subTypes).containsExactly(Shape.Circle.class, Shape.Square.class);
+        }
+    }
+}